@@ -0,0 +1,19 @@
+package conf;
+
+import com.google.inject.Singleton;
+
+import mangoo.io.interfaces.MangooLifecycle;
+
+@Singleton
+public class Lifecycle implements MangooLifecycle {
+
+    @Override
+    public void applicationInitialized() {
+        // Do nothing for now
+    }
+
+    @Override
+    public void applicationStarted() {
+        // Do nothing for now
+    }
+}
@@ -0,0 +1,14 @@
+package conf;
+
+import com.google.inject.AbstractModule;
+import com.google.inject.Singleton;
+
+import mangoo.io.interfaces.MangooLifecycle;
+
+@Singleton
+public class Module extends AbstractModule {
+    @Override
+    protected void configure() {
+        bind(MangooLifecycle.class).to(Lifecycle.class);
+    }
+}
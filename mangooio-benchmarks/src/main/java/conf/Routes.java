@@ -0,0 +1,16 @@
+package conf;
+
+import controllers.BenchmarkController;
+import io.undertow.util.Methods;
+import mangoo.io.interfaces.MangooRoutes;
+import mangoo.io.routing.Router;
+
+public class Routes implements MangooRoutes {
+    @Override
+    public void routify() {
+        Router.mapRequest(Methods.GET).toUrl("/text").onClassAndMethod(BenchmarkController.class, "text").nonBlocking();
+        Router.mapRequest(Methods.GET).toUrl("/small").onClassAndMethod(BenchmarkController.class, "small");
+        Router.mapRequest(Methods.GET).toUrl("/session").onClassAndMethod(BenchmarkController.class, "session");
+        Router.mapRequest(Methods.GET).toUrl("/slow").onClassAndMethod(BenchmarkController.class, "slow");
+    }
+}
@@ -0,0 +1,31 @@
+package controllers;
+
+import mangoo.io.routing.Response;
+import mangoo.io.routing.bindings.Session;
+
+public class BenchmarkController {
+    private static final long SLOW_MILLIS = 50;
+
+    public Response text() {
+        return Response.withOk().andTextBody("Hello World!");
+    }
+
+    public Response small() {
+        return Response.withOk()
+                .andContent("title", "Benchmark")
+                .andContent("message", "Hello World!");
+    }
+
+    public Response session(Session session) {
+        String counter = session.get("counter");
+        session.add("counter", String.valueOf((counter == null) ? 1 : Integer.parseInt(counter) + 1));
+
+        return Response.withOk().andEmptyBody();
+    }
+
+    public Response slow() throws InterruptedException {
+        Thread.sleep(SLOW_MILLIS);
+
+        return Response.withOk().andTextBody("Hello World!");
+    }
+}
@@ -0,0 +1,75 @@
+package mangoo.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mangoo.io.cache.Cache;
+
+/**
+ * Measures reading and writing the application cache, single threaded and
+ * with several threads accessing the same keys
+ *
+ * @author svenkubiak
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheBenchmark {
+    private static final int KEYS = 1000;
+    private final String [] keys = new String[KEYS];
+    private Cache cache;
+
+    @Setup
+    public void setup() {
+        this.cache = new Cache();
+        for (int i = 0; i < KEYS; i++) {
+            this.keys[i] = "key" + i;
+            this.cache.add(this.keys[i], "value" + i);
+        }
+    }
+
+    @Benchmark
+    public Object get() {
+        return this.cache.get(this.keys[ThreadLocalRandom.current().nextInt(KEYS)]);
+    }
+
+    @Benchmark
+    public Object getMiss() {
+        return this.cache.get("missing");
+    }
+
+    @Benchmark
+    public void put() {
+        int index = ThreadLocalRandom.current().nextInt(KEYS);
+        this.cache.add(this.keys[index], "value" + index);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Object getContended() {
+        return this.cache.get(this.keys[ThreadLocalRandom.current().nextInt(KEYS)]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void putContended() {
+        int index = ThreadLocalRandom.current().nextInt(KEYS);
+        this.cache.add(this.keys[index], "value" + index);
+    }
+}
@@ -0,0 +1,122 @@
+package mangoo.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mangoo.io.authentication.Authentication;
+import mangoo.io.configuration.Config;
+import mangoo.io.cookie.BinaryCookieFormat;
+import mangoo.io.cookie.CookieFormat;
+import mangoo.io.cookie.LegacyCookieFormat;
+import mangoo.io.crypto.Crypto;
+import mangoo.io.enums.Default;
+import mangoo.io.routing.bindings.Flash;
+import mangoo.io.routing.bindings.Session;
+
+/**
+ * Measures encoding and decoding the values of the session, authentication and
+ * flash cookies in the legacy and the binary format, with and without encryption
+ * of session and authentication. The size of the encoded values of each format is
+ * printed once per trial. The session values are restricted to characters the
+ * legacy format can handle, so both formats encode the same content.
+ *
+ * @author svenkubiak
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CookieBenchmark {
+    private CookieFormat cookieFormat;
+    private Session session;
+    private Authentication authentication;
+    private Flash flash;
+    private String sessionValue;
+    private String authenticationValue;
+    private String flashValue;
+
+    @Param({"legacy", "binary"})
+    private String format;
+
+    @Param({"false", "true"})
+    private boolean encrypted;
+
+    @Setup
+    public void setup() {
+        Config config = new Config(Default.CONFIGURATION_FILE.toString(), mangoo.io.enums.Mode.PROD);
+        Crypto crypto = new Crypto(config);
+        if ("legacy".equals(this.format)) {
+            this.cookieFormat = new LegacyCookieFormat(config, crypto, this.encrypted, this.encrypted);
+        } else {
+            this.cookieFormat = new BinaryCookieFormat(config, crypto, this.encrypted, this.encrypted);
+        }
+
+        Map<String, String> values = new HashMap<String, String>();
+        values.put("userId", "4711");
+        values.put("username", "jdoe");
+        values.put("theme", "dark");
+        values.put("lastVisit", "2015-08-01");
+        this.session = new Session(values);
+        this.session.setAuthenticityToken("a1b2c3d4e5f6g7h8");
+        this.session.setExpires(LocalDateTime.now().plusDays(1));
+        this.authentication = new Authentication(config, "jdoe", LocalDateTime.now().plusDays(1));
+
+        Map<String, String> messages = new HashMap<String, String>();
+        messages.put("success", "Your changes have been saved");
+        this.flash = new Flash(messages);
+
+        this.sessionValue = this.cookieFormat.encodeSession(this.session);
+        this.authenticationValue = this.cookieFormat.encodeAuthentication(this.authentication);
+        this.flashValue = this.cookieFormat.encodeFlash(this.flash);
+
+        System.out.println(String.format("Cookie sizes (format=%s, encrypted=%s): session %d, authentication %d, flash %d characters",
+                this.format, this.encrypted, this.sessionValue.length(), this.authenticationValue.length(), this.flashValue.length()));
+    }
+
+    @Benchmark
+    public String encodeSession() {
+        return this.cookieFormat.encodeSession(this.session);
+    }
+
+    @Benchmark
+    public Session decodeSession() {
+        return this.cookieFormat.decodeSession(this.sessionValue);
+    }
+
+    @Benchmark
+    public String encodeAuthentication() {
+        return this.cookieFormat.encodeAuthentication(this.authentication);
+    }
+
+    @Benchmark
+    public Authentication decodeAuthentication() {
+        return this.cookieFormat.decodeAuthentication(this.authenticationValue);
+    }
+
+    @Benchmark
+    public String encodeFlash() {
+        return this.cookieFormat.encodeFlash(this.flash);
+    }
+
+    @Benchmark
+    public Flash decodeFlash() {
+        return this.cookieFormat.decodeFlash(this.flashValue);
+    }
+}
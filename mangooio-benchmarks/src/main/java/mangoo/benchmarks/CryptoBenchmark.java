@@ -0,0 +1,64 @@
+package mangoo.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mangoo.io.configuration.Config;
+import mangoo.io.crypto.Crypto;
+import mangoo.io.enums.Default;
+
+/**
+ * Measures encrypting, decrypting and a full round trip of texts of different sizes
+ * with the application secret
+ *
+ * @author svenkubiak
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CryptoBenchmark {
+    private Crypto crypto;
+    private String plainText;
+    private String encryptedText;
+
+    @Param({"16", "256", "4096"})
+    private int length;
+
+    @Setup
+    public void setup() {
+        this.crypto = new Crypto(new Config(Default.CONFIGURATION_FILE.toString(), mangoo.io.enums.Mode.PROD));
+        this.plainText = RandomStringUtils.randomAlphanumeric(this.length);
+        this.encryptedText = this.crypto.encrypt(this.plainText);
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return this.crypto.encrypt(this.plainText);
+    }
+
+    @Benchmark
+    public String decrypt() {
+        return this.crypto.decrypt(this.encryptedText);
+    }
+
+    @Benchmark
+    public String roundTrip() {
+        return this.crypto.decrypt(this.crypto.encrypt(this.plainText));
+    }
+}
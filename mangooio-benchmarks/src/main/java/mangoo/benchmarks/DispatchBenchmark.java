@@ -0,0 +1,95 @@
+package mangoo.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.undertow.util.Headers;
+import mangoo.io.configuration.Config;
+import mangoo.io.core.Application;
+
+/**
+ * Measures the full dispatch of a request, from parsing the request to writing the
+ * response, by starting the benchmark application in the benchmark JVM and sending
+ * requests over loopback with keep-alive connections. Covers a plain text response,
+ * a rendered template and a request which reads and writes the session cookie.
+ *
+ * @author svenkubiak
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+    private static final int BUFFER_SIZE = 8192;
+    private URL text;
+    private URL small;
+    private URL session;
+    private String sessionCookie;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Application.main(null);
+
+        Config config = Application.getInjector().getInstance(Config.class);
+        String url = "http://" + config.getApplicationHost() + ":" + config.getApplicationPort();
+        this.text = new URL(url + "/text");
+        this.small = new URL(url + "/small");
+        this.session = new URL(url + "/session");
+
+        HttpURLConnection connection = (HttpURLConnection) this.session.openConnection();
+        this.sessionCookie = StringUtils.substringBefore(connection.getHeaderField(Headers.SET_COOKIE_STRING), ";");
+        consume(connection);
+    }
+
+    @Benchmark
+    public int text() throws IOException {
+        return consume((HttpURLConnection) this.text.openConnection());
+    }
+
+    @Benchmark
+    public int render() throws IOException {
+        return consume((HttpURLConnection) this.small.openConnection());
+    }
+
+    @Benchmark
+    public int session() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) this.session.openConnection();
+        connection.setRequestProperty(Headers.COOKIE_STRING, this.sessionCookie);
+
+        return consume(connection);
+    }
+
+    /**
+     * Reads the response completely, so the connection is returned to the keep-alive cache
+     */
+    static int consume(HttpURLConnection connection) throws IOException {
+        int statusCode = connection.getResponseCode();
+        byte [] buffer = new byte[BUFFER_SIZE];
+        try (InputStream inputStream = connection.getInputStream()) {
+            while (inputStream.read(buffer) != -1) { //NOSONAR
+                //intentionally left blank, as the response body is discarded
+            }
+        }
+
+        return statusCode;
+    }
+}
@@ -0,0 +1,95 @@
+package mangoo.benchmarks;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.io.Resources;
+
+import mangoo.io.configuration.Config;
+import mangoo.io.core.Application;
+import mangoo.io.core.DispatchExecutor;
+import mangoo.io.enums.Default;
+import mangoo.io.enums.Key;
+
+/**
+ * Compares the worker thread pool of Undertow with virtual threads for many concurrent
+ * requests to a route which blocks, e.g. for a call to a database or a remote service.
+ * Each executor runs in its own fork, as the application can only be started once per
+ * JVM. Throughput is reported as operations per millisecond, the sample time mode
+ * additionally reports the latency percentiles including p0.99.
+ *
+ * @author svenkubiak
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(ExecutorBenchmark.CONCURRENT_REQUESTS)
+@Fork(1)
+public class ExecutorBenchmark {
+    static final int CONCURRENT_REQUESTS = 256;
+    private static final String APPLICATION = "    application:\n";
+    private URL slow;
+
+    @Param({"worker", "virtual"})
+    private String executor;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        System.setProperty("http.maxConnections", String.valueOf(CONCURRENT_REQUESTS));
+        System.setProperty(Key.APPLICATION_CONFIG.toString(), writeConfig().toString());
+        Application.main(null);
+
+        boolean virtual = Application.getInjector().getInstance(DispatchExecutor.class).isVirtual();
+        if (virtual != Default.EXECUTOR_VIRTUAL.toString().equals(this.executor)) {
+            throw new IllegalStateException("Executor '" + this.executor + "' is not supported by this JVM");
+        }
+
+        Config config = Application.getInjector().getInstance(Config.class);
+        this.slow = new URL("http://" + config.getApplicationHost() + ":" + config.getApplicationPort() + "/slow");
+    }
+
+    @Benchmark
+    public int slow() throws IOException {
+        return DispatchBenchmark.consume((HttpURLConnection) this.slow.openConnection());
+    }
+
+    /**
+     * Writes the configuration of the benchmark application with the executor of the
+     * current trial to a temporary file
+     */
+    private Path writeConfig() throws IOException {
+        String yaml = Resources.toString(Resources.getResource(Default.CONFIGURATION_FILE.toString()), StandardCharsets.UTF_8);
+        if (!yaml.contains(APPLICATION)) {
+            throw new IllegalStateException("No application section in " + Default.CONFIGURATION_FILE.toString());
+        }
+
+        Path path = Files.createTempFile("executor-benchmark", ".yaml");
+        path.toFile().deleteOnExit();
+        Files.write(path, StringUtils.replaceOnce(yaml, APPLICATION, APPLICATION + "        executor   : " + this.executor + "\n").getBytes(StandardCharsets.UTF_8));
+
+        return path;
+    }
+}
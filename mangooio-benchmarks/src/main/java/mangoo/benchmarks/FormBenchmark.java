@@ -0,0 +1,90 @@
+package mangoo.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Provider;
+
+import mangoo.io.configuration.Config;
+import mangoo.io.enums.Default;
+import mangoo.io.routing.bindings.Form;
+
+/**
+ * Measures validating a typical registration form, once with valid values and
+ * once with values failing every validation, which adds the cost of looking up
+ * the error messages
+ *
+ * @author svenkubiak
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormBenchmark {
+    private Provider<Form> formProvider;
+    private String name;
+    private String email;
+    private String password;
+    private String confirmation;
+    private String homepage;
+
+    @Param({"true", "false"})
+    private boolean valid;
+
+    @Setup
+    public void setup() {
+        Config config = new Config(Default.CONFIGURATION_FILE.toString(), mangoo.io.enums.Mode.PROD);
+        Injector injector = Guice.createInjector(binder -> binder.bind(Config.class).toInstance(config));
+        this.formProvider = injector.getProvider(Form.class);
+
+        if (this.valid) {
+            this.name = "jdoe";
+            this.email = "jdoe@mangoo.io";
+            this.password = "secretpassword";
+            this.confirmation = "secretpassword";
+            this.homepage = "https://mangoo.io";
+        } else {
+            this.name = "";
+            this.email = "jdoe";
+            this.password = "secret";
+            this.confirmation = "password";
+            this.homepage = "mangoo";
+        }
+    }
+
+    @Benchmark
+    public boolean validate() {
+        Form form = this.formProvider.get();
+        form.setSubmitted(true);
+        form.add("name", this.name);
+        form.add("email", this.email);
+        form.add("password", this.password);
+        form.add("confirmation", this.confirmation);
+        form.add("homepage", this.homepage);
+
+        form.required("name");
+        form.email("email");
+        form.min(8, "password");
+        form.max(32, "password");
+        form.exactMatch("password", "confirmation");
+        form.url("homepage");
+
+        return form.hasErrors();
+    }
+}
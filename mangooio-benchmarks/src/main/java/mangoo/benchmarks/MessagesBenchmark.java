@@ -0,0 +1,67 @@
+package mangoo.benchmarks;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mangoo.io.configuration.Config;
+import mangoo.io.enums.Default;
+import mangoo.io.enums.Key;
+import mangoo.io.i18n.Messages;
+
+/**
+ * Measures looking up translations, with and without arguments, for the default
+ * locale, a requested locale and for keys which are not translated
+ *
+ * @author svenkubiak
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessagesBenchmark {
+    private Messages messages;
+
+    @Setup
+    public void setup() {
+        this.messages = new Messages(new Config(Default.CONFIGURATION_FILE.toString(), mangoo.io.enums.Mode.PROD));
+    }
+
+    @Benchmark
+    public String get() {
+        return this.messages.get("welcome");
+    }
+
+    @Benchmark
+    public String getWithLocale() {
+        return this.messages.get(Locale.GERMAN, "welcome");
+    }
+
+    @Benchmark
+    public String getMissing() {
+        return this.messages.get("missing");
+    }
+
+    @Benchmark
+    public String getWithArguments() {
+        return this.messages.get(Locale.GERMAN, "greeting", "jdoe", 42);
+    }
+
+    @Benchmark
+    public String getValidation() {
+        return this.messages.get(Key.FORM_MIN, "name", 3);
+    }
+}
@@ -0,0 +1,47 @@
+package mangoo.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mangoo.io.metrics.RouteMetrics;
+
+/**
+ * Measures the cost of recording a request in the route metrics, single threaded
+ * and with all threads recording into the same route. Both should stay well below
+ * one microsecond per request.
+ *
+ * @author svenkubiak
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestMetricsBenchmark {
+    private static final long MAX_LATENCY = TimeUnit.MILLISECONDS.toNanos(100);
+    private final RouteMetrics routeMetrics = new RouteMetrics("GET /benchmark");
+
+    @Benchmark
+    public void record() {
+        this.routeMetrics.record(ThreadLocalRandom.current().nextLong(MAX_LATENCY), 200);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void recordContended() {
+        this.routeMetrics.record(ThreadLocalRandom.current().nextLong(MAX_LATENCY), 200);
+    }
+}
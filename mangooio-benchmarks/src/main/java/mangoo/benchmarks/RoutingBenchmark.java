@@ -0,0 +1,90 @@
+package mangoo.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.undertow.Handlers;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.RoutingHandler;
+import io.undertow.util.Methods;
+import mangoo.io.routing.handlers.RouteTableHandler;
+
+/**
+ * Compares the match cost of Undertow's RoutingHandler against the RouteTableHandler
+ * for a literal and a parameterized route in route tables of different sizes
+ *
+ * @author svenkubiak
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoutingBenchmark {
+    private static final HttpHandler NOOP = exchange -> {};
+    private RoutingHandler routingHandler;
+    private RouteTableHandler routeTableHandler;
+    private String literalPath;
+    private String templatePath;
+
+    @Param({"10", "100", "1000"})
+    private int routes;
+
+    @Setup
+    public void setup() {
+        this.routingHandler = Handlers.routing();
+        RouteTableHandler.Builder builder = RouteTableHandler.builder();
+        for (int i = 0; i < this.routes; i++) {
+            String url = (i % 5 == 0) ? "/api/resource" + i + "/{id}" : "/page/section" + i;
+            this.routingHandler.add(Methods.GET, url, NOOP);
+            builder.add(Methods.GET, url, NOOP);
+        }
+        this.routeTableHandler = builder.build(this.routingHandler);
+
+        this.literalPath = "/page/section" + (this.routes - 1);
+        this.templatePath = "/api/resource" + ((this.routes - 1) / 5 * 5) + "/42";
+    }
+
+    @Benchmark
+    public HttpServerExchange routingHandlerLiteral() throws Exception {
+        return route(this.routingHandler, this.literalPath);
+    }
+
+    @Benchmark
+    public HttpServerExchange routeTableLiteral() throws Exception {
+        return route(this.routeTableHandler, this.literalPath);
+    }
+
+    @Benchmark
+    public HttpServerExchange routingHandlerTemplate() throws Exception {
+        return route(this.routingHandler, this.templatePath);
+    }
+
+    @Benchmark
+    public HttpServerExchange routeTableTemplate() throws Exception {
+        return route(this.routeTableHandler, this.templatePath);
+    }
+
+    private static HttpServerExchange route(HttpHandler handler, String path) throws Exception {
+        HttpServerExchange exchange = new HttpServerExchange(null);
+        exchange.setRequestMethod(Methods.GET);
+        exchange.setRelativePath(path);
+        handler.handleRequest(exchange);
+
+        return exchange;
+    }
+}
@@ -0,0 +1,115 @@
+package mangoo.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+import mangoo.io.configuration.Config;
+import mangoo.io.enums.Default;
+import mangoo.io.i18n.Messages;
+import mangoo.io.routing.bindings.Flash;
+import mangoo.io.routing.bindings.Form;
+import mangoo.io.routing.bindings.Session;
+import mangoo.io.templating.TemplateEngine;
+
+/**
+ * Measures rendering a small page and a large page with a table of 500 rows,
+ * including the form, flash, session and i18n objects every rendered response
+ * gets
+ *
+ * @author svenkubiak
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateBenchmark {
+    private static final String CONTROLLER = "BenchmarkController";
+    private static final int ITEMS = 500;
+    private final List<Item> items = new ArrayList<Item>();
+    private TemplateEngine templateEngine;
+    private Messages messages;
+    private Form form;
+    private Flash flash;
+    private Session session;
+
+    @Param({"small", "large"})
+    private String template;
+
+    @Setup
+    public void setup() {
+        Config config = new Config(Default.CONFIGURATION_FILE.toString(), mangoo.io.enums.Mode.PROD);
+        Injector injector = Guice.createInjector(binder -> binder.bind(Config.class).toInstance(config));
+
+        this.templateEngine = new TemplateEngine();
+        this.messages = injector.getInstance(Messages.class);
+        this.form = injector.getInstance(Form.class);
+        this.flash = new Flash();
+        this.session = new Session();
+        this.session.setAuthenticityToken("a1b2c3d4e5f6g7h8");
+
+        for (int i = 0; i < ITEMS; i++) {
+            this.items.add(new Item("Item <" + i + ">", i * 1.5, i % 3 != 0));
+        }
+    }
+
+    @Benchmark
+    public String render() throws Exception {
+        Map<String, Object> content = new HashMap<String, Object>();
+        content.put("title", "Benchmark");
+        content.put("message", "Hello World!");
+        content.put("items", this.items);
+
+        return this.templateEngine.render(this.flash, this.session, this.form, this.messages, CONTROLLER, this.template, content);
+    }
+
+    /**
+     * A row of the table on the large page
+     *
+     * @author svenkubiak
+     *
+     */
+    public static class Item {
+        private final String name;
+        private final double price;
+        private final boolean available;
+
+        public Item(String name, double price, boolean available) {
+            this.name = name;
+            this.price = price;
+            this.available = available;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public double getPrice() {
+            return this.price;
+        }
+
+        public boolean isAvailable() {
+            return this.available;
+        }
+    }
+}
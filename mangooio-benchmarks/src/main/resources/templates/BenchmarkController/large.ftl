@@ -0,0 +1,28 @@
+<!DOCTYPE html>
+<html>
+<head>
+	<title>${title}</title>
+</head>
+<body>
+	<h1>${i18n("welcome")}</h1>
+	<form method="post" action="/form">
+		<@authenticityForm/>
+		<input type="text" name="name" value="${form.get("name")!}">
+	</form>
+	<table>
+		<thead>
+			<tr><th>#</th><th>${i18n("item")}</th><th>Price</th><th>Available</th></tr>
+		</thead>
+		<tbody>
+		<#list items as item>
+			<tr class="<#if item?is_even_item>even<#else>odd</#if>">
+				<td>${item?counter}</td>
+				<td>${item.name?html}</td>
+				<td>${item.price}</td>
+				<td><#if item.available>yes<#else>no</#if></td>
+			</tr>
+		</#list>
+		</tbody>
+	</table>
+</body>
+</html>
@@ -0,0 +1,10 @@
+<!DOCTYPE html>
+<html>
+<head>
+	<title>${title}</title>
+</head>
+<body>
+	<h1>${i18n("welcome")}</h1>
+	<p>${message}</p>
+</body>
+</html>
@@ -0,0 +1,36 @@
+package mangoo.io.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import mangoo.io.enums.Vary;
+
+/**
+ * Caches the complete response of a controller method for GET and HEAD requests.
+ * On a cache hit, the controller method, all filters marked with {@link CacheSafe}
+ * and the template rendering are skipped. Responses which set a cookie, e.g. the
+ * session or authentication cookie, are never cached.
+ *
+ * @author svenkubiak
+ *
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface CacheResponse {
+    /**
+     * @return The time in seconds a response is cached
+     */
+    int ttl() default 60;
+
+    /**
+     * @return The parts of the request, besides its path, a cached response depends on
+     */
+    Vary[] varyBy() default {};
+
+    /**
+     * @return The names of the request headers a cached response depends on, if varyBy contains HEADER
+     */
+    String[] headers() default {};
+}
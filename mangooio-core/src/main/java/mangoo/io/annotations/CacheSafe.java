@@ -0,0 +1,20 @@
+package mangoo.io.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a filter as safe to skip when a response is served from the cache of a
+ * controller method annotated with {@link CacheResponse}, e.g. a filter which only
+ * adds content for the template. Filters without this annotation, e.g. authentication
+ * filters, are executed on every request.
+ *
+ * @author svenkubiak
+ *
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface CacheSafe {
+}
@@ -3,6 +3,8 @@ package mangoo.io.cache;
 import com.google.inject.Singleton;
 
 import mangoo.io.enums.Default;
+import mangoo.io.jfr.CacheEvent;
+import mangoo.io.jfr.JfrSupport;
 import net.sf.ehcache.CacheManager;
 import net.sf.ehcache.Element;
 
@@ -28,7 +30,12 @@ public class Cache {
      * @param value The actual value to store
      */
     public void add(String key, Object value) {
+        CacheEvent event = JfrSupport.AVAILABLE ? CacheEvent.start() : null;
         this.cacheInstance.put(new Element(key, value));
+
+        if (event != null) {
+            event.finish(CacheEvent.PUT, key, false);
+        }
     }
 
     /**
@@ -40,10 +47,15 @@ public class Cache {
      * @param expiration The time after which the value gets evicted in seconds
      */
     public void add(String key, Object value, int expiration) {
+        CacheEvent event = JfrSupport.AVAILABLE ? CacheEvent.start() : null;
         Element element = new Element(key, value);
         element.setTimeToLive(expiration);
 
         this.cacheInstance.put(element);
+
+        if (event != null) {
+            event.finish(CacheEvent.PUT, key, false);
+        }
     }
 
     /**
@@ -53,11 +65,14 @@ public class Cache {
      * @return The retrieved value or null if the key is not found
      */
     public Object get(String key) {
-        if (this.cacheInstance.get(key) != null) {
-            return this.cacheInstance.get(key).getObjectValue();
+        CacheEvent event = JfrSupport.AVAILABLE ? CacheEvent.start() : null;
+        Element element = this.cacheInstance.get(key);
+
+        if (event != null) {
+            event.finish(CacheEvent.GET, key, element != null);
         }
 
-        return null;
+        return (element == null) ? null : element.getObjectValue();
     }
 
     /**
@@ -70,11 +85,7 @@ public class Cache {
      */
     @SuppressWarnings("all")
     public <T> T get(String key, Class<T> clazz) {
-        if (this.cacheInstance.get(key) != null) {
-            return (T) this.cacheInstance.get(key).getObjectValue();
-        }
-
-        return null;
+        return (T) get(key);
     }
 
     /**
@@ -0,0 +1,46 @@
+package mangoo.io.cache;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.undertow.util.HttpString;
+import mangoo.io.routing.Response;
+
+/**
+ * Immutable copy of a rendered response as it is stored in the cache
+ *
+ * @author svenkubiak
+ *
+ */
+public final class CachedResponse {
+    private final int statusCode;
+    private final String contentType;
+    private final String charset;
+    private final String body;
+    private final String version;
+    private final Map<HttpString, String> headers;
+
+    public CachedResponse(Response response) {
+        this.statusCode = response.getStatusCode();
+        this.contentType = response.getContentType();
+        this.charset = response.getCharset();
+        this.body = response.getBody();
+        this.version = response.getVersion();
+        this.headers = Collections.unmodifiableMap(new HashMap<HttpString, String>(response.getHeaders()));
+    }
+
+    /**
+     * @return A new response with the status, headers and body of the cached response
+     */
+    public Response toResponse() {
+        Response response = Response.withStatusCode(this.statusCode)
+                .andContentType(this.contentType)
+                .andCharset(this.charset)
+                .andBody(this.body)
+                .andVersion(this.version);
+        this.headers.forEach(response::andHeader);
+
+        return response;
+    }
+}
@@ -0,0 +1,102 @@
+package mangoo.io.configuration;
+
+import mangoo.io.enums.Default;
+import mangoo.io.enums.Key;
+
+/**
+ * Typed configuration of the Undertow server, read once at startup from the
+ * application.server section of application.yaml. Every value which is not
+ * configured falls back to the default Undertow would use itself.
+ *
+ * @author svenkubiak
+ *
+ */
+public class ServerConfig {
+    private static final long SMALL_MEMORY = 64L * 1024 * 1024;
+    private static final long MEDIUM_MEMORY = 128L * 1024 * 1024;
+    private static final int SMALL_BUFFER_SIZE = 512;
+    private static final int MEDIUM_BUFFER_SIZE = 1024;
+    private static final int LARGE_BUFFER_SIZE = 16 * 1024;
+    private static final int WORKER_THREADS_PER_IO_THREAD = 8;
+    private final int ioThreads;
+    private final int workerThreads;
+    private final int bufferSize;
+    private final boolean directBuffers;
+    private final int backlog;
+    private final boolean keepAlive;
+    private final int idleTimeout;
+    private final int noRequestTimeout;
+    private final long maxEntitySize;
+
+    public ServerConfig(Config config) {
+        long maxMemory = Runtime.getRuntime().maxMemory();
+        int defaultBufferSize = LARGE_BUFFER_SIZE;
+        if (maxMemory < SMALL_MEMORY) {
+            defaultBufferSize = SMALL_BUFFER_SIZE;
+        } else if (maxMemory < MEDIUM_MEMORY) {
+            defaultBufferSize = MEDIUM_BUFFER_SIZE;
+        }
+
+        this.ioThreads = config.getInt(Key.APPLICATION_SERVER_IO_THREADS, Math.max(Runtime.getRuntime().availableProcessors(), 2));
+        this.workerThreads = config.getInt(Key.APPLICATION_SERVER_WORKER_THREADS, this.ioThreads * WORKER_THREADS_PER_IO_THREAD);
+        this.bufferSize = config.getInt(Key.APPLICATION_SERVER_BUFFER_SIZE, defaultBufferSize);
+        this.directBuffers = config.getBoolean(Key.APPLICATION_SERVER_DIRECT_BUFFERS, maxMemory >= SMALL_MEMORY);
+        this.backlog = config.getInt(Key.APPLICATION_SERVER_BACKLOG, Default.SERVER_BACKLOG.toInt());
+        this.keepAlive = config.getBoolean(Key.APPLICATION_SERVER_KEEP_ALIVE, false);
+        this.idleTimeout = config.getInt(Key.APPLICATION_SERVER_IDLE_TIMEOUT, Default.SERVER_TIMEOUT.toInt());
+        this.noRequestTimeout = config.getInt(Key.APPLICATION_SERVER_NO_REQUEST_TIMEOUT, Default.SERVER_TIMEOUT.toInt());
+        this.maxEntitySize = config.getLong(Key.APPLICATION_SERVER_MAX_ENTITY_SIZE, Default.SERVER_MAX_ENTITY_SIZE.toLong());
+    }
+
+    public int getIoThreads() {
+        return this.ioThreads;
+    }
+
+    public int getWorkerThreads() {
+        return this.workerThreads;
+    }
+
+    public int getBufferSize() {
+        return this.bufferSize;
+    }
+
+    public boolean isDirectBuffers() {
+        return this.directBuffers;
+    }
+
+    public int getBacklog() {
+        return this.backlog;
+    }
+
+    public boolean isKeepAlive() {
+        return this.keepAlive;
+    }
+
+    /**
+     * @return The time in milliseconds a connection may be idle before it is closed, or -1 for no timeout
+     */
+    public int getIdleTimeout() {
+        return this.idleTimeout;
+    }
+
+    /**
+     * @return The time in milliseconds a connection may wait for the first request, or -1 for no timeout
+     */
+    public int getNoRequestTimeout() {
+        return this.noRequestTimeout;
+    }
+
+    /**
+     * @return The maximum size of a request in bytes, or -1 for no limit
+     */
+    public long getMaxEntitySize() {
+        return this.maxEntitySize;
+    }
+
+    @Override
+    public String toString() {
+        return "ioThreads=" + this.ioThreads + ", workerThreads=" + this.workerThreads + ", bufferSize=" + this.bufferSize
+                + ", directBuffers=" + this.directBuffers + ", backlog=" + this.backlog + ", keepAlive=" + this.keepAlive
+                + ", idleTimeout=" + this.idleTimeout + ", noRequestTimeout=" + this.noRequestTimeout + ", maxEntitySize=" + this.maxEntitySize;
+    }
+}
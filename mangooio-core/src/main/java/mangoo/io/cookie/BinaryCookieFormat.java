@@ -0,0 +1,375 @@
+package mangoo.io.cookie;
+
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import mangoo.io.authentication.Authentication;
+import mangoo.io.configuration.Config;
+import mangoo.io.crypto.Crypto;
+import mangoo.io.routing.bindings.Flash;
+import mangoo.io.routing.bindings.Session;
+
+/**
+ * Compact binary format of the cookie values. A value consists of the version prefix
+ * "1." followed by the URL-safe Base64 encoded binary payload without padding. Numbers
+ * are written as unsigned variable length integers, strings as their length followed
+ * by their UTF-8 bytes, so keys and values may contain any character.
+ *
+ * <pre>
+ * session        = expires token count (key value)*
+ * authentication = expires user
+ * flash          = count (key value)*
+ * </pre>
+ *
+ * Expiry is stored in seconds since the epoch. The payload of session and authentication
+ * is optionally encrypted and then followed by a HMAC-SHA256 of the version, the type of
+ * the cookie and the (encrypted) payload, keyed with the application secret. The HMAC is
+ * checked before a payload is decrypted or read, and a payload is read in a single pass.
+ *
+ * @author svenkubiak
+ *
+ */
+public class BinaryCookieFormat implements CookieFormat {
+    public static final String PREFIX = "1.";
+    private static final byte VERSION = 1;
+    private static final byte SESSION = 'S';
+    private static final byte AUTHENTICATION = 'A';
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MAC_LENGTH = 32;
+    private static final long MILLIS = 1000;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private final Config config;
+    private final Crypto crypto;
+    private final boolean encryptSession;
+    private final boolean encryptAuthentication;
+    private final Mac prototype;
+
+    /**
+     * @param config The application config
+     * @param crypto The crypto to encrypt and decrypt cookie values with
+     * @param encryptSession True if the session cookie is encrypted
+     * @param encryptAuthentication True if the authentication cookie is encrypted
+     */
+    public BinaryCookieFormat(Config config, Crypto crypto, boolean encryptSession, boolean encryptAuthentication) {
+        SecretKeySpec key = new SecretKeySpec(config.getApplicationSecret().getBytes(StandardCharsets.UTF_8), ALGORITHM);
+
+        this.config = config;
+        this.crypto = crypto;
+        this.encryptSession = encryptSession;
+        this.encryptAuthentication = encryptAuthentication;
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(key);
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException("Failed to create " + ALGORITHM, e);
+        }
+    }
+
+    @Override
+    public String encodeSession(Session session) {
+        Writer writer = new Writer();
+        writer.writeNumber(toEpochSecond(session.getExpires()));
+        writer.writeString(session.getAuthenticityToken());
+        writer.writeValues(session.getValues());
+
+        return seal(SESSION, writer.toByteArray(), this.encryptSession);
+    }
+
+    @Override
+    public Session decodeSession(String cookieValue) {
+        byte [] payload = open(SESSION, cookieValue, this.encryptSession);
+        if (payload == null) {
+            return null;
+        }
+
+        Session session = null;
+        try {
+            Reader reader = new Reader(payload);
+            long expires = reader.readNumber();
+            String authenticityToken = reader.readString();
+            Map<String, String> values = reader.readValues();
+            if (reader.isFinished() && isValid(expires) && !authenticityToken.isEmpty()) {
+                session = new Session(values);
+                session.setAuthenticityToken(authenticityToken);
+                session.setExpires(toLocalDateTime(expires));
+            }
+        } catch (IllegalArgumentException e) { //NOSONAR
+            //intentionally left blank, as a malformed payload is treated like a missing cookie
+        }
+
+        return session;
+    }
+
+    @Override
+    public String encodeAuthentication(Authentication authentication) {
+        Writer writer = new Writer();
+        writer.writeNumber(toEpochSecond(authentication.getExpires()));
+        writer.writeString(authentication.getAuthenticatedUser());
+
+        return seal(AUTHENTICATION, writer.toByteArray(), this.encryptAuthentication);
+    }
+
+    @Override
+    public Authentication decodeAuthentication(String cookieValue) {
+        byte [] payload = open(AUTHENTICATION, cookieValue, this.encryptAuthentication);
+        if (payload == null) {
+            return null;
+        }
+
+        Authentication authentication = null;
+        try {
+            Reader reader = new Reader(payload);
+            long expires = reader.readNumber();
+            String authenticatedUser = reader.readString();
+            if (reader.isFinished() && isValid(expires) && !authenticatedUser.isEmpty()) {
+                authentication = new Authentication(this.config, authenticatedUser, toLocalDateTime(expires));
+            }
+        } catch (IllegalArgumentException e) { //NOSONAR
+            //intentionally left blank, as a malformed payload is treated like a missing cookie
+        }
+
+        return authentication;
+    }
+
+    @Override
+    public String encodeFlash(Flash flash) {
+        Writer writer = new Writer();
+        writer.writeValues(flash.getValues());
+
+        return PREFIX + ENCODER.encodeToString(writer.toByteArray());
+    }
+
+    @Override
+    public Flash decodeFlash(String cookieValue) {
+        if (cookieValue == null || !cookieValue.startsWith(PREFIX)) {
+            return null;
+        }
+
+        Flash flash = null;
+        try {
+            Reader reader = new Reader(DECODER.decode(cookieValue.substring(PREFIX.length())));
+            Map<String, String> values = reader.readValues();
+            if (reader.isFinished()) {
+                flash = new Flash(values);
+            }
+        } catch (IllegalArgumentException e) { //NOSONAR
+            //intentionally left blank, as a malformed payload is treated like a missing cookie
+        }
+
+        return flash;
+    }
+
+    /**
+     * Creates a Mac for a single cookie by cloning the initialized prototype, which copies
+     * the prepared key state instead of deriving it from the secret again. A Mac per thread
+     * would be created for every request with a thread per request, e.g. virtual threads.
+     */
+    private Mac newMac() {
+        try {
+            return (Mac) this.prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(ALGORITHM + " of provider " + this.prototype.getProvider().getName() + " can not be cloned", e);
+        }
+    }
+
+    /**
+     * Optionally encrypts a payload, appends its HMAC and encodes it into a cookie value
+     */
+    private String seal(byte type, byte [] payload, boolean encrypt) {
+        byte [] body = encrypt ? this.crypto.encrypt(payload) : payload;
+
+        Mac instance = newMac();
+        instance.update(VERSION);
+        instance.update(type);
+        instance.update(body);
+
+        byte [] value = Arrays.copyOf(body, body.length + MAC_LENGTH);
+        System.arraycopy(instance.doFinal(), 0, value, body.length, MAC_LENGTH);
+
+        return PREFIX + ENCODER.encodeToString(value);
+    }
+
+    /**
+     * Decodes a cookie value, checks its HMAC and optionally decrypts the payload
+     *
+     * @return The payload or null if the value is not in this format or its HMAC does not match
+     */
+    private byte [] open(byte type, String cookieValue, boolean encrypt) {
+        if (cookieValue == null || !cookieValue.startsWith(PREFIX)) {
+            return null;
+        }
+
+        byte [] value;
+        try {
+            value = DECODER.decode(cookieValue.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) { //NOSONAR
+            return null;
+        }
+
+        int length = value.length - MAC_LENGTH;
+        if (length < 0) {
+            return null;
+        }
+
+        Mac instance = newMac();
+        instance.update(VERSION);
+        instance.update(type);
+        instance.update(value, 0, length);
+        byte [] expected = instance.doFinal();
+
+        int difference = 0;
+        for (int i = 0; i < MAC_LENGTH; i++) {
+            difference = difference | (expected[i] ^ value[length + i]);
+        }
+
+        if (difference != 0) {
+            return null;
+        }
+
+        byte [] body = Arrays.copyOf(value, length);
+        return encrypt ? this.crypto.decrypt(body) : body;
+    }
+
+    private static boolean isValid(long expires) {
+        return expires > System.currentTimeMillis() / MILLIS;
+    }
+
+    private static long toEpochSecond(LocalDateTime localDateTime) {
+        return localDateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochSecond) {
+        return Instant.ofEpochSecond(epochSecond).atZone(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    /**
+     * Writes numbers and strings into a growing byte array
+     *
+     * @author svenkubiak
+     *
+     */
+    private static final class Writer {
+        private static final int INITIAL_CAPACITY = 128;
+        private static final int MAX_NUMBER_BYTES = 10;
+        private byte [] buffer = new byte[INITIAL_CAPACITY];
+        private int position;
+
+        private void writeNumber(long number) {
+            ensureCapacity(MAX_NUMBER_BYTES);
+
+            long value = number;
+            while ((value & ~0x7FL) != 0) {
+                this.buffer[this.position++] = (byte) ((value & 0x7F) | 0x80);
+                value = value >>> 7;
+            }
+            this.buffer[this.position++] = (byte) value;
+        }
+
+        private void writeString(String string) {
+            byte [] bytes = (string == null) ? new byte[0] : string.getBytes(StandardCharsets.UTF_8);
+            writeNumber(bytes.length);
+            ensureCapacity(bytes.length);
+
+            System.arraycopy(bytes, 0, this.buffer, this.position, bytes.length);
+            this.position = this.position + bytes.length;
+        }
+
+        private void writeValues(Map<String, String> values) {
+            writeNumber(values.size());
+            for (Map.Entry<String, String> entry : values.entrySet()) {
+                writeString(entry.getKey());
+                writeString(entry.getValue());
+            }
+        }
+
+        private void ensureCapacity(int length) {
+            if (this.position + length > this.buffer.length) {
+                this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.position + length));
+            }
+        }
+
+        private byte [] toByteArray() {
+            return Arrays.copyOf(this.buffer, this.position);
+        }
+    }
+
+    /**
+     * Reads numbers and strings from a byte array, failing with an
+     * IllegalArgumentException on malformed input
+     *
+     * @author svenkubiak
+     *
+     */
+    private static final class Reader {
+        private static final int MAX_SHIFT = 63;
+        private final byte [] buffer;
+        private int position;
+
+        private Reader(byte [] buffer) {
+            this.buffer = buffer;
+        }
+
+        private long readNumber() {
+            long value = 0;
+            for (int shift = 0; shift <= MAX_SHIFT; shift = shift + 7) {
+                if (this.position >= this.buffer.length) {
+                    throw new IllegalArgumentException("Unexpected end of cookie value");
+                }
+
+                byte current = this.buffer[this.position++];
+                value = value | ((long) (current & 0x7F) << shift);
+                if ((current & 0x80) == 0) {
+                    return value;
+                }
+            }
+
+            throw new IllegalArgumentException("Malformed number in cookie value");
+        }
+
+        /**
+         * Reads a length, which can never exceed the number of remaining bytes
+         */
+        private int readLength() {
+            long length = readNumber();
+            if (length < 0 || length > this.buffer.length - this.position) {
+                throw new IllegalArgumentException("Length exceeds cookie value");
+            }
+
+            return (int) length;
+        }
+
+        private String readString() {
+            int length = readLength();
+            String value = new String(this.buffer, this.position, length, StandardCharsets.UTF_8);
+            this.position = this.position + length;
+
+            return value;
+        }
+
+        private Map<String, String> readValues() {
+            int count = readLength();
+            Map<String, String> values = new HashMap<String, String>();
+            for (int i = 0; i < count; i++) {
+                values.put(readString(), readString());
+            }
+
+            return values;
+        }
+
+        private boolean isFinished() {
+            return this.position == this.buffer.length;
+        }
+    }
+}
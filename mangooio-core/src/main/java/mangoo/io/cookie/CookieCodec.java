@@ -0,0 +1,85 @@
+package mangoo.io.cookie;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import mangoo.io.authentication.Authentication;
+import mangoo.io.configuration.Config;
+import mangoo.io.crypto.Crypto;
+import mangoo.io.enums.Key;
+import mangoo.io.routing.bindings.Flash;
+import mangoo.io.routing.bindings.Session;
+
+/**
+ * Encodes and decodes the values of the session, authentication and flash cookies.
+ * New cookies are always written in the {@link BinaryCookieFormat}, cookies which
+ * are still in the {@link LegacyCookieFormat} are decoded as well, so existing
+ * sessions survive an update.
+ *
+ * @author svenkubiak
+ *
+ */
+@Singleton
+public class CookieCodec implements CookieFormat {
+    private final BinaryCookieFormat binaryFormat;
+    private final LegacyCookieFormat legacyFormat;
+
+    @Inject
+    public CookieCodec(Config config, Crypto crypto) {
+        this(config, crypto, config.getBoolean(Key.COOKIE_ENCRYPTION, false), config.getBoolean(Key.AUTH_COOKIE_ENCRYPT, false));
+    }
+
+    /**
+     * Creates a cookie codec with explicit encryption settings, e.g. for benchmarks
+     *
+     * @param config The application config
+     * @param crypto The crypto to encrypt and decrypt cookie values with
+     * @param encryptSession True if the session cookie is encrypted
+     * @param encryptAuthentication True if the authentication cookie is encrypted
+     */
+    public CookieCodec(Config config, Crypto crypto, boolean encryptSession, boolean encryptAuthentication) {
+        this.binaryFormat = new BinaryCookieFormat(config, crypto, encryptSession, encryptAuthentication);
+        this.legacyFormat = new LegacyCookieFormat(config, crypto, encryptSession, encryptAuthentication);
+    }
+
+    @Override
+    public String encodeSession(Session session) {
+        return this.binaryFormat.encodeSession(session);
+    }
+
+    @Override
+    public Session decodeSession(String cookieValue) {
+        return getFormat(cookieValue).decodeSession(cookieValue);
+    }
+
+    @Override
+    public String encodeAuthentication(Authentication authentication) {
+        return this.binaryFormat.encodeAuthentication(authentication);
+    }
+
+    @Override
+    public Authentication decodeAuthentication(String cookieValue) {
+        return getFormat(cookieValue).decodeAuthentication(cookieValue);
+    }
+
+    @Override
+    public String encodeFlash(Flash flash) {
+        return this.binaryFormat.encodeFlash(flash);
+    }
+
+    @Override
+    public Flash decodeFlash(String cookieValue) {
+        return getFormat(cookieValue).decodeFlash(cookieValue);
+    }
+
+    /**
+     * Selects the format of a cookie value by its version prefix. A legacy value never
+     * starts with the prefix, as neither hex signatures nor Base64 contain a dot.
+     *
+     * @param cookieValue The cookie value
+     * @return The format to decode the value with
+     */
+    private CookieFormat getFormat(String cookieValue) {
+        return (cookieValue != null && cookieValue.startsWith(BinaryCookieFormat.PREFIX)) ? this.binaryFormat : this.legacyFormat;
+    }
+}
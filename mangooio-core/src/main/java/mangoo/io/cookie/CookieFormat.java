@@ -0,0 +1,61 @@
+package mangoo.io.cookie;
+
+import mangoo.io.authentication.Authentication;
+import mangoo.io.routing.bindings.Flash;
+import mangoo.io.routing.bindings.Session;
+
+/**
+ * Format of the values of the session, authentication and flash cookies
+ *
+ * @author svenkubiak
+ *
+ */
+public interface CookieFormat {
+    /**
+     * Encodes a session into a signed and optionally encrypted cookie value
+     *
+     * @param session The session to encode
+     * @return The cookie value
+     */
+    String encodeSession(Session session);
+
+    /**
+     * Decodes the value of a session cookie
+     *
+     * @param cookieValue The cookie value
+     * @return The session or null if the value is invalid, tampered with or expired
+     */
+    Session decodeSession(String cookieValue);
+
+    /**
+     * Encodes an authentication into a signed and optionally encrypted cookie value
+     *
+     * @param authentication The authentication to encode
+     * @return The cookie value
+     */
+    String encodeAuthentication(Authentication authentication);
+
+    /**
+     * Decodes the value of an authentication cookie
+     *
+     * @param cookieValue The cookie value
+     * @return The authentication or null if the value is invalid, tampered with or expired
+     */
+    Authentication decodeAuthentication(String cookieValue);
+
+    /**
+     * Encodes the values of a flash into a cookie value
+     *
+     * @param flash The flash to encode
+     * @return The cookie value
+     */
+    String encodeFlash(Flash flash);
+
+    /**
+     * Decodes the value of a flash cookie
+     *
+     * @param cookieValue The cookie value
+     * @return The flash or null if the value is blank or invalid
+     */
+    Flash decodeFlash(String cookieValue);
+}
@@ -0,0 +1,192 @@
+package mangoo.io.cookie;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Splitter;
+
+import mangoo.io.authentication.Authentication;
+import mangoo.io.configuration.Config;
+import mangoo.io.crypto.Crypto;
+import mangoo.io.enums.Default;
+import mangoo.io.routing.bindings.Flash;
+import mangoo.io.routing.bindings.Session;
+
+/**
+ * The original text format of the cookie values, which joins session and flash values
+ * with | : and &amp; and signs session and authentication with a SHA-512 hash of the
+ * values and the application secret. Cookies in this format are still accepted, but
+ * new cookies are written in the {@link BinaryCookieFormat}.
+ *
+ * @author svenkubiak
+ *
+ */
+public class LegacyCookieFormat implements CookieFormat {
+    private static final int AUTH_PREFIX_LENGTH = 2;
+    private static final int SESSION_PREFIX_LENGTH = 3;
+    private static final int INDEX_0 = 0;
+    private static final int INDEX_1 = 1;
+    private static final int INDEX_2 = 2;
+    private final Config config;
+    private final Crypto crypto;
+    private final boolean encryptSession;
+    private final boolean encryptAuthentication;
+
+    /**
+     * @param config The application config
+     * @param crypto The crypto to encrypt and decrypt cookie values with
+     * @param encryptSession True if the session cookie is encrypted
+     * @param encryptAuthentication True if the authentication cookie is encrypted
+     */
+    public LegacyCookieFormat(Config config, Crypto crypto, boolean encryptSession, boolean encryptAuthentication) {
+        this.config = config;
+        this.crypto = crypto;
+        this.encryptSession = encryptSession;
+        this.encryptAuthentication = encryptAuthentication;
+    }
+
+    @Override
+    public String encodeSession(Session session) {
+        String values = Joiner.on(Default.SPLITTER.toString()).withKeyValueSeparator(Default.SEPERATOR.toString()).join(session.getValues());
+
+        String sign = DigestUtils.sha512Hex(values + session.getAuthenticityToken() + session.getExpires() + this.config.getApplicationSecret());
+        String value = sign + Default.DELIMITER.toString() + session.getAuthenticityToken() + Default.DELIMITER.toString() + session.getExpires() + Default.DATA_DELIMITER.toString() + values;
+
+        return this.encryptSession ? this.crypto.encrypt(value) : value;
+    }
+
+    @Override
+    public Session decodeSession(String cookieValue) {
+        if (StringUtils.isBlank(cookieValue)) {
+            return null;
+        }
+
+        String value = this.encryptSession ? decrypt(cookieValue) : cookieValue;
+
+        String sign = null;
+        String expires = null;
+        String authenticityToken = null;
+        String prefix = StringUtils.substringBefore(value, Default.DATA_DELIMITER.toString());
+        if (StringUtils.isNotBlank(prefix)) {
+            String [] prefixes = prefix.split("\\" + Default.DELIMITER.toString());
+            if (prefixes != null && prefixes.length == SESSION_PREFIX_LENGTH) {
+                sign = prefixes [INDEX_0];
+                authenticityToken = prefixes [INDEX_1];
+                expires = prefixes [INDEX_2];
+            }
+        }
+
+        Session session = null;
+        if (StringUtils.isNotBlank(sign) && StringUtils.isNotBlank(expires) && StringUtils.isNotBlank(authenticityToken)) {
+            String data = value.substring(value.indexOf(Default.DATA_DELIMITER.toString()) + 1, value.length());
+
+            LocalDateTime expiresDate = parseExpires(expires);
+            if (expiresDate != null && LocalDateTime.now().isBefore(expiresDate) && DigestUtils.sha512Hex(data + authenticityToken + expires + this.config.getApplicationSecret()).equals(sign)) {
+                Map<String, String> sessionValues = new HashMap<String, String>();
+                if (StringUtils.isNotEmpty(data)) {
+                    for (Map.Entry<String, String> entry : Splitter.on(Default.SPLITTER.toString()).withKeyValueSeparator(Default.SEPERATOR.toString()).split(data).entrySet()) {
+                        sessionValues.put(entry.getKey(), entry.getValue());
+                    }
+                }
+                session = new Session(sessionValues);
+                session.setAuthenticityToken(authenticityToken);
+                session.setExpires(expiresDate);
+            }
+        }
+
+        return session;
+    }
+
+    @Override
+    public String encodeAuthentication(Authentication authentication) {
+        String sign = DigestUtils.sha512Hex(authentication.getAuthenticatedUser() + authentication.getExpires() + this.config.getApplicationSecret());
+        String value = sign + Default.DELIMITER.toString() + authentication.getExpires() + Default.DATA_DELIMITER.toString() + authentication.getAuthenticatedUser();
+
+        return this.encryptAuthentication ? this.crypto.encrypt(value) : value;
+    }
+
+    @Override
+    public Authentication decodeAuthentication(String cookieValue) {
+        if (StringUtils.isBlank(cookieValue)) {
+            return null;
+        }
+
+        String value = this.encryptAuthentication ? decrypt(cookieValue) : cookieValue;
+
+        String sign = null;
+        String expires = null;
+        String prefix = StringUtils.substringBefore(value, Default.DATA_DELIMITER.toString());
+        if (StringUtils.isNotBlank(prefix)) {
+            String [] prefixes = prefix.split("\\" + Default.DELIMITER.toString());
+            if (prefixes != null && prefixes.length == AUTH_PREFIX_LENGTH) {
+                sign = prefixes [INDEX_0];
+                expires = prefixes [INDEX_1];
+            }
+        }
+
+        Authentication authentication = null;
+        if (StringUtils.isNotBlank(sign) && StringUtils.isNotBlank(expires)) {
+            String data = value.substring(value.indexOf(Default.DATA_DELIMITER.toString()) + 1, value.length());
+            LocalDateTime expiresDate = parseExpires(expires);
+            if (expiresDate != null && LocalDateTime.now().isBefore(expiresDate) && DigestUtils.sha512Hex(data + expires + this.config.getApplicationSecret()).equals(sign)) {
+                authentication = new Authentication(this.config, data, expiresDate);
+            }
+        }
+
+        return authentication;
+    }
+
+    @Override
+    public String encodeFlash(Flash flash) {
+        return Joiner.on("&").withKeyValueSeparator(":").join(flash.getValues());
+    }
+
+    @Override
+    public Flash decodeFlash(String cookieValue) {
+        if (StringUtils.isBlank(cookieValue)) {
+            return null;
+        }
+
+        Map<String, String> values = new HashMap<String, String>();
+        try {
+            for (Map.Entry<String, String> entry : Splitter.on("&").withKeyValueSeparator(":").split(cookieValue).entrySet()) {
+                values.put(entry.getKey(), entry.getValue());
+            }
+        } catch (IllegalArgumentException e) { //NOSONAR
+            return null;
+        }
+
+        return new Flash(values);
+    }
+
+    /**
+     * Decrypts a cookie value. Crypto fails with different exceptions on values which were
+     * not encrypted with the application secret, e.g. a cookie set by another application.
+     *
+     * @return The decrypted value or null if the value can not be decrypted
+     */
+    private String decrypt(String cookieValue) {
+        try {
+            return this.crypto.decrypt(cookieValue);
+        } catch (RuntimeException e) { //NOSONAR
+            return null;
+        }
+    }
+
+    /**
+     * @return The expiry date or null if the value is not a valid date, so the cookie is treated as absent
+     */
+    private static LocalDateTime parseExpires(String expires) {
+        try {
+            return LocalDateTime.parse(expires);
+        } catch (DateTimeParseException e) { //NOSONAR
+            return null;
+        }
+    }
+}
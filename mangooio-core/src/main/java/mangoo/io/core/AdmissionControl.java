@@ -0,0 +1,140 @@
+package mangoo.io.core;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.math.NumberUtils;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import io.undertow.util.StatusCodes;
+import mangoo.io.configuration.Config;
+import mangoo.io.enums.Default;
+import mangoo.io.enums.Key;
+import mangoo.io.routing.Route;
+
+/**
+ * Enforces the global and per route concurrency limits before a request is dispatched.
+ * Requests exceeding a limit are rejected immediately with 503 Service Unavailable and
+ * a Retry-After header, instead of queueing for a worker thread.
+ *
+ * @author svenkubiak
+ *
+ */
+@Singleton
+public class AdmissionControl {
+    private final Map<String, ConcurrencyLimit> routeLimits = new ConcurrentHashMap<String, ConcurrencyLimit>();
+    private final ConcurrencyLimit globalLimit;
+    private final int routeLimit;
+    private final boolean adaptive;
+    private final double tolerance;
+    private final String retryAfter;
+
+    @Inject
+    public AdmissionControl(Config config) {
+        this.adaptive = config.getBoolean(Key.APPLICATION_LIMIT_ADAPTIVE, false);
+        this.tolerance = NumberUtils.toDouble(config.getString(Key.APPLICATION_LIMIT_TOLERANCE), Default.LIMIT_TOLERANCE.toDouble());
+        this.retryAfter = String.valueOf(config.getInt(Key.APPLICATION_LIMIT_RETRY_AFTER, Default.LIMIT_RETRY_AFTER.toInt()));
+        this.routeLimit = config.getInt(Key.APPLICATION_LIMIT_ROUTE, Default.LIMIT_NONE.toInt());
+
+        int global = config.getInt(Key.APPLICATION_LIMIT_GLOBAL, Default.LIMIT_NONE.toInt());
+        this.globalLimit = (global > 0) ? newLimit("global", global) : null;
+    }
+
+    private ConcurrencyLimit newLimit(String name, int maxLimit) {
+        int initialLimit = this.adaptive ? Math.min(maxLimit, Default.LIMIT_ADAPTIVE_INITIAL.toInt()) : maxLimit;
+        return new ConcurrencyLimit(name, initialLimit, maxLimit, this.adaptive, this.tolerance);
+    }
+
+    /**
+     * Creates the concurrency limit of a route, either from the limit set on the route
+     * or from application.limit.route
+     *
+     * @param route The route to create the limit for
+     * @return The limit of the route or null if the route is not limited
+     */
+    public ConcurrencyLimit getRouteLimit(Route route) {
+        int limit = (route.getLimit() > 0) ? route.getLimit() : this.routeLimit;
+        if (limit <= 0) {
+            return null;
+        }
+
+        String name = route.getRequestMethod() + " " + route.getUrl();
+        return this.routeLimits.computeIfAbsent(name, key -> newLimit(key, limit));
+    }
+
+    /**
+     * Admits a request if neither the global limit nor the limit of its route is reached. An
+     * admitted request is released once the exchange is completed, otherwise a 503 response
+     * is sent.
+     *
+     * @param exchange The current HttpServerExchange
+     * @param routeLimit The limit of the route or null if the route is not limited
+     * @return True if the request is admitted, false if it was rejected
+     */
+    public boolean admit(HttpServerExchange exchange, ConcurrencyLimit routeLimit) {
+        if (this.globalLimit == null && routeLimit == null) {
+            return true;
+        }
+
+        if (this.globalLimit != null && !this.globalLimit.tryAcquire()) {
+            reject(exchange);
+            return false;
+        }
+
+        if (routeLimit != null && !routeLimit.tryAcquire()) {
+            if (this.globalLimit != null) {
+                this.globalLimit.release();
+            }
+            reject(exchange);
+            return false;
+        }
+
+        long start = System.nanoTime();
+        exchange.addExchangeCompleteListener((completed, nextListener) -> {
+            long latency = System.nanoTime() - start;
+            if (routeLimit != null) {
+                routeLimit.release(latency);
+            }
+            if (this.globalLimit != null) {
+                this.globalLimit.release(latency);
+            }
+            nextListener.proceed();
+        });
+
+        return true;
+    }
+
+    private void reject(HttpServerExchange exchange) {
+        exchange.setResponseCode(StatusCodes.SERVICE_UNAVAILABLE);
+        exchange.getResponseHeaders().put(Headers.RETRY_AFTER, this.retryAfter);
+        exchange.getResponseHeaders().put(Headers.SERVER, Default.SERVER.toString());
+        exchange.endExchange();
+    }
+
+    /**
+     * @return The global limit or null if there is no global limit
+     */
+    public ConcurrencyLimit getGlobalLimit() {
+        return this.globalLimit;
+    }
+
+    /**
+     * @return An unmodifiable view of all route limits, keyed by request method and URL
+     */
+    public Map<String, ConcurrencyLimit> getRouteLimits() {
+        return Collections.unmodifiableMap(this.routeLimits);
+    }
+
+    /**
+     * @return The number of rejected requests of the global limit and all route limits
+     */
+    public long getRejections() {
+        long rejections = (this.globalLimit == null) ? 0 : this.globalLimit.getRejections();
+        return rejections + this.routeLimits.values().stream().mapToLong(ConcurrencyLimit::getRejections).sum();
+    }
+}
@@ -1,10 +1,14 @@
 package mangoo.io.core;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URL;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -12,11 +16,16 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Properties;
 
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.xnio.Options;
 
 import com.github.lalyos.jfiglet.FigletFont;
+import com.google.common.base.Splitter;
 import com.google.common.io.Resources;
 import com.google.inject.AbstractModule;
 import com.google.inject.Guice;
@@ -31,12 +40,15 @@ import ch.qos.logback.classic.joran.JoranConfigurator;
 import ch.qos.logback.core.joran.spi.JoranException;
 import io.undertow.Handlers;
 import io.undertow.Undertow;
+import io.undertow.UndertowOptions;
+import io.undertow.server.HttpHandler;
 import io.undertow.server.RoutingHandler;
 import io.undertow.server.handlers.PathHandler;
 import io.undertow.server.handlers.resource.ClassPathResourceManager;
 import io.undertow.server.handlers.resource.ResourceHandler;
 import io.undertow.util.Methods;
 import mangoo.io.configuration.Config;
+import mangoo.io.configuration.ServerConfig;
 import mangoo.io.enums.Default;
 import mangoo.io.enums.Key;
 import mangoo.io.enums.Mode;
@@ -45,9 +57,17 @@ import mangoo.io.interfaces.MangooLifecycle;
 import mangoo.io.interfaces.MangooRoutes;
 import mangoo.io.routing.Route;
 import mangoo.io.routing.Router;
+import mangoo.io.routing.binders.Binders;
+import mangoo.io.routing.handlers.AdminHandler;
+import mangoo.io.routing.handlers.CompressionHandler;
 import mangoo.io.routing.handlers.DispatcherHandler;
 import mangoo.io.routing.handlers.ExceptionHandler;
 import mangoo.io.routing.handlers.FallbackHandler;
+import mangoo.io.routing.handlers.MetricsHandler;
+import mangoo.io.routing.handlers.PreCompressedHandler;
+import mangoo.io.routing.handlers.RequestHandler;
+import mangoo.io.routing.handlers.RouteTableHandler;
+import mangoo.io.routing.handlers.SlowRequestsHandler;
 import mangoo.io.routing.handlers.WebSocketHandler;
 
 /**
@@ -60,7 +80,7 @@ public class Bootstrap {
     private static final int INITIAL_SIZE = 255;
     private LocalDateTime start;
     private PathHandler pathHandler;
-    private ResourceHandler resourceHandler;
+    private HttpHandler resourceHandler;
     private Mode mode;
     private Undertow undertow;
     private GreenMail fakeSMTP;
@@ -69,6 +89,7 @@ public class Bootstrap {
     private String host;
     private boolean error;
     private int port;
+    private int httpsPort;
 
     public void prepareApplication() {
         this.start = LocalDateTime.now();
@@ -131,6 +152,9 @@ public class Bootstrap {
         for (Method method : controllerClass.getMethods()) {
             if (method.getName().equals(route.getControllerMethod())) {
                 found = true;
+                if (route.isNonBlocking()) {
+                    checkNonBlocking(route, method);
+                }
             }
         }
 
@@ -140,6 +164,15 @@ public class Bootstrap {
         }
     }
 
+    private void checkNonBlocking(Route route, Method method) {
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (Binders.readsBody(parameterType)) {
+                LOG.error("Non-blocking controller method '" + route.getControllerMethod() + "' in controller class '" + route.getControllerClass().getSimpleName() + "' can not bind " + parameterType.getSimpleName() + " as reading the request body would block the I/O thread");
+                this.error = true;
+            }
+        }
+    }
+
     private void initPathHandler() {
         this.pathHandler = new PathHandler(initRoutingHandler());
         for (Route route : Router.getRoutes()) {
@@ -149,32 +182,103 @@ public class Bootstrap {
                 this.pathHandler.addPrefixPath(route.getUrl(), getResourceHandler(route.getUrl()));
             }
         }
+
+        String adminUrl = this.config.getString(Key.APPLICATION_ADMIN_URL);
+        if (StringUtils.isNotBlank(adminUrl)) {
+            initAdminHandlers(adminUrl);
+        }
     }
 
-    private RoutingHandler initRoutingHandler() {
+    private void initAdminHandlers(String adminUrl) {
+        String username = this.config.getString(Key.APPLICATION_ADMIN_USERNAME);
+        String password = this.config.getString(Key.APPLICATION_ADMIN_PASSWORD);
+        if (StringUtils.isBlank(username) || StringUtils.isBlank(password)) {
+            LOG.warn("Admin endpoints are disabled, as application.admin.username or application.admin.password is not configured");
+            return;
+        }
+
+        String realm = this.config.getApplicationName();
+        this.pathHandler.addExactPath(adminUrl + Default.ADMIN_METRICS_PATH.toString(), new AdminHandler(new MetricsHandler(), username, password, realm));
+        this.pathHandler.addExactPath(adminUrl + Default.ADMIN_SLOWREQUESTS_PATH.toString(), new AdminHandler(new SlowRequestsHandler(), username, password, realm));
+        LOG.info("Admin endpoints available at {}", adminUrl);
+    }
+
+    private HttpHandler initRoutingHandler() {
+        boolean routeTable = Default.ROUTER_TABLE.toString().equalsIgnoreCase(this.config.getString(Key.APPLICATION_ROUTER, Default.ROUTER_UNDERTOW.toString()));
+        RouteTableHandler.Builder routeTableBuilder = RouteTableHandler.builder();
+
         RoutingHandler routingHandler = Handlers.routing();
         routingHandler.setFallbackHandler(new FallbackHandler());
         for (Route route : Router.getRoutes()) {
             if (RouteType.REQUEST.equals(route.getRouteType())) {
-                routingHandler.add(route.getRequestMethod(), route.getUrl(), new DispatcherHandler(route.getControllerClass(), route.getControllerMethod()));
+                DispatcherHandler dispatcherHandler = new DispatcherHandler(route, getRequestHandler(route));
+                routingHandler.add(route.getRequestMethod(), route.getUrl(), dispatcherHandler);
+                routeTableBuilder.add(route.getRequestMethod(), route.getUrl(), dispatcherHandler);
             } else if (RouteType.RESOURCE_FILE.equals(route.getRouteType())) {
                 routingHandler.add(Methods.GET, route.getUrl(), getResourceHandler(null));
+                routeTableBuilder.add(Methods.GET, route.getUrl(), getResourceHandler(null));
             }
         }
 
+        if (routeTable) {
+            RouteTableHandler routeTableHandler = routeTableBuilder.build(routingHandler);
+            LOG.info("Route table: {}", routeTableHandler);
+
+            return routeTableHandler;
+        }
+
         return routingHandler;
     }
 
-    private ResourceHandler getResourceHandler(String postfix) {
+    /**
+     * Compiles the request handler for a given route once at startup
+     *
+     * @param route The route to compile
+     * @return The compiled request handler or null if compiling failed
+     */
+    private RequestHandler getRequestHandler(Route route) {
+        RequestHandler requestHandler = null;
+        try {
+            requestHandler = new RequestHandler(route);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            LOG.error("Failed to compile controller method '" + route.getControllerMethod() + "' in controller class '" + route.getControllerClass().getSimpleName() + "'", e);
+            this.error = true;
+        }
+
+        return requestHandler;
+    }
+
+    private HttpHandler getResourceHandler(String postfix) {
         if (StringUtils.isBlank(postfix)) {
             if (this.resourceHandler == null) {
-                this.resourceHandler = new ResourceHandler(new ClassPathResourceManager(Thread.currentThread().getContextClassLoader(), Default.FILES_FOLDER.toString() + "/"));
+                this.resourceHandler = new PreCompressedHandler(new ResourceHandler(new ClassPathResourceManager(Thread.currentThread().getContextClassLoader(), Default.FILES_FOLDER.toString() + "/")));
             }
 
             return this.resourceHandler;
         }
 
-        return new ResourceHandler(new ClassPathResourceManager(Thread.currentThread().getContextClassLoader(), Default.FILES_FOLDER.toString() + postfix));
+        return new PreCompressedHandler(new ResourceHandler(new ClassPathResourceManager(Thread.currentThread().getContextClassLoader(), Default.FILES_FOLDER.toString() + postfix)));
+    }
+
+    /**
+     * Wraps the handler of all requests with compression, if enabled in application.compression
+     *
+     * @param handler The handler to wrap
+     * @return A compression handler or the given handler if compression is disabled
+     */
+    private HttpHandler getCompressionHandler(HttpHandler handler) {
+        if (!this.config.getBoolean(Key.APPLICATION_COMPRESSION, false)) {
+            return handler;
+        }
+
+        int level = this.config.getInt(Key.APPLICATION_COMPRESSION_LEVEL, Default.COMPRESSION_LEVEL.toInt());
+        long minSize = this.config.getLong(Key.APPLICATION_COMPRESSION_MINSIZE, Default.COMPRESSION_MINSIZE.toLong());
+        List<String> contentTypes = Splitter.on(',').trimResults().omitEmptyStrings()
+                .splitToList(this.config.getString(Key.APPLICATION_COMPRESSION_TYPES, Default.COMPRESSION_TYPES.toString()));
+
+        LOG.info("Compressing responses of {} with level {} from {} bytes", contentTypes, level, minSize);
+
+        return new CompressionHandler(handler, level, minSize, contentTypes);
     }
 
     public void startServer() {
@@ -182,15 +286,117 @@ public class Bootstrap {
             this.host = this.config.getString(Key.APPLICATION_HOST, Default.APPLICATION_HOST.toString());
             this.port = this.config.getInt(Key.APPLICATION_PORT, Default.APPLICATION_PORT.toInt());
 
-            Undertow server = Undertow.builder()
+            ServerConfig serverConfig = new ServerConfig(this.config);
+            LOG.info("Server configuration: {}", serverConfig);
+
+            Undertow.Builder builder = Undertow.builder()
                     .addHttpListener(this.port, this.host)
-                    .setHandler(Handlers.exceptionHandler(this.pathHandler).addExceptionHandler(Throwable.class, new ExceptionHandler()))
-                    .build();
+                    .setIoThreads(serverConfig.getIoThreads())
+                    .setWorkerThreads(serverConfig.getWorkerThreads())
+                    .setBufferSize(serverConfig.getBufferSize())
+                    .setDirectBuffers(serverConfig.isDirectBuffers())
+                    .setSocketOption(Options.BACKLOG, serverConfig.getBacklog())
+                    .setSocketOption(Options.KEEP_ALIVE, serverConfig.isKeepAlive())
+                    .setHandler(getCompressionHandler(Handlers.exceptionHandler(this.pathHandler).addExceptionHandler(Throwable.class, new ExceptionHandler())));
+
+            if (serverConfig.getIdleTimeout() > 0) {
+                builder.setServerOption(UndertowOptions.IDLE_TIMEOUT, serverConfig.getIdleTimeout());
+            }
+
+            if (serverConfig.getNoRequestTimeout() > 0) {
+                builder.setServerOption(UndertowOptions.NO_REQUEST_TIMEOUT, serverConfig.getNoRequestTimeout());
+            }
+
+            if (serverConfig.getMaxEntitySize() > 0) {
+                builder.setServerOption(UndertowOptions.MAX_ENTITY_SIZE, serverConfig.getMaxEntitySize());
+            }
+
+            this.httpsPort = this.config.getInt(Key.APPLICATION_HTTPS_PORT, Default.HTTPS_PORT.toInt());
+            if (this.httpsPort > 0) {
+                SSLContext sslContext = getSSLContext();
+                if (sslContext != null) {
+                    builder.addHttpsListener(this.httpsPort, this.host, sslContext);
+                }
+            }
+
+            if (this.config.getBoolean(Key.APPLICATION_HTTP2, false)) {
+                if (isAlpnAvailable()) {
+                    builder.setServerOption(UndertowOptions.ENABLE_HTTP2, true);
+                    LOG.info("HTTP/2 enabled");
+                } else {
+                    LOG.warn("HTTP/2 is enabled but the ALPN boot jar is not on the boot classpath. Serving HTTPS with HTTP/1.1 only");
+                }
+            }
+
+            if (!this.error) {
+                Undertow server = builder.build();
+                server.start();
+
+                this.undertow = server;
+                Runtime.getRuntime().addShutdownHook(new Thread(this::stopServer));
+            }
+        }
+    }
+
+    /**
+     * Checks if the Jetty ALPN API is available, which Undertow uses to negotiate HTTP/2
+     * over TLS. Without it, every HTTPS connection would fail once HTTP/2 is enabled.
+     *
+     * @return True if ALPN is available, false otherwise
+     */
+    private static boolean isAlpnAvailable() {
+        boolean available = false;
+        try {
+            Class.forName(Default.ALPN_CLASS.toString());
+            available = true;
+        } catch (ClassNotFoundException e) { //NOSONAR
+            //intentionally left blank
+        }
+
+        return available;
+    }
 
-            server.start();
+    /**
+     * Stops the server and afterwards the executor requests and jobs are dispatched to
+     */
+    private void stopServer() {
+        this.undertow.stop();
+        this.injector.getInstance(DispatchExecutor.class).shutdown();
+    }
 
-            this.undertow = server;
+    /**
+     * Creates the SSLContext for the HTTPS listener from the keystore configured in
+     * application.https.keystore, which is either a path in the file system or on the classpath
+     *
+     * @return The SSLContext or null if the keystore could not be loaded
+     */
+    private SSLContext getSSLContext() {
+        String keystore = this.config.getString(Key.APPLICATION_HTTPS_KEYSTORE);
+        String keystorePassword = this.config.getString(Key.APPLICATION_HTTPS_KEYSTORE_PASSWORD, "");
+        String keyPassword = this.config.getString(Key.APPLICATION_HTTPS_KEY_PASSWORD, keystorePassword);
+
+        SSLContext sslContext = null;
+        if (StringUtils.isBlank(keystore)) {
+            LOG.error("Please make sure that your application.yaml has an application.https.keystore property when application.https.port is set");
+            this.error = true;
+        } else {
+            File file = new File(keystore);
+            try (InputStream inputStream = file.exists() ? new FileInputStream(file) : Resources.getResource(keystore).openStream()) {
+                KeyStore keyStore = KeyStore.getInstance(this.config.getString(Key.APPLICATION_HTTPS_KEYSTORE_TYPE, Default.KEYSTORE_TYPE.toString()));
+                keyStore.load(inputStream, keystorePassword.toCharArray());
+
+                KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+                keyManagerFactory.init(keyStore, keyPassword.toCharArray());
+
+                sslContext = SSLContext.getInstance(Default.SSL_PROTOCOL.toString());
+                sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+            } catch (IOException | IllegalArgumentException | GeneralSecurityException e) {
+                LOG.error("Failed to load keystore '" + keystore + "' for HTTPS listener", e);
+                this.error = true;
+            }
         }
+
+        return sslContext;
     }
 
     private List<Module> getModules() {
@@ -223,6 +429,9 @@ public class Bootstrap {
 
             LOG.info(logo.toString());
             LOG.info("mangoo I/O application started @{}:{} in {} ms in {} mode. Enjoy.", this.host, this.port, ChronoUnit.MILLIS.between(this.start, LocalDateTime.now()), this.mode.toString());
+            if (this.httpsPort > 0) {
+                LOG.info("HTTPS listener started @{}:{}", this.host, this.httpsPort);
+            }
             this.injector.getInstance(MangooLifecycle.class).applicationStarted();
         }
     }
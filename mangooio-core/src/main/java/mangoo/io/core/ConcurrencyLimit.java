@@ -0,0 +1,143 @@
+package mangoo.io.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the number of requests which are processed concurrently. A fixed limit never
+ * changes. An adaptive limit is adjusted with every completed request in AIMD style:
+ * it grows by one per limit requests as long as the latency stays within a tolerance
+ * of the lowest observed latency, and shrinks multiplicatively once requests get slower,
+ * which indicates that they are queueing.
+ *
+ * @author svenkubiak
+ *
+ */
+public class ConcurrencyLimit {
+    private static final double BACKOFF = 0.9;
+    private static final int MIN_LIMIT = 1;
+    private static final int PROBE_SAMPLES = 1000;
+    private final String name;
+    private final int maxLimit;
+    private final boolean adaptive;
+    private final double tolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejections = new LongAdder();
+    private volatile int limit;
+    private double estimatedLimit;
+    private long minLatency = Long.MAX_VALUE;
+    private long lastDecrease;
+    private int samples;
+
+    /**
+     * Creates a new concurrency limit
+     *
+     * @param name The name of the limit, e.g. the route it belongs to
+     * @param initialLimit The initial limit, which is also the limit of a fixed limit
+     * @param maxLimit The maximum an adaptive limit may grow to
+     * @param adaptive True for an adaptive limit, false for a fixed limit
+     * @param tolerance The factor by which the latency may exceed the lowest observed latency before an adaptive limit shrinks
+     */
+    public ConcurrencyLimit(String name, int initialLimit, int maxLimit, boolean adaptive, double tolerance) {
+        this.name = name;
+        this.maxLimit = Math.max(MIN_LIMIT, maxLimit);
+        this.adaptive = adaptive;
+        this.tolerance = tolerance;
+        this.limit = Math.max(MIN_LIMIT, Math.min(initialLimit, this.maxLimit));
+        this.estimatedLimit = this.limit;
+    }
+
+    /**
+     * Tries to admit a request
+     *
+     * @return True if the request is admitted, false if the limit is reached
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = this.inFlight.get();
+            if (current >= this.limit) {
+                this.rejections.increment();
+                return false;
+            }
+
+            if (this.inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases an admitted request once it is completed
+     *
+     * @param latency The time in nanoseconds it took to complete the request
+     */
+    public void release(long latency) {
+        int current = this.inFlight.getAndDecrement();
+        if (this.adaptive) {
+            adapt(latency, current);
+        }
+    }
+
+    /**
+     * Releases an admitted request without adapting the limit, e.g. if a request was
+     * admitted here but rejected by another limit
+     */
+    public void release() {
+        this.inFlight.decrementAndGet();
+    }
+
+    private synchronized void adapt(long latency, int current) {
+        if (++this.samples >= PROBE_SAMPLES) {
+            this.samples = 0;
+            this.minLatency = latency;
+        } else {
+            this.minLatency = Math.min(this.minLatency, latency);
+        }
+
+        long now = System.nanoTime();
+        if (latency > this.minLatency * this.tolerance) {
+            if (now - this.lastDecrease > latency) {
+                this.estimatedLimit = Math.max(MIN_LIMIT, this.estimatedLimit * BACKOFF);
+                this.lastDecrease = now;
+            }
+        } else if (current * 2 >= this.estimatedLimit) {
+            this.estimatedLimit = Math.min(this.maxLimit, this.estimatedLimit + 1 / this.estimatedLimit);
+        }
+
+        this.limit = (int) this.estimatedLimit;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * @return The current limit of concurrent requests
+     */
+    public int getLimit() {
+        return this.limit;
+    }
+
+    /**
+     * @return The number of requests which are admitted and not yet completed, either queued for or running on a worker thread
+     */
+    public int getInFlight() {
+        return this.inFlight.get();
+    }
+
+    /**
+     * @return The number of requests which were rejected because the limit was reached
+     */
+    public long getRejections() {
+        return this.rejections.sum();
+    }
+
+    public boolean isAdaptive() {
+        return this.adaptive;
+    }
+
+    @Override
+    public String toString() {
+        return this.name + " (limit=" + this.limit + ", inFlight=" + this.inFlight.get() + ", rejections=" + this.rejections.sum() + ")";
+    }
+}
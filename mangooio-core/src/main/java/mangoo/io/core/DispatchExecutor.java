@@ -0,0 +1,94 @@
+package mangoo.io.core;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import mangoo.io.configuration.Config;
+import mangoo.io.enums.Default;
+import mangoo.io.enums.Key;
+
+/**
+ * Provides the executor requests, binary responses and scheduled jobs are dispatched to.
+ * By default this is the worker thread pool of Undertow. With application.executor set
+ * to "virtual" a virtual-thread-per-task executor is used instead, if the JVM supports it.
+ *
+ * @author svenkubiak
+ *
+ */
+@Singleton
+public class DispatchExecutor {
+    private static final Logger LOG = LoggerFactory.getLogger(DispatchExecutor.class);
+    private static final long SHUTDOWN_TIMEOUT = 10;
+    private ExecutorService executor;
+
+    @Inject
+    public DispatchExecutor(Config config) {
+        String mode = config.getString(Key.APPLICATION_EXECUTOR, Default.EXECUTOR_WORKER.toString());
+        if (Default.EXECUTOR_VIRTUAL.toString().equalsIgnoreCase(mode)) {
+            this.executor = newVirtualThreadExecutor();
+            if (this.executor == null) {
+                LOG.warn("Virtual threads are not supported by this JVM. Falling back to the worker thread pool");
+            } else {
+                LOG.info("Dispatching requests to virtual threads");
+            }
+        }
+    }
+
+    /**
+     * @return The executor to dispatch to, or null if the worker thread pool of Undertow should be used
+     */
+    public Executor getExecutor() {
+        return this.executor;
+    }
+
+    /**
+     * @return True if requests are dispatched to virtual threads, false otherwise
+     */
+    public boolean isVirtual() {
+        return this.executor != null;
+    }
+
+    /**
+     * Shuts down the virtual thread executor when the application stops. Running requests
+     * and jobs get some time to complete before they are interrupted.
+     */
+    public void shutdown() {
+        if (this.executor != null) {
+            this.executor.shutdown();
+            try {
+                if (!this.executor.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+                    this.executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                this.executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Creates a new virtual-thread-per-task executor. As mangoo I/O is compiled for Java 8,
+     * the executor is looked up once by reflection.
+     *
+     * @return A new virtual-thread-per-task executor or null if the JVM does not support virtual threads
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        ExecutorService executorService = null;
+        try {
+            executorService = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) { //NOSONAR
+            //intentionally left blank
+        }
+
+        return executorService;
+    }
+}
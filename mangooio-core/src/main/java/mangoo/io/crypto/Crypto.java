@@ -1,7 +1,6 @@
 package mangoo.io.crypto;
 
 import org.apache.commons.lang3.StringUtils;
-import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.CryptoException;
 import org.bouncycastle.crypto.engines.AESEngine;
 import org.bouncycastle.crypto.modes.CBCBlockCipher;
@@ -18,6 +17,8 @@ import com.google.inject.Singleton;
 
 import mangoo.io.configuration.Config;
 import mangoo.io.enums.Key;
+import mangoo.io.jfr.CryptoEvent;
+import mangoo.io.jfr.JfrSupport;
 
 /**
  * Convenient class for encryption and decryption
@@ -32,8 +33,6 @@ public class Crypto {
     private static final int KEYLENGTH_16 = 16;
     private static final int KEYLENGTH_24 = 24;
     private static final int KEYLENGTH_32 = 32;
-    private PaddedBufferedBlockCipher cipher = new PaddedBufferedBlockCipher(new CBCBlockCipher(new AESEngine()));
-    private CipherParameters cipherParameters;
     private Config config;
 
     @Inject
@@ -59,11 +58,12 @@ public class Crypto {
      * @return The clear text or null if decryption fails
      */
     public String decrypt(String encrytedText, String key) {
-        this.cipherParameters = new ParametersWithIV(new KeyParameter(getSizedKey(key).getBytes(Charsets.UTF_8)), new byte[KEYLENGTH_16]);
+        CryptoEvent event = JfrSupport.AVAILABLE ? CryptoEvent.start() : null;
+        String plainText = new String(cipherData(false, key, Base64.decode(encrytedText)), Charsets.UTF_8);
 
-        String plainText = null;
-        this.cipher.init(false, this.cipherParameters);
-        plainText = new String(cipherData(Base64.decode(encrytedText)), Charsets.UTF_8);
+        if (event != null) {
+            event.finish(CryptoEvent.DECRYPT, encrytedText.length());
+        }
 
         return plainText;
     }
@@ -92,28 +92,69 @@ public class Crypto {
      * @return The encrypted text or null if encryption fails
      */
     public String encrypt(String plainText, String key) {
-        this.cipherParameters = new ParametersWithIV(new KeyParameter(getSizedKey(key).getBytes(Charsets.UTF_8)), new byte[KEYLENGTH_16]);
+        CryptoEvent event = JfrSupport.AVAILABLE ? CryptoEvent.start() : null;
+        String encrytedText = new String(Base64.encode(cipherData(true, key, plainText.getBytes(Charsets.UTF_8))), Charsets.UTF_8);
 
-        String encrytedText = null;
-        this.cipher.init(true, this.cipherParameters);
-        encrytedText = new String(Base64.encode(cipherData(plainText.getBytes(Charsets.UTF_8))), Charsets.UTF_8);
+        if (event != null) {
+            event.finish(CryptoEvent.ENCRYPT, plainText.length());
+        }
 
         return encrytedText;
     }
 
     /**
-     * Encrypts or decrypts a given byte array of data
+     * Encrypts binary data using the application secret property (application.secret) as key
+     *
+     * @param data The data to encrypt
+     * @return The encrypted data or null if encryption fails
+     */
+    public byte[] encrypt(byte[] data) {
+        CryptoEvent event = JfrSupport.AVAILABLE ? CryptoEvent.start() : null;
+        byte[] encrypted = cipherData(true, this.config.getString(Key.APPLICATION_SECRET), data);
+
+        if (event != null) {
+            event.finish(CryptoEvent.ENCRYPT, data.length);
+        }
+
+        return encrypted;
+    }
+
+    /**
+     * Decrypts binary data using the application secret property (application.secret) as key
      *
+     * @param data The encrypted data
+     * @return The decrypted data or null if decryption fails
+     */
+    public byte[] decrypt(byte[] data) {
+        CryptoEvent event = JfrSupport.AVAILABLE ? CryptoEvent.start() : null;
+        byte[] decrypted = cipherData(false, this.config.getString(Key.APPLICATION_SECRET), data);
+
+        if (event != null) {
+            event.finish(CryptoEvent.DECRYPT, data.length);
+        }
+
+        return decrypted;
+    }
+
+    /**
+     * Encrypts or decrypts a given byte array of data. Every call uses its own cipher,
+     * as a cipher holds state and Crypto is shared by concurrent requests.
+     *
+     * @param encrypt True to encrypt, false to decrypt
+     * @param key The key to use for encryption or decryption
      * @param data The data to encrypt or decrypt
      * @return A cleartext or encrypted byte array
      */
-    private byte[] cipherData(byte[] data) {
+    private byte[] cipherData(boolean encrypt, String key, byte[] data) {
+        PaddedBufferedBlockCipher cipher = new PaddedBufferedBlockCipher(new CBCBlockCipher(new AESEngine()));
+        cipher.init(encrypt, new ParametersWithIV(new KeyParameter(getSizedKey(key).getBytes(Charsets.UTF_8)), new byte[KEYLENGTH_16]));
+
         byte[] result = null;
         try {
-            byte[] buffer = new byte[this.cipher.getOutputSize(data.length)];
+            byte[] buffer = new byte[cipher.getOutputSize(data.length)];
 
-            int processedBytes = this.cipher.processBytes(data, 0, data.length, buffer, 0);
-            int finalBytes = this.cipher.doFinal(buffer, processedBytes);
+            int processedBytes = cipher.processBytes(data, 0, data.length, buffer, 0);
+            int finalBytes = cipher.doFinal(buffer, processedBytes);
 
             result = new byte[processedBytes + finalBytes];
             System.arraycopy(buffer, 0, result, 0, result.length);
@@ -33,6 +33,7 @@ public enum Default {
     APPLICATION_SECRET_MIN_LENGTH("16"),
     SERVER("Undertow"),
     CACHE_NAME("mangooio"),
+    RESPONSE_CACHE_PREFIX("mangooio-response-"),
     TEMPLATES_FOLDER("/templates/"),
     TEMPLATE_SUFFIX(".ftl"),
     AUTH_COOKIE_EXPIRES("3600"),
@@ -47,11 +48,39 @@ public enum Default {
     ROUTES_CLASS("conf.Routes"),
     FILES_FOLDER("files"),
     MODULE_CLASS("conf.Module"),
+    ALPN_CLASS("org.eclipse.jetty.alpn.ALPN"),
     VERSION("unknown"),
     LOGBACK_PROD_FILE("logback.prod.xml"),
     NUMBER_FORMAT("0.######"),
     EXCEPTION_TEMPLATE_NAME("exception.ftl"),
-    DEFAULT_TEMPLATES_DIR("/defaults/");
+    DEFAULT_TEMPLATES_DIR("/defaults/"),
+    EXECUTOR_WORKER("worker"),
+    EXECUTOR_VIRTUAL("virtual"),
+    ROUTER_UNDERTOW("undertow"),
+    ROUTER_TABLE("table"),
+    LOCALE_CACHE_SIZE("1000"),
+    BODY_MAXSIZE("-1"),
+    HTTPS_PORT("-1"),
+    KEYSTORE_TYPE("JKS"),
+    SSL_PROTOCOL("TLS"),
+    SERVER_BACKLOG("1000"),
+    SERVER_TIMEOUT("-1"),
+    SERVER_MAX_ENTITY_SIZE("-1"),
+    COMPRESSION_LEVEL("6"),
+    COMPRESSION_MINSIZE("1024"),
+    COMPRESSION_TYPES("text/,application/json,application/javascript,application/xml,image/svg+xml"),
+    PRECOMPRESSED_CACHE_SIZE("1000"),
+    LIMIT_NONE("-1"),
+    LIMIT_ADAPTIVE_INITIAL("20"),
+    LIMIT_TOLERANCE("2.0"),
+    LIMIT_RETRY_AFTER("1"),
+    ADMIN_METRICS_PATH("/metrics"),
+    ADMIN_SLOWREQUESTS_PATH("/slowrequests"),
+    SLOWREQUESTS_THRESHOLD("-1"),
+    SLOWREQUESTS_SIZE("100"),
+    ASYNC_TIMEOUT("30000"),
+    ASYNC_TIMEOUT_STATUS("503"),
+    SCHEDULER_THREAD_POOL_CLASS("org.quartz.threadPool.class");
 
     private final String value;
 
@@ -72,6 +101,10 @@ public enum Default {
         return Long.valueOf(this.value);
     }
 
+    public double toDouble() {
+        return Double.valueOf(this.value);
+    }
+
     public boolean toBoolean() {
         return Boolean.valueOf(this.value);
     }
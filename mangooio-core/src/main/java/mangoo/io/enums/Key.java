@@ -20,6 +20,42 @@ public enum Key {
     APPLICATION_HOST("application.host"),
     APPLICATION_LANGUAGE("application.language"),
     APPLICATION_MODE("application.mode"),
+    APPLICATION_EXECUTOR("application.executor"),
+    APPLICATION_ROUTER("application.router"),
+    APPLICATION_BODY_MAXSIZE("application.body.maxsize"),
+    APPLICATION_ETAG("application.etag"),
+    APPLICATION_HTTPS_PORT("application.https.port"),
+    APPLICATION_HTTPS_KEYSTORE("application.https.keystore"),
+    APPLICATION_HTTPS_KEYSTORE_PASSWORD("application.https.keystorepassword"),
+    APPLICATION_HTTPS_KEYSTORE_TYPE("application.https.keystoretype"),
+    APPLICATION_HTTPS_KEY_PASSWORD("application.https.keypassword"),
+    APPLICATION_HTTP2("application.http2"),
+    APPLICATION_COMPRESSION("application.compression"),
+    APPLICATION_COMPRESSION_LEVEL("application.compression.level"),
+    APPLICATION_COMPRESSION_MINSIZE("application.compression.minsize"),
+    APPLICATION_COMPRESSION_TYPES("application.compression.types"),
+    APPLICATION_SERVER_IO_THREADS("application.server.iothreads"),
+    APPLICATION_SERVER_WORKER_THREADS("application.server.workerthreads"),
+    APPLICATION_SERVER_BUFFER_SIZE("application.server.buffersize"),
+    APPLICATION_SERVER_DIRECT_BUFFERS("application.server.directbuffers"),
+    APPLICATION_SERVER_BACKLOG("application.server.backlog"),
+    APPLICATION_SERVER_KEEP_ALIVE("application.server.keepalive"),
+    APPLICATION_SERVER_IDLE_TIMEOUT("application.server.idletimeout"),
+    APPLICATION_SERVER_NO_REQUEST_TIMEOUT("application.server.norequesttimeout"),
+    APPLICATION_SERVER_MAX_ENTITY_SIZE("application.server.maxentitysize"),
+    APPLICATION_ASYNC_TIMEOUT("application.async.timeout"),
+    APPLICATION_ASYNC_TIMEOUT_STATUS("application.async.timeoutstatus"),
+    APPLICATION_LIMIT_GLOBAL("application.limit.global"),
+    APPLICATION_LIMIT_ROUTE("application.limit.route"),
+    APPLICATION_LIMIT_ADAPTIVE("application.limit.adaptive"),
+    APPLICATION_LIMIT_TOLERANCE("application.limit.tolerance"),
+    APPLICATION_LIMIT_RETRY_AFTER("application.limit.retryafter"),
+    APPLICATION_ADMIN_URL("application.admin.url"),
+    APPLICATION_ADMIN_USERNAME("application.admin.username"),
+    APPLICATION_ADMIN_PASSWORD("application.admin.password"),
+    APPLICATION_SLOWREQUESTS_THRESHOLD("application.slowrequests.threshold"),
+    APPLICATION_SLOWREQUESTS_SIZE("application.slowrequests.size"),
+    APPLICATION_SLOWREQUESTS_QUERY("application.slowrequests.query"),
     AUTH_COOKIE_NAME("auth.cookie.name"),
     AUTH_REDIRECT("auth.redirect"),
     AUTH_COOKIE_ENCRYPT("auth.cookie.encrypt"),
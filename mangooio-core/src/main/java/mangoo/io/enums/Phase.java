@@ -0,0 +1,30 @@
+package mangoo.io.enums;
+
+/**
+ * Phases of a request in the request handler, in the order they are executed
+ *
+ * @author svenkubiak
+ *
+ */
+public enum Phase {
+    LOCALE("locale"),
+    SESSION("session"),
+    AUTHENTICATION("auth"),
+    FLASH("flash"),
+    FORM("form"),
+    FILTERS("filters"),
+    INVOKE("invoke"),
+    RENDER("render"),
+    COMMIT("commit");
+
+    private final String value;
+
+    Phase (String value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return this.value;
+    }
+}
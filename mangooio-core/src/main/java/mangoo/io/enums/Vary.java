@@ -0,0 +1,11 @@
+package mangoo.io.enums;
+
+/**
+ * Parts of a request a cached response can depend on
+ *
+ * @author svenkubiak
+ *
+ */
+public enum Vary {
+    QUERY, LOCALE, HEADER;
+}
@@ -0,0 +1,64 @@
+package mangoo.io.i18n;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import mangoo.io.enums.Default;
+
+/**
+ * Resolves the locale of a request from its Accept-Language header, taking q-values
+ * into account. As browsers send only a handful of distinct headers, the resolved
+ * locale is cached by the raw header value.
+ *
+ * @author svenkubiak
+ *
+ */
+@Singleton
+public class LocaleResolver {
+    private final Cache<String, Locale> cache = CacheBuilder.newBuilder().maximumSize(Default.LOCALE_CACHE_SIZE.toLong()).build();
+    private final Messages messages;
+
+    @Inject
+    public LocaleResolver(Messages messages) {
+        this.messages = messages;
+    }
+
+    /**
+     * Resolves the best matching locale for a given Accept-Language header
+     *
+     * @param acceptLanguage The value of the Accept-Language header, may be null
+     * @return The best matching supported locale or the default locale if none matches
+     */
+    public Locale resolve(String acceptLanguage) {
+        if (StringUtils.isBlank(acceptLanguage)) {
+            return this.messages.getDefaultLocale();
+        }
+
+        Locale locale = this.cache.getIfPresent(acceptLanguage);
+        if (locale == null) {
+            locale = lookup(acceptLanguage);
+            this.cache.put(acceptLanguage, locale);
+        }
+
+        return locale;
+    }
+
+    private Locale lookup(String acceptLanguage) {
+        Locale locale = null;
+        try {
+            List<Locale.LanguageRange> languageRanges = Locale.LanguageRange.parse(acceptLanguage);
+            locale = Locale.lookup(languageRanges, this.messages.getLocales());
+        } catch (IllegalArgumentException e) { //NOSONAR
+            //intentionally left blank, as malformed headers fall back to the default locale
+        }
+
+        return (locale == null) ? this.messages.getDefaultLocale() : locale;
+    }
+}
@@ -1,75 +1,183 @@
 package mangoo.io.i18n;
 
 import java.text.MessageFormat;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.Set;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
+import mangoo.io.configuration.Config;
 import mangoo.io.enums.Default;
 import mangoo.io.enums.Key;
 import mangoo.io.enums.Validation;
 
 /**
+ * Holds the translations of the application. All messages_xx.properties are loaded once
+ * at startup into an immutable map per locale, so looking up a translation does neither
+ * reload a resource bundle nor lock.
  *
  * @author skubiak
  *
  */
 @Singleton
 public class Messages {
-    private Map<String, String> defaults = new HashMap<String, String>();
-    private ResourceBundle bundle;
-    private Locale locale;
-
-    public Messages() {
-        this.bundle = ResourceBundle.getBundle(Default.BUNDLE_NAME.toString(), Locale.getDefault());
-
-        defaults.put(Key.FORM_REQUIRED.toString(), Validation.REQUIRED.toString());
-        defaults.put(Key.FORM_MIN.toString(), Validation.MIN.toString());
-        defaults.put(Key.FORM_MAX.toString(), Validation.MAX.toString());
-        defaults.put(Key.FORM_EXACT_MATCH.toString(), Validation.EXACT_MATCH.toString());
-        defaults.put(Key.FORM_MATCH.toString(), Validation.MATCH.toString());
-        defaults.put(Key.FORM_EMAIL.toString(), Validation.EMAIL.toString());
-        defaults.put(Key.FORM_IPV4.toString(), Validation.IPV4.toString());
-        defaults.put(Key.FORM_IPV6.toString(), Validation.IPV6.toString());
-        defaults.put(Key.FORM_RANGE.toString(), Validation.RANGE.toString());
-        defaults.put(Key.FORM_URL.toString(), Validation.URL.toString());
+    private static final Logger LOG = LoggerFactory.getLogger(Messages.class);
+    private static final ResourceBundle.Control CONTROL = ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+    private final Map<String, String> defaults;
+    private final Locale defaultLocale;
+    private volatile Map<Locale, Map<String, String>> translations;
+    private volatile Map<String, String> defaultTranslations;
+    private volatile Set<Locale> locales;
+
+    @Inject
+    public Messages(Config config) {
+        Map<String, String> validations = new HashMap<String, String>();
+        validations.put(Key.FORM_REQUIRED.toString(), Validation.REQUIRED.toString());
+        validations.put(Key.FORM_MIN.toString(), Validation.MIN.toString());
+        validations.put(Key.FORM_MAX.toString(), Validation.MAX.toString());
+        validations.put(Key.FORM_EXACT_MATCH.toString(), Validation.EXACT_MATCH.toString());
+        validations.put(Key.FORM_MATCH.toString(), Validation.MATCH.toString());
+        validations.put(Key.FORM_EMAIL.toString(), Validation.EMAIL.toString());
+        validations.put(Key.FORM_IPV4.toString(), Validation.IPV4.toString());
+        validations.put(Key.FORM_IPV6.toString(), Validation.IPV6.toString());
+        validations.put(Key.FORM_RANGE.toString(), Validation.RANGE.toString());
+        validations.put(Key.FORM_URL.toString(), Validation.URL.toString());
+        this.defaults = Collections.unmodifiableMap(validations);
+        this.defaultLocale = Locale.forLanguageTag(config.getString(Key.APPLICATION_LANGUAGE, Default.LANGUAGE.toString()));
+
+        preload();
     }
 
     /**
-     * Refreshes the resource bundle by reloading the bundle with the default locale
+     * Loads all messages_xx.properties into an immutable map per locale
      */
+    private void preload() {
+        Map<Locale, Map<String, String>> bundles = new HashMap<Locale, Map<String, String>>();
+        Set<Locale> supported = new LinkedHashSet<Locale>();
+        ClassLoader classLoader = this.getClass().getClassLoader();
+        for (Locale locale : Locale.getAvailableLocales()) {
+            if (!Locale.ROOT.equals(locale) && classLoader.getResource(Default.BUNDLE_NAME.toString() + "_" + locale.toString() + ".properties") != null) {
+                bundles.put(locale, load(locale));
+                supported.add(locale);
+            }
+        }
+
+        this.translations = Collections.unmodifiableMap(bundles);
+        Map<String, String> fallback = bundles.get(this.defaultLocale);
+        this.defaultTranslations = (fallback == null) ? load(Locale.ROOT) : fallback;
+        this.locales = Collections.unmodifiableSet(supported);
+
+        LOG.info("Loaded translations for {}", this.locales);
+    }
+
+    /**
+     * Loads all messages_xx.properties again
+     *
+     * @deprecated Translations are loaded once at startup and looked up by the locale of each
+     * request, so calling this method is no longer required. It only picks up changed
+     * messages_xx.properties and will be removed in a future version.
+     */
+    @Deprecated
     public void reload() {
-        if (!Locale.getDefault().equals(this.locale)) {
-            this.locale = Locale.getDefault();
-            this.bundle = ResourceBundle.getBundle(Default.BUNDLE_NAME.toString(), Locale.getDefault());
+        ResourceBundle.clearCache(this.getClass().getClassLoader());
+        preload();
+    }
+
+    private static Map<String, String> load(Locale locale) {
+        Map<String, String> values = new HashMap<String, String>();
+        try {
+            ResourceBundle bundle = ResourceBundle.getBundle(Default.BUNDLE_NAME.toString(), locale, CONTROL);
+            for (String key : bundle.keySet()) {
+                values.put(key, bundle.getString(key));
+            }
+        } catch (MissingResourceException e) { //NOSONAR
+            //intentionally left blank
         }
+
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * @return All locales for which a messages_xx.properties exists
+     */
+    public Set<Locale> getLocales() {
+        return this.locales;
+    }
+
+    /**
+     * @return The locale configured in application.language
+     */
+    public Locale getDefaultLocale() {
+        return this.defaultLocale;
+    }
+
+    private Map<String, String> getTranslations(Locale locale) {
+        if (locale == null) {
+            return this.defaultTranslations;
+        }
+
+        Map<String, String> values = this.translations.get(locale);
+        return (values == null) ? this.defaultTranslations : values;
     }
 
     /**
-     * Returns a localized value for a given key stored in messages_xx.properties
+     * Returns a localized value for a given key stored in messages_xx.properties of the default language
      *
      * @param key The key to look up the localized value
-     * @return The localized value or an empty value if the given key is not configured
+     * @return The localized value or the key if the given key is not configured
      */
     public String get(String key) {
-        return this.bundle.getString(key);
+        return get(this.defaultLocale, key);
+    }
+
+    /**
+     * Returns a localized value for a given key stored in messages_xx.properties of the given locale
+     *
+     * @param locale The locale of the request
+     * @param key The key to look up the localized value
+     * @return The localized value or the key if the given key is not configured
+     */
+    public String get(Locale locale, String key) {
+        String value = getTranslations(locale).get(key);
+        return (value == null) ? key : value;
     }
 
     /**
-     * Returns a localized value for a given key stored in messages_xx.properties and passing the
-     * given arguments
+     * Returns a localized value for a given key stored in messages_xx.properties of the default language
+     * and passing the given arguments
      *
      * @param key The key to look up the localized value
      * @param arguments The arguments to use
      * @return The localized value or null value if the given key is not configured
      */
-    @SuppressWarnings("all")
     public String get(String key, Object... arguments) {
-        if (this.bundle.containsKey(key)) {
-            return MessageFormat.format(this.bundle.getString(key), arguments);
+        return get(this.defaultLocale, key, arguments);
+    }
+
+    /**
+     * Returns a localized value for a given key stored in messages_xx.properties of the given locale
+     * and passing the given arguments
+     *
+     * @param locale The locale of the request
+     * @param key The key to look up the localized value
+     * @param arguments The arguments to use
+     * @return The localized value or an empty value if the given key is not configured
+     */
+    @SuppressWarnings("all")
+    public String get(Locale locale, String key, Object... arguments) {
+        String value = getTranslations(locale).get(key);
+        if (value != null) {
+            return MessageFormat.format(value, arguments);
         } else if (this.defaults.containsKey(key)) {
             return MessageFormat.format(this.defaults.get(key), arguments);
         }
@@ -78,14 +186,27 @@ public class Messages {
     }
 
     /**
-     * Returns a localized value for a given key stored in messages_xx.properties and passing the
-     * given arguments
+     * Returns a localized value for a given key stored in messages_xx.properties of the default language
+     * and passing the given arguments
      *
      * @param key The key enum to lookup up the localized value
      * @param arguments The arguments to use
      * @return The localized value or null value if the given key is not configured
      */
     public String get(Key key, Object... arguments) {
-        return get(key.toString(), arguments);
+        return get(this.defaultLocale, key.toString(), arguments);
+    }
+
+    /**
+     * Returns a localized value for a given key stored in messages_xx.properties of the given locale
+     * and passing the given arguments
+     *
+     * @param locale The locale of the request
+     * @param key The key enum to lookup up the localized value
+     * @param arguments The arguments to use
+     * @return The localized value or an empty value if the given key is not configured
+     */
+    public String get(Locale locale, Key key, Object... arguments) {
+        return get(locale, key.toString(), arguments);
     }
-}
\ No newline at end of file
+}
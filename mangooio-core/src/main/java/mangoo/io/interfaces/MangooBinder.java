@@ -0,0 +1,24 @@
+package mangoo.io.interfaces;
+
+import java.io.IOException;
+
+import mangoo.io.routing.RequestContext;
+
+/**
+ *
+ * @author svenkubiak
+ *
+ */
+@FunctionalInterface
+public interface MangooBinder {
+    /**
+     * Binds the value of a controller method parameter from the current request
+     *
+     * @param context The context of the current request
+     * @param name The name of the controller method parameter
+     * @return The value to pass to the controller method
+     *
+     * @throws IOException If reading the request fails
+     */
+    public Object bind(RequestContext context, String name) throws IOException;
+}
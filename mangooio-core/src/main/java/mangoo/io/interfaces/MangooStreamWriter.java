@@ -0,0 +1,21 @@
+package mangoo.io.interfaces;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ *
+ * @author svenkubiak
+ *
+ */
+@FunctionalInterface
+public interface MangooStreamWriter {
+    /**
+     * Writes the body of a streamed response. Everything written is sent to the client
+     * in chunks, without materializing the complete body in memory.
+     *
+     * @param writer The writer to write the body of the response to
+     * @throws IOException If writing to the client fails
+     */
+    public void write(Writer writer) throws IOException;
+}
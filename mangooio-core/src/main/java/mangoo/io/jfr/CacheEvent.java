@@ -0,0 +1,54 @@
+package mangoo.io.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Lookup or store of a value in the cache
+ *
+ * @author svenkubiak
+ *
+ */
+@Name("mangooio.Cache")
+@Label("Cache")
+@Description("Lookup or store of a value in the cache")
+@Category({"mangoo I/O", "Cache"})
+public class CacheEvent extends Event {
+    public static final String GET = "get";
+    public static final String PUT = "put";
+    private static final EventType TYPE = EventType.getEventType(CacheEvent.class);
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Key")
+    private String key;
+
+    @Label("Hit")
+    @Description("True if a lookup found a value, always false for a store")
+    private boolean hit;
+
+    public static CacheEvent start() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+
+        CacheEvent event = new CacheEvent();
+        event.begin();
+
+        return event;
+    }
+
+    public void finish(String operation, String key, boolean hit) {
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.key = key;
+            this.hit = hit;
+            commit();
+        }
+    }
+}
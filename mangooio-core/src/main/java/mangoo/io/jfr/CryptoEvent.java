@@ -0,0 +1,50 @@
+package mangoo.io.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Encryption or decryption of a value
+ *
+ * @author svenkubiak
+ *
+ */
+@Name("mangooio.Crypto")
+@Label("Crypto")
+@Description("Encryption or decryption of a value")
+@Category({"mangoo I/O", "Crypto"})
+public class CryptoEvent extends Event {
+    public static final String ENCRYPT = "encrypt";
+    public static final String DECRYPT = "decrypt";
+    private static final EventType TYPE = EventType.getEventType(CryptoEvent.class);
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Input Length")
+    @Description("The number of characters of the encrypted or decrypted input")
+    private int inputLength;
+
+    public static CryptoEvent start() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+
+        CryptoEvent event = new CryptoEvent();
+        event.begin();
+
+        return event;
+    }
+
+    public void finish(String operation, int inputLength) {
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.inputLength = inputLength;
+            commit();
+        }
+    }
+}
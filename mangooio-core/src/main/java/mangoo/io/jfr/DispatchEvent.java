@@ -0,0 +1,51 @@
+package mangoo.io.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A request from the moment it is dispatched to its route until the exchange is completed
+ *
+ * @author svenkubiak
+ *
+ */
+@Name("mangooio.Dispatch")
+@Label("Request")
+@Description("A request from dispatch until the exchange is completed")
+@Category({"mangoo I/O", "Requests"})
+public class DispatchEvent extends Event {
+    private static final EventType TYPE = EventType.getEventType(DispatchEvent.class);
+
+    @Label("Route")
+    private String route;
+
+    @Label("URI")
+    private String uri;
+
+    @Label("Status Code")
+    private int statusCode;
+
+    public static DispatchEvent start() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+
+        DispatchEvent event = new DispatchEvent();
+        event.begin();
+
+        return event;
+    }
+
+    public void finish(String route, String uri, int statusCode) {
+        if (shouldCommit()) {
+            this.route = route;
+            this.uri = uri;
+            this.statusCode = statusCode;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package mangoo.io.jfr;
+
+/**
+ * Checks once whether the JDK Flight Recorder API is available. mangoo I/O is compiled
+ * for Java 8, but jdk.jfr only exists from Java 11 and 8u262 on, so every event class
+ * of this package must only be touched if {@link #AVAILABLE} is true. The start method of
+ * every event returns null while the event is not enabled in any recording, so no event
+ * is allocated then and the remaining cost is a check of the event type per call.
+ *
+ * @author svenkubiak
+ *
+ */
+public final class JfrSupport {
+    public static final boolean AVAILABLE = isAvailable();
+
+    private JfrSupport() {
+    }
+
+    private static boolean isAvailable() {
+        boolean available = false;
+        try {
+            Class.forName("jdk.jfr.Event");
+            available = true;
+        } catch (ClassNotFoundException e) { //NOSONAR
+            //intentionally left blank
+        }
+
+        return available;
+    }
+}
@@ -0,0 +1,51 @@
+package mangoo.io.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Execution of a scheduled job
+ *
+ * @author svenkubiak
+ *
+ */
+@Name("mangooio.Job")
+@Label("Job Execution")
+@Description("Execution of a scheduled job")
+@Category({"mangoo I/O", "Scheduler"})
+public class JobEvent extends Event {
+    private static final EventType TYPE = EventType.getEventType(JobEvent.class);
+
+    @Label("Job")
+    private String job;
+
+    @Label("Job Class")
+    private String jobClass;
+
+    @Label("Successful")
+    private boolean successful;
+
+    public static JobEvent start() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+
+        JobEvent event = new JobEvent();
+        event.begin();
+
+        return event;
+    }
+
+    public void finish(String job, String jobClass, boolean successful) {
+        if (shouldCommit()) {
+            this.job = job;
+            this.jobClass = jobClass;
+            this.successful = successful;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package mangoo.io.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Sending of an email through the SMTP server
+ *
+ * @author svenkubiak
+ *
+ */
+@Name("mangooio.Mail")
+@Label("Mail")
+@Description("Sending of an email through the SMTP server")
+@Category({"mangoo I/O", "Mail"})
+public class MailEvent extends Event {
+    private static final EventType TYPE = EventType.getEventType(MailEvent.class);
+
+    @Label("Type")
+    private String type;
+
+    @Label("Recipients")
+    private int recipients;
+
+    @Label("Successful")
+    private boolean successful;
+
+    public static MailEvent start() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+
+        MailEvent event = new MailEvent();
+        event.begin();
+
+        return event;
+    }
+
+    public void finish(String type, int recipients, boolean successful) {
+        if (shouldCommit()) {
+            this.type = type;
+            this.recipients = recipients;
+            this.successful = successful;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package mangoo.io.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Rendering of a template by the template engine
+ *
+ * @author svenkubiak
+ *
+ */
+@Name("mangooio.Render")
+@Label("Template Rendering")
+@Description("Rendering of a template by the template engine")
+@Category({"mangoo I/O", "Templates"})
+public class RenderEvent extends Event {
+    private static final EventType TYPE = EventType.getEventType(RenderEvent.class);
+
+    @Label("Template")
+    private String template;
+
+    @Label("Output Size")
+    @Description("The number of characters of the rendered template")
+    private int outputSize;
+
+    public static RenderEvent start() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+
+        RenderEvent event = new RenderEvent();
+        event.begin();
+
+        return event;
+    }
+
+    public void finish(String template, int outputSize) {
+        if (shouldCommit()) {
+            this.template = template;
+            this.outputSize = outputSize;
+            commit();
+        }
+    }
+}
@@ -15,6 +15,8 @@ import com.google.inject.Singleton;
 import mangoo.io.configuration.Config;
 import mangoo.io.enums.Default;
 import mangoo.io.enums.Key;
+import mangoo.io.jfr.JfrSupport;
+import mangoo.io.jfr.MailEvent;
 
 /**
  *
@@ -58,11 +60,18 @@ public class Mailer {
         email.setAuthenticator(this.defaultAuthenticator);
         email.setSSLOnConnect(this.ssl);
 
+        MailEvent event = JfrSupport.AVAILABLE ? MailEvent.start() : null;
+        boolean successful = false;
         try {
             email.send();
+            successful = true;
         } catch (EmailException e) {
             LOG.error("Failed to send SimpleEmail", e);
         }
+
+        if (event != null) {
+            event.finish(email.getClass().getSimpleName(), getRecipients(email), successful);
+        }
     }
 
     /**
@@ -78,11 +87,18 @@ public class Mailer {
         multiPartEmail.setAuthenticator(this.defaultAuthenticator);
         multiPartEmail.setSSLOnConnect(this.ssl);
 
+        MailEvent event = JfrSupport.AVAILABLE ? MailEvent.start() : null;
+        boolean successful = false;
         try {
             multiPartEmail.send();
+            successful = true;
         } catch (EmailException e) {
             LOG.error("Failed to send MultiPartEmail", e);
         }
+
+        if (event != null) {
+            event.finish(multiPartEmail.getClass().getSimpleName(), getRecipients(multiPartEmail), successful);
+        }
     }
 
     /**
@@ -98,10 +114,21 @@ public class Mailer {
         htmlEmail.setAuthenticator(this.defaultAuthenticator);
         htmlEmail.setSSLOnConnect(this.ssl);
 
+        MailEvent event = JfrSupport.AVAILABLE ? MailEvent.start() : null;
+        boolean successful = false;
         try {
             htmlEmail.send();
+            successful = true;
         } catch (EmailException e) {
             LOG.error("Failed to send HtmlEmail", e);
         }
+
+        if (event != null) {
+            event.finish(htmlEmail.getClass().getSimpleName(), getRecipients(htmlEmail), successful);
+        }
+    }
+
+    private static int getRecipients(Email email) {
+        return email.getToAddresses().size() + email.getCcAddresses().size() + email.getBccAddresses().size();
     }
-}
\ No newline at end of file
+}
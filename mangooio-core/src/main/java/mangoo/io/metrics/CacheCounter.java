@@ -0,0 +1,51 @@
+package mangoo.io.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free hit, miss and skip counters of a single cached controller method
+ *
+ * @author svenkubiak
+ *
+ */
+public class CacheCounter {
+    private final String name;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder skips = new LongAdder();
+
+    public CacheCounter(String name) {
+        this.name = name;
+    }
+
+    public void hit() {
+        this.hits.increment();
+    }
+
+    public void miss() {
+        this.misses.increment();
+    }
+
+    /**
+     * Records a response which was not cached, e.g. because it sets a cookie
+     */
+    public void skip() {
+        this.skips.increment();
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    public long getSkips() {
+        return this.skips.sum();
+    }
+}
@@ -0,0 +1,36 @@
+package mangoo.io.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.inject.Singleton;
+
+/**
+ * Timing counters of all global, controller and method filters, keyed by the
+ * class name of the filter
+ *
+ * @author svenkubiak
+ *
+ */
+@Singleton
+public class FilterMetrics {
+    private Map<String, FilterTimer> timers = new ConcurrentHashMap<String, FilterTimer>();
+
+    /**
+     * Retrieves the timer for a given filter class, creating it if it does not exist
+     *
+     * @param filterClass The class of the filter
+     * @return The timer of the filter
+     */
+    public FilterTimer getTimer(Class<?> filterClass) {
+        return this.timers.computeIfAbsent(filterClass.getName(), FilterTimer::new);
+    }
+
+    /**
+     * @return An unmodifiable view of all filter timers, keyed by the class name of the filter
+     */
+    public Map<String, FilterTimer> getTimers() {
+        return Collections.unmodifiableMap(this.timers);
+    }
+}
@@ -0,0 +1,59 @@
+package mangoo.io.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free invocation and timing counters of a single filter
+ *
+ * @author svenkubiak
+ *
+ */
+public class FilterTimer {
+    private final String name;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    public FilterTimer(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records a single execution of the filter
+     *
+     * @param nanos The execution time of the filter in nanoseconds
+     * @param continued True if the filter continued the request, false if it stopped the request
+     */
+    public void record(long nanos, boolean continued) {
+        this.invocations.increment();
+        this.totalNanos.add(nanos);
+        if (!continued) {
+            this.rejections.increment();
+        }
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public long getInvocations() {
+        return this.invocations.sum();
+    }
+
+    public long getRejections() {
+        return this.rejections.sum();
+    }
+
+    public long getTotalTime(TimeUnit timeUnit) {
+        return timeUnit.convert(this.totalNanos.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return The average execution time of the filter in nanoseconds or 0 if the filter was not executed yet
+     */
+    public long getAverageNanos() {
+        long count = this.invocations.sum();
+        return (count == 0) ? 0 : this.totalNanos.sum() / count;
+    }
+}
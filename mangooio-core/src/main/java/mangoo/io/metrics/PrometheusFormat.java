@@ -0,0 +1,77 @@
+package mangoo.io.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the request metrics of all routes in the Prometheus text exposition format
+ *
+ * @author svenkubiak
+ *
+ */
+public final class PrometheusFormat {
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double [] QUANTILES = {0.5, 0.99, 0.999};
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final int STATUS_CLASSES = 5;
+
+    private PrometheusFormat() {
+    }
+
+    /**
+     * Writes the request metrics of all routes
+     *
+     * @param requestMetrics The request metrics to write
+     * @return The metrics in the Prometheus text format
+     */
+    public static String write(RequestMetrics requestMetrics) {
+        Map<String, RouteMetrics> routes = new TreeMap<String, RouteMetrics>(requestMetrics.getRoutes());
+        StringBuilder buffer = new StringBuilder();
+
+        header(buffer, "mangooio_requests_total", "counter", "Total number of requests by route and status class");
+        routes.forEach((name, route) -> {
+            for (int statusClass = 1; statusClass <= STATUS_CLASSES; statusClass++) {
+                long count = route.getStatusCodes(statusClass);
+                if (count > 0) {
+                    sample(buffer, "mangooio_requests_total", name, "status=\"" + statusClass + "xx\"", count);
+                }
+            }
+        });
+
+        header(buffer, "mangooio_request_errors_total", "counter", "Total number of requests answered with a 5xx status code");
+        routes.forEach((name, route) -> sample(buffer, "mangooio_request_errors_total", name, null, route.getErrors()));
+
+        header(buffer, "mangooio_requests_per_second", "gauge", "Average number of requests per second since start");
+        routes.forEach((name, route) -> sample(buffer, "mangooio_requests_per_second", name, null, requestMetrics.getThroughput(name)));
+
+        header(buffer, "mangooio_request_duration_seconds", "summary", "Request latency by route");
+        routes.forEach((name, route) -> {
+            LatencyHistogram latencies = route.getLatencies();
+            for (double quantile : QUANTILES) {
+                sample(buffer, "mangooio_request_duration_seconds", name, "quantile=\"" + quantile + "\"", latencies.getPercentile(quantile * 100) / NANOS_PER_SECOND);
+            }
+            sample(buffer, "mangooio_request_duration_seconds_sum", name, null, latencies.getSum() / NANOS_PER_SECOND);
+            sample(buffer, "mangooio_request_duration_seconds_count", name, null, latencies.getCount());
+        });
+
+        return buffer.toString();
+    }
+
+    private static void header(StringBuilder buffer, String metric, String type, String help) {
+        buffer.append("# HELP ").append(metric).append(' ').append(help).append('\n');
+        buffer.append("# TYPE ").append(metric).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder buffer, String metric, String route, String label, Object value) {
+        buffer.append(metric).append("{route=\"").append(escape(route)).append('"');
+        if (label != null) {
+            buffer.append(',').append(label);
+        }
+        buffer.append("} ").append(value).append('\n');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,66 @@
+package mangoo.io.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.google.inject.Singleton;
+
+/**
+ * Request metrics of all routes, keyed by request method and URL of the route,
+ * e.g. "GET /user/{id}"
+ *
+ * @author svenkubiak
+ *
+ */
+@Singleton
+public class RequestMetrics {
+    private final Map<String, RouteMetrics> routes = new ConcurrentHashMap<String, RouteMetrics>();
+    private final long started = System.nanoTime();
+
+    /**
+     * Retrieves the metrics of a given route, creating them if they do not exist
+     *
+     * @param name The request method and URL of the route, e.g. "GET /user/{id}"
+     * @return The metrics of the route
+     */
+    public RouteMetrics getRouteMetrics(String name) {
+        return this.routes.computeIfAbsent(name, RouteMetrics::new);
+    }
+
+    /**
+     * @return An unmodifiable view of the metrics of all routes, keyed by request method and URL
+     */
+    public Map<String, RouteMetrics> getRoutes() {
+        return Collections.unmodifiableMap(this.routes);
+    }
+
+    /**
+     * @return The total number of requests of all routes
+     */
+    public long getRequests() {
+        return this.routes.values().stream().mapToLong(RouteMetrics::getRequests).sum();
+    }
+
+    /**
+     * @return The average number of requests per second of all routes since the application started
+     */
+    public double getThroughput() {
+        return getThroughput(getRequests());
+    }
+
+    /**
+     * @param name The request method and URL of the route
+     * @return The average number of requests per second of the route since the application started
+     */
+    public double getThroughput(String name) {
+        RouteMetrics routeMetrics = this.routes.get(name);
+        return (routeMetrics == null) ? 0 : getThroughput(routeMetrics.getRequests());
+    }
+
+    private double getThroughput(long requests) {
+        double seconds = (double) (System.nanoTime() - this.started) / TimeUnit.SECONDS.toNanos(1);
+        return (seconds <= 0) ? 0 : requests / seconds;
+    }
+}
@@ -0,0 +1,118 @@
+package mangoo.io.metrics;
+
+import mangoo.io.enums.Phase;
+
+/**
+ * Time spent in each phase of a single request, taken from monotonic timestamps.
+ * Decoding and encoding the session, authentication and flash cookies happens lazily
+ * within other phases, so it is recorded as a nested phase and subtracted from the
+ * enclosing phase. Disabled timings do not read the clock at all, so the request
+ * handler can use them unconditionally.
+ *
+ * @author svenkubiak
+ *
+ */
+public class RequestTimings {
+    public static final RequestTimings DISABLED = new RequestTimings(false);
+    private static final Phase [] PHASES = Phase.values();
+    private final long [] phases = new long[PHASES.length];
+    private final boolean enabled;
+    private final long started;
+    private long nested;
+    private long nestedAtStart;
+    private long committing;
+
+    public RequestTimings() {
+        this(true);
+    }
+
+    private RequestTimings(boolean enabled) {
+        this.enabled = enabled;
+        this.started = enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * @return The current timestamp in nanoseconds to pass to {@link #stop(Phase, long)}, or 0 if timings are disabled
+     */
+    public long start() {
+        if (!this.enabled) {
+            return 0;
+        }
+
+        this.nestedAtStart = this.nested;
+        return System.nanoTime();
+    }
+
+    /**
+     * Adds the time elapsed since the given timestamp to a phase, without the time
+     * of nested phases in between
+     *
+     * @param phase The phase to add the time to
+     * @param start The timestamp returned by {@link #start()}
+     */
+    public void stop(Phase phase, long start) {
+        if (this.enabled) {
+            this.phases[phase.ordinal()] += System.nanoTime() - start - (this.nested - this.nestedAtStart);
+        }
+    }
+
+    /**
+     * @return The current timestamp in nanoseconds to pass to {@link #stopNested(Phase, long)}, or 0 if timings are disabled
+     */
+    public long startNested() {
+        return this.enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Adds the time elapsed since the given timestamp to a nested phase. A nested phase
+     * may be stopped several times per request, e.g. for decoding and encoding the session.
+     *
+     * @param phase The phase to add the time to
+     * @param start The timestamp returned by {@link #startNested()}
+     */
+    public void stopNested(Phase phase, long start) {
+        if (this.enabled) {
+            long elapsed = System.nanoTime() - start;
+            this.phases[phase.ordinal()] += elapsed;
+            this.nested += elapsed;
+        }
+    }
+
+    /**
+     * Marks the start of the commit phase, once the response is handed to the exchange
+     */
+    public void commit() {
+        if (this.enabled) {
+            this.committing = System.nanoTime();
+        }
+    }
+
+    /**
+     * Ends the commit phase, once the exchange is completed
+     */
+    public void complete() {
+        if (this.enabled && this.committing > 0) {
+            this.phases[Phase.COMMIT.ordinal()] += System.nanoTime() - this.committing;
+            this.committing = 0;
+        }
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    /**
+     * @return The timestamp in nanoseconds when the request handler started processing the request
+     */
+    public long getStarted() {
+        return this.started;
+    }
+
+    /**
+     * @param phase The phase to get the time for
+     * @return The time spent in the given phase in nanoseconds
+     */
+    public long getNanos(Phase phase) {
+        return this.phases[phase.ordinal()];
+    }
+}
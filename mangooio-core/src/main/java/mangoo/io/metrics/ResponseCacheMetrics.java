@@ -0,0 +1,51 @@
+package mangoo.io.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.inject.Singleton;
+
+/**
+ * Hit, miss and skip counters of all controller methods annotated with
+ * CacheResponse, keyed by controller class and method name
+ *
+ * @author svenkubiak
+ *
+ */
+@Singleton
+public class ResponseCacheMetrics {
+    private Map<String, CacheCounter> counters = new ConcurrentHashMap<String, CacheCounter>();
+
+    /**
+     * Retrieves the counter for a given controller method, creating it if it does not exist
+     *
+     * @param controllerClass The class of the controller
+     * @param controllerMethod The name of the controller method
+     * @return The counter of the controller method
+     */
+    public CacheCounter getCounter(Class<?> controllerClass, String controllerMethod) {
+        return this.counters.computeIfAbsent(controllerClass.getName() + "." + controllerMethod, CacheCounter::new);
+    }
+
+    /**
+     * @return An unmodifiable view of all counters, keyed by controller class and method name
+     */
+    public Map<String, CacheCounter> getCounters() {
+        return Collections.unmodifiableMap(this.counters);
+    }
+
+    /**
+     * @return The number of responses served from the cache for all controller methods
+     */
+    public long getHits() {
+        return this.counters.values().stream().mapToLong(CacheCounter::getHits).sum();
+    }
+
+    /**
+     * @return The number of responses not found in the cache for all controller methods
+     */
+    public long getMisses() {
+        return this.counters.values().stream().mapToLong(CacheCounter::getMisses).sum();
+    }
+}
@@ -0,0 +1,68 @@
+package mangoo.io.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency, status code and error counters of a single route
+ *
+ * @author svenkubiak
+ *
+ */
+public class RouteMetrics {
+    private static final int STATUS_CLASSES = 6;
+    private static final int SERVER_ERROR = 500;
+    private final String name;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LongAdder [] statusCodes = new LongAdder[STATUS_CLASSES];
+    private final LongAdder errors = new LongAdder();
+
+    public RouteMetrics(String name) {
+        this.name = name;
+        for (int i = 0; i < STATUS_CLASSES; i++) {
+            this.statusCodes[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a single completed request of the route
+     *
+     * @param nanos The time in nanoseconds it took to complete the request
+     * @param statusCode The status code of the response
+     */
+    public void record(long nanos, int statusCode) {
+        this.latencies.record(nanos);
+
+        int statusClass = statusCode / 100;
+        this.statusCodes[(statusClass > 0 && statusClass < STATUS_CLASSES) ? statusClass : 0].increment();
+        if (statusCode >= SERVER_ERROR) {
+            this.errors.increment();
+        }
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public LatencyHistogram getLatencies() {
+        return this.latencies;
+    }
+
+    public long getRequests() {
+        return this.latencies.getCount();
+    }
+
+    /**
+     * @param statusClass The class of status codes, e.g. 2 for 2xx
+     * @return The number of responses with a status code of the given class
+     */
+    public long getStatusCodes(int statusClass) {
+        return (statusClass > 0 && statusClass < STATUS_CLASSES) ? this.statusCodes[statusClass].sum() : 0;
+    }
+
+    /**
+     * @return The number of responses with a 5xx status code
+     */
+    public long getErrors() {
+        return this.errors.sum();
+    }
+}
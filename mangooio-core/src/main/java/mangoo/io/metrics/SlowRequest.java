@@ -0,0 +1,85 @@
+package mangoo.io.metrics;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import mangoo.io.enums.Phase;
+
+/**
+ * A single request which took longer than application.slowrequests.threshold, with
+ * the time spent in each phase
+ *
+ * @author svenkubiak
+ *
+ */
+public class SlowRequest {
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private final LocalDateTime timestamp;
+    private final String route;
+    private final String uri;
+    private final int statusCode;
+    private final long nanos;
+    private final Map<Phase, Long> phases;
+
+    public SlowRequest(String route, String uri, int statusCode, long nanos, RequestTimings timings) {
+        this.timestamp = LocalDateTime.now();
+        this.route = route;
+        this.uri = uri;
+        this.statusCode = statusCode;
+        this.nanos = nanos;
+
+        Map<Phase, Long> values = new EnumMap<Phase, Long>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            values.put(phase, timings.getNanos(phase));
+        }
+        this.phases = Collections.unmodifiableMap(values);
+    }
+
+    public LocalDateTime getTimestamp() {
+        return this.timestamp;
+    }
+
+    public String getRoute() {
+        return this.route;
+    }
+
+    public String getUri() {
+        return this.uri;
+    }
+
+    public int getStatusCode() {
+        return this.statusCode;
+    }
+
+    /**
+     * @return The total time of the request in nanoseconds
+     */
+    public long getNanos() {
+        return this.nanos;
+    }
+
+    /**
+     * @return The time spent in each phase in nanoseconds
+     */
+    public Map<Phase, Long> getPhases() {
+        return this.phases;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder buffer = new StringBuilder()
+                .append(this.timestamp).append(' ')
+                .append(this.route).append(' ')
+                .append(this.uri).append(' ')
+                .append(this.statusCode).append(' ')
+                .append(String.format("%.3fms", this.nanos / NANOS_PER_MILLI)).append(" [");
+
+        this.phases.forEach((phase, value) -> buffer.append(phase).append('=').append(String.format("%.3fms", value / NANOS_PER_MILLI)).append(", "));
+        buffer.setLength(buffer.length() - 2);
+
+        return buffer.append(']').toString();
+    }
+}
@@ -0,0 +1,89 @@
+package mangoo.io.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+import mangoo.io.configuration.Config;
+import mangoo.io.enums.Default;
+import mangoo.io.enums.Key;
+
+/**
+ * Logs all requests which take longer than application.slowrequests.threshold and keeps
+ * the last application.slowrequests.size of them in a lock-free ring buffer
+ *
+ * @author svenkubiak
+ *
+ */
+@Singleton
+public class SlowRequests {
+    private static final Logger LOG = LoggerFactory.getLogger(SlowRequests.class);
+    private final AtomicReferenceArray<SlowRequest> buffer;
+    private final AtomicLong index = new AtomicLong();
+    private final long thresholdNanos;
+    private final boolean query;
+
+    @Inject
+    public SlowRequests(Config config) {
+        long threshold = config.getLong(Key.APPLICATION_SLOWREQUESTS_THRESHOLD, Default.SLOWREQUESTS_THRESHOLD.toLong());
+        this.thresholdNanos = (threshold < 0) ? -1 : TimeUnit.MILLISECONDS.toNanos(threshold);
+        this.buffer = new AtomicReferenceArray<SlowRequest>(Math.max(1, config.getInt(Key.APPLICATION_SLOWREQUESTS_SIZE, Default.SLOWREQUESTS_SIZE.toInt())));
+        this.query = config.getBoolean(Key.APPLICATION_SLOWREQUESTS_QUERY, false);
+    }
+
+    /**
+     * @return True if requests are timed, false if application.slowrequests.threshold is not set
+     */
+    public boolean isEnabled() {
+        return this.thresholdNanos >= 0;
+    }
+
+    /**
+     * Records a completed request if it exceeds the threshold. The query string is only
+     * recorded if application.slowrequests.query is true, as it may contain tokens or
+     * other personal data.
+     *
+     * @param route The request method and URL of the route
+     * @param path The request path
+     * @param queryString The query string of the request, may be empty
+     * @param statusCode The status code of the response
+     * @param timings The timings of the request
+     */
+    public void record(String route, String path, String queryString, int statusCode, RequestTimings timings) {
+        long nanos = System.nanoTime() - timings.getStarted();
+        if (!isEnabled() || nanos < this.thresholdNanos) {
+            return;
+        }
+
+        String uri = (this.query && StringUtils.isNotBlank(queryString)) ? path + "?" + queryString : path;
+        SlowRequest slowRequest = new SlowRequest(route, uri, statusCode, nanos, timings);
+        this.buffer.set((int) (this.index.getAndIncrement() % this.buffer.length()), slowRequest);
+
+        LOG.warn("Slow request: {}", slowRequest);
+    }
+
+    /**
+     * @return The last slow requests, newest first
+     */
+    public List<SlowRequest> getSlowRequests() {
+        List<SlowRequest> slowRequests = new ArrayList<SlowRequest>();
+        long last = this.index.get();
+        for (long i = last - 1; i >= 0 && i >= last - this.buffer.length(); i--) {
+            SlowRequest slowRequest = this.buffer.get((int) (i % this.buffer.length()));
+            if (slowRequest != null) {
+                slowRequests.add(slowRequest);
+            }
+        }
+
+        return slowRequests;
+    }
+}
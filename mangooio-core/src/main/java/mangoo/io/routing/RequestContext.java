@@ -0,0 +1,208 @@
+package mangoo.io.routing;
+
+import java.util.Deque;
+import java.util.Locale;
+import java.util.function.Function;
+
+import io.undertow.server.HttpServerExchange;
+import mangoo.io.authentication.Authentication;
+import mangoo.io.enums.Phase;
+import mangoo.io.metrics.RequestTimings;
+import mangoo.io.routing.bindings.Body;
+import mangoo.io.routing.bindings.Exchange;
+import mangoo.io.routing.bindings.Flash;
+import mangoo.io.routing.bindings.Form;
+import mangoo.io.routing.bindings.Session;
+
+/**
+ * Holds the state of a single request while it is processed by the
+ * request handler of a route. Session, authentication and flash are
+ * decoded from their cookies on first access only, the body is read
+ * from the request at most once.
+ *
+ * @author svenkubiak
+ *
+ */
+public class RequestContext {
+    private HttpServerExchange httpServerExchange;
+    private Authentication authentication;
+    private Session session;
+    private Flash flash;
+    private Form form;
+    private Exchange exchange;
+    private Locale locale;
+    private Function<HttpServerExchange, Session> sessionDecoder;
+    private Function<HttpServerExchange, Authentication> authenticationDecoder;
+    private Function<HttpServerExchange, Flash> flashDecoder;
+    private Function<HttpServerExchange, Body> bodyDecoder;
+    private Body body;
+    private String cacheKey;
+    private String flightKey;
+    private RequestTimings timings = RequestTimings.DISABLED;
+
+    public RequestContext(HttpServerExchange httpServerExchange) {
+        this.httpServerExchange = httpServerExchange;
+    }
+
+    public RequestContext(HttpServerExchange httpServerExchange, Function<HttpServerExchange, Session> sessionDecoder,
+            Function<HttpServerExchange, Authentication> authenticationDecoder, Function<HttpServerExchange, Flash> flashDecoder,
+            Function<HttpServerExchange, Body> bodyDecoder) {
+        this.httpServerExchange = httpServerExchange;
+        this.sessionDecoder = sessionDecoder;
+        this.authenticationDecoder = authenticationDecoder;
+        this.flashDecoder = flashDecoder;
+        this.bodyDecoder = bodyDecoder;
+    }
+
+    public HttpServerExchange getHttpServerExchange() {
+        return this.httpServerExchange;
+    }
+
+    /**
+     * Retrieves the first value of a request or query parameter with the given name. Request
+     * parameters take precedence over query parameters with the same name.
+     *
+     * @param name The name of the parameter
+     * @return The value of the parameter or null if the parameter is not present
+     */
+    public String getParameter(String name) {
+        Deque<String> values = this.httpServerExchange.getPathParameters().get(name);
+        if (values == null) {
+            values = this.httpServerExchange.getQueryParameters().get(name);
+        }
+
+        return (values == null) ? null : values.peekFirst();
+    }
+
+    public Authentication getAuthentication() {
+        if (this.authentication == null && this.authenticationDecoder != null) {
+            long start = this.timings.startNested();
+            this.authentication = this.authenticationDecoder.apply(this.httpServerExchange);
+            this.timings.stopNested(Phase.AUTHENTICATION, start);
+        }
+
+        return this.authentication;
+    }
+
+    /**
+     * @return True if the authentication has been accessed or set during this request, false otherwise
+     */
+    public boolean hasAuthentication() {
+        return this.authentication != null;
+    }
+
+    public void setAuthentication(Authentication authentication) {
+        this.authentication = authentication;
+    }
+
+    public Session getSession() {
+        if (this.session == null && this.sessionDecoder != null) {
+            long start = this.timings.startNested();
+            this.session = this.sessionDecoder.apply(this.httpServerExchange);
+            this.timings.stopNested(Phase.SESSION, start);
+        }
+
+        return this.session;
+    }
+
+    /**
+     * @return True if the session has been accessed or set during this request, false otherwise
+     */
+    public boolean hasSession() {
+        return this.session != null;
+    }
+
+    public void setSession(Session session) {
+        this.session = session;
+    }
+
+    public Flash getFlash() {
+        if (this.flash == null && this.flashDecoder != null) {
+            long start = this.timings.startNested();
+            this.flash = this.flashDecoder.apply(this.httpServerExchange);
+            this.timings.stopNested(Phase.FLASH, start);
+        }
+
+        return this.flash;
+    }
+
+    /**
+     * @return True if the flash has been accessed or set during this request, false otherwise
+     */
+    public boolean hasFlash() {
+        return this.flash != null;
+    }
+
+    public void setFlash(Flash flash) {
+        this.flash = flash;
+    }
+
+    public Form getForm() {
+        return this.form;
+    }
+
+    public void setForm(Form form) {
+        this.form = form;
+    }
+
+    public Exchange getExchange() {
+        return this.exchange;
+    }
+
+    public void setExchange(Exchange exchange) {
+        this.exchange = exchange;
+    }
+
+    public Body getBody() {
+        if (this.body == null && this.bodyDecoder != null) {
+            this.body = this.bodyDecoder.apply(this.httpServerExchange);
+        }
+
+        return this.body;
+    }
+
+    public void setBody(Body body) {
+        this.body = body;
+    }
+
+    public Locale getLocale() {
+        return this.locale;
+    }
+
+    public void setLocale(Locale locale) {
+        this.locale = locale;
+    }
+
+    /**
+     * @return The key to cache the response of this request with or null if the response is not cached
+     */
+    public String getCacheKey() {
+        return this.cacheKey;
+    }
+
+    public void setCacheKey(String cacheKey) {
+        this.cacheKey = cacheKey;
+    }
+
+    /**
+     * @return The key of the coalesced requests this request executes the controller method for, or null
+     */
+    public String getFlightKey() {
+        return this.flightKey;
+    }
+
+    public void setFlightKey(String flightKey) {
+        this.flightKey = flightKey;
+    }
+
+    /**
+     * @return The timings of the phases of this request, which are disabled unless slow requests are recorded
+     */
+    public RequestTimings getTimings() {
+        return this.timings;
+    }
+
+    public void setTimings(RequestTimings timings) {
+        this.timings = timings;
+    }
+}
@@ -1,12 +1,9 @@
 package mangoo.io.routing;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.boon.json.JsonFactory;
 import org.slf4j.Logger;
@@ -17,6 +14,7 @@ import com.google.common.base.Charsets;
 import io.undertow.util.HttpString;
 import io.undertow.util.StatusCodes;
 import mangoo.io.enums.ContentType;
+import mangoo.io.interfaces.MangooStreamWriter;
 
 /**
  *
@@ -32,8 +30,11 @@ public final class Response {
     private String charset = Charsets.UTF_8.name();
     private String body = "";
     private String template;
+    private String version;
     private String binaryFileName;
     private byte[] binaryContent;
+    private File binaryFile;
+    private MangooStreamWriter streamWriter;
     private boolean binary;
     private boolean rendered;
     private boolean redirect;
@@ -66,7 +67,15 @@ public final class Response {
     }
 
     public byte[] getBinaryContent() {
-        return this.binaryContent.clone();
+        return (this.binaryContent == null) ? null : this.binaryContent.clone();
+    }
+
+    public String getVersion() {
+        return this.version;
+    }
+
+    public File getBinaryFile() {
+        return this.binaryFile;
     }
 
     public String getTemplate() {
@@ -85,6 +94,14 @@ public final class Response {
         return this.redirect;
     }
 
+    public MangooStreamWriter getStreamWriter() {
+        return this.streamWriter;
+    }
+
+    public boolean isStreamed() {
+        return this.streamWriter != null;
+    }
+
     public boolean isBinary() {
         return this.binary;
     }
@@ -265,19 +282,20 @@ public final class Response {
     }
 
     /**
-     * Sends a binary file to the client skipping rendering
+     * Sends a binary file to the client skipping rendering. The file is not read into memory
+     * but transferred directly from the file system, supporting range requests.
      *
      * @param file The file to send
      * @return A response object {@link mangoo.io.routing.Response}
      */
     public Response andBinaryFile(File file) {
-        try (FileInputStream fileInputStream = new FileInputStream(file)){
+        if (file.isFile() && file.canRead()) {
             this.binaryFileName = file.getName();
-            this.binaryContent = IOUtils.toByteArray(fileInputStream);
+            this.binaryFile = file;
             this.binary = true;
             this.rendered = true;
-        } catch (IOException e) {
-            LOG.error("Failed to handle binary file", e);
+        } else {
+            LOG.error("Failed to handle binary file " + file.getAbsolutePath());
         }
 
         return this;
@@ -313,6 +331,34 @@ public final class Response {
         return this;
     }
 
+    /**
+     * Streams the body of the response to the client skipping rendering. The body is sent in
+     * chunks while it is written, so it does not have to be kept in memory completely.
+     *
+     * @param streamWriter The callback writing the body of the response
+     * @return A response object {@link mangoo.io.routing.Response}
+     */
+    public Response andStream(MangooStreamWriter streamWriter) {
+        this.streamWriter = streamWriter;
+        this.rendered = true;
+
+        return this;
+    }
+
+    /**
+     * Sets a version of the response content, e.g. the last modification of the displayed data.
+     * If ETags are enabled, the ETag is derived from this version instead of the rendered body,
+     * so rendering is skipped completely if the client already has this version.
+     *
+     * @param version The version of the response content
+     * @return A response object {@link mangoo.io.routing.Response}
+     */
+    public Response andVersion(String version) {
+        this.version = version;
+
+        return this;
+    }
+
     /**
      * Disables template rendering, sending an empty body in the response
      *
@@ -14,6 +14,10 @@ public class Route {
     private HttpString requestMethod;
     private String url;
     private RouteType routeType;
+    private boolean nonBlocking;
+    private boolean etag;
+    private boolean coalesced;
+    private int limit;
 
     public Route(HttpString requestMethod) {
         this.routeType = RouteType.REQUEST;
@@ -63,12 +67,68 @@ public class Route {
      *
      * @param controllerClass The controller class (e.g. ApplicationController)
      * @param controllerMethod The controller method (e.g. index)
+     * @return A route object {@link mangoo.io.routing.Route}
      */
-    public void onClassAndMethod(Class<?> controllerClass, String controllerMethod) {
+    public Route onClassAndMethod(Class<?> controllerClass, String controllerMethod) {
         this.controllerClass = controllerClass;
         this.controllerMethod = controllerMethod;
 
         Router.addRoute(this);
+
+        return this;
+    }
+
+    /**
+     * Executes the request directly on the I/O thread instead of dispatching it to the
+     * worker thread pool. Only use this for controller methods which never block, e.g.
+     * redirects, health checks or small JSON responses. A non-blocking controller method
+     * can not bind a Form or a Body, and the request body is never parsed.
+     *
+     * @return A route object {@link mangoo.io.routing.Route}
+     */
+    public Route nonBlocking() {
+        this.nonBlocking = true;
+
+        return this;
+    }
+
+    /**
+     * Enables ETags for the route. Responses to GET and HEAD requests are sent with an
+     * ETag and answered with 304 Not Modified if the client already has the same version.
+     *
+     * @return A route object {@link mangoo.io.routing.Route}
+     */
+    public Route etag() {
+        this.etag = true;
+
+        return this;
+    }
+
+    /**
+     * Collapses concurrent identical GET and HEAD requests, with the same path, query string
+     * and locale, into a single execution of the controller method. All waiting requests
+     * receive the response of this execution, unless it sets a cookie. Only use this for
+     * routes whose response does not depend on the current user.
+     *
+     * @return A route object {@link mangoo.io.routing.Route}
+     */
+    public Route coalesce() {
+        this.coalesced = true;
+
+        return this;
+    }
+
+    /**
+     * Limits the number of requests to this route which are processed concurrently. Requests
+     * exceeding the limit are rejected with 503 Service Unavailable. Overrides application.limit.route.
+     *
+     * @param limit The maximum number of concurrent requests
+     * @return A route object {@link mangoo.io.routing.Route}
+     */
+    public Route limit(int limit) {
+        this.limit = limit;
+
+        return this;
     }
 
     /**
@@ -102,4 +162,20 @@ public class Route {
     public RouteType getRouteType() {
         return routeType;
     }
-}
\ No newline at end of file
+
+    public boolean isNonBlocking() {
+        return nonBlocking;
+    }
+
+    public boolean isETag() {
+        return etag;
+    }
+
+    public boolean isCoalesced() {
+        return coalesced;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,198 @@
+package mangoo.io.routing.binders;
+
+import java.lang.reflect.Parameter;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+import org.boon.json.ObjectMapper;
+
+import com.google.common.base.Preconditions;
+
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HeaderValues;
+import io.undertow.util.Headers;
+import mangoo.io.authentication.Authentication;
+import mangoo.io.enums.ContentType;
+import mangoo.io.interfaces.MangooBinder;
+import mangoo.io.routing.RequestContext;
+import mangoo.io.routing.bindings.Body;
+import mangoo.io.routing.bindings.Flash;
+import mangoo.io.routing.bindings.Form;
+import mangoo.io.routing.bindings.Session;
+
+/**
+ * Resolves the binder for a controller method parameter. Binders are resolved once
+ * when a route is compiled at startup, so no type checks or reflection are required
+ * when a request is processed.
+ *
+ * @author svenkubiak
+ *
+ */
+public final class Binders {
+    private static Map<Class<?>, MangooBinder> binders = new HashMap<Class<?>, MangooBinder>();
+    private static Set<Class<?>> converters = new HashSet<Class<?>>();
+
+    static {
+        registerConverter(UUID.class, UUID::fromString);
+        registerConverter(LocalDate.class, LocalDate::parse);
+        registerConverter(LocalDateTime.class, LocalDateTime::parse);
+    }
+
+    private Binders() {
+    }
+
+    /**
+     * Registers a binder for a custom controller method parameter type. Must be called
+     * before the routes are compiled, e.g. in the applicationInitialized lifecycle method.
+     * As a binder may read the request body, the type can not be bound by a non-blocking
+     * controller method.
+     *
+     * @param clazz The type of the controller method parameter
+     * @param binder The binder for the type
+     */
+    public static void register(Class<?> clazz, MangooBinder binder) {
+        Preconditions.checkNotNull(clazz, "Class is required for register");
+        Preconditions.checkNotNull(binder, "Binder is required for register");
+
+        binders.put(clazz, binder);
+        converters.remove(clazz);
+    }
+
+    /**
+     * Registers a converter for a custom controller method parameter type, which is
+     * bound from the request or query parameter with the name of the controller method
+     * parameter. Blank parameter values are passed as null.
+     *
+     * @param clazz The type of the controller method parameter
+     * @param converter The function converting the parameter value to the type
+     */
+    public static <T> void registerConverter(Class<T> clazz, Function<String, T> converter) {
+        Preconditions.checkNotNull(converter, "Converter is required for registerConverter");
+
+        register(clazz, (context, name) -> {
+            String value = context.getParameter(name);
+            return StringUtils.isBlank(value) ? null : converter.apply(value);
+        });
+        converters.add(clazz);
+    }
+
+    /**
+     * Checks if the binder for a given controller method parameter type reads the request
+     * body, which is the case for Form, Body, types bound from a JSON body and custom binders
+     * registered with {@link #register(Class, MangooBinder)}. Every primitive type and its
+     * wrapper is bound from a request or query parameter.
+     *
+     * @param clazz The type of the controller method parameter
+     * @return True if binding the type reads the request body, false otherwise
+     */
+    public static boolean readsBody(Class<?> clazz) {
+        boolean readsBody;
+        if ((Form.class).equals(clazz) || (Body.class).equals(clazz)) {
+            readsBody = true;
+        } else if ((Authentication.class).equals(clazz) || (Session.class).equals(clazz) || (Flash.class).equals(clazz) || (Locale.class).equals(clazz)) {
+            readsBody = false;
+        } else if (binders.containsKey(clazz)) {
+            readsBody = !converters.contains(clazz);
+        } else {
+            readsBody = !((String.class).equals(clazz) || clazz.isPrimitive() || (Integer.class).equals(clazz) || (Double.class).equals(clazz)
+                    || (Float.class).equals(clazz) || (Long.class).equals(clazz) || (Boolean.class).equals(clazz) || (Short.class).equals(clazz)
+                    || (Byte.class).equals(clazz) || (Character.class).equals(clazz) || clazz.isEnum());
+        }
+
+        return readsBody;
+    }
+
+    /**
+     * Resolves the binder for a given controller method parameter
+     *
+     * @param parameter The controller method parameter
+     * @param mapper The JSON mapper for parameters bound from a JSON body
+     * @return The binder for the parameter
+     */
+    @SuppressWarnings("all")
+    public static MangooBinder getBinder(Parameter parameter, ObjectMapper mapper) {
+        Class<?> clazz = parameter.getType();
+
+        MangooBinder binder;
+        if ((Form.class).equals(clazz)) {
+            binder = (context, name) -> context.getForm();
+        } else if ((Body.class).equals(clazz)) {
+            binder = (context, name) -> context.getBody();
+        } else if ((Authentication.class).equals(clazz)) {
+            binder = (context, name) -> context.getAuthentication();
+        } else if ((Session.class).equals(clazz)) {
+            binder = (context, name) -> context.getSession();
+        } else if ((Flash.class).equals(clazz)) {
+            binder = (context, name) -> context.getFlash();
+        } else if ((Locale.class).equals(clazz)) {
+            binder = (context, name) -> context.getLocale();
+        } else if (binders.containsKey(clazz)) {
+            binder = binders.get(clazz);
+        } else if ((String.class).equals(clazz)) {
+            binder = (context, name) -> StringUtils.defaultIfBlank(context.getParameter(name), "");
+        } else if ((Integer.class).equals(clazz) || (int.class).equals(clazz)) {
+            binder = converted(value -> Integer.valueOf(value), Integer.valueOf(0));
+        } else if ((Double.class).equals(clazz) || (double.class).equals(clazz)) {
+            binder = converted(value -> Double.valueOf(value), Double.valueOf(0));
+        } else if ((Float.class).equals(clazz) || (float.class).equals(clazz)) {
+            binder = converted(value -> Float.valueOf(value), Float.valueOf(0));
+        } else if ((Long.class).equals(clazz) || (long.class).equals(clazz)) {
+            binder = converted(value -> Long.valueOf(value), Long.valueOf(0));
+        } else if ((Boolean.class).equals(clazz) || (boolean.class).equals(clazz)) {
+            binder = converted(value -> Boolean.valueOf(value), Boolean.FALSE);
+        } else if ((Short.class).equals(clazz) || (short.class).equals(clazz)) {
+            binder = converted(value -> Short.valueOf(value), Short.valueOf((short) 0));
+        } else if ((Byte.class).equals(clazz) || (byte.class).equals(clazz)) {
+            binder = converted(value -> Byte.valueOf(value), Byte.valueOf((byte) 0));
+        } else if ((Character.class).equals(clazz) || (char.class).equals(clazz)) {
+            binder = converted(value -> Character.valueOf(value.charAt(0)), Character.valueOf(Character.MIN_VALUE));
+        } else if (clazz.isEnum()) {
+            binder = getEnumBinder(clazz);
+        } else {
+            binder = (context, name) -> isJson(context.getHttpServerExchange()) ? mapper.readValue(context.getBody().asBytes(), clazz) : null;
+        }
+
+        return binder;
+    }
+
+    private static MangooBinder converted(Function<String, Object> converter, Object defaultValue) {
+        return (context, name) -> {
+            String value = context.getParameter(name);
+            return StringUtils.isBlank(value) ? defaultValue : converter.apply(value);
+        };
+    }
+
+    /**
+     * Creates a binder for an enum type using a lookup of all enum constants created
+     * when the binder is resolved
+     *
+     * @param clazz The enum type
+     * @return The binder for the enum type
+     */
+    private static MangooBinder getEnumBinder(Class<?> clazz) {
+        Map<String, Object> constants = new HashMap<String, Object>();
+        for (Object constant : clazz.getEnumConstants()) {
+            constants.put(((Enum<?>) constant).name(), constant);
+        }
+
+        Map<String, Object> lookup = Collections.unmodifiableMap(constants);
+        return (context, name) -> {
+            String value = context.getParameter(name);
+            return (value == null) ? null : lookup.get(value);
+        };
+    }
+
+    private static boolean isJson(HttpServerExchange exchange) {
+        HeaderValues headerValues = exchange.getRequestHeaders().get(Headers.CONTENT_TYPE);
+        return headerValues != null && (ContentType.APPLICATION_JSON.toString()).equals(headerValues.getFirst());
+    }
+}
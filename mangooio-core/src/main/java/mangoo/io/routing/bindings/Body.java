@@ -1,27 +1,174 @@
 package mangoo.io.routing.bindings;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
+import org.apache.commons.io.IOUtils;
 import org.boon.json.JsonFactory;
 
 /**
+ * The body of a request. The body is read from the request only once: either as a stream
+ * via {@link #getInputStream()} without keeping it in memory, or completely via
+ * {@link #asBytes()}, {@link #asString()} or {@link #asJson()}, in which case it is cached
+ * for the rest of the request.
  *
  * @author svenkubiak
  *
  */
 @SuppressWarnings("unchecked")
 public class Body {
+    private static final int BUFFER_SIZE = 8192;
+    private InputStream inputStream;
+    private Charset charset = StandardCharsets.UTF_8;
+    private long maxSize = -1;
+    private boolean streamed;
+    private byte [] bytes;
     private String content;
 
+    public Body() {
+        //empty constructor for manually created bodies
+    }
+
+    /**
+     * Creates a new body which is read from the given stream on first access
+     *
+     * @param inputStream The stream of the request
+     * @param charset The charset of the request
+     * @param maxSize The maximum number of bytes to read, or -1 for no limit
+     */
+    public Body(InputStream inputStream, Charset charset, long maxSize) {
+        this.inputStream = inputStream;
+        this.charset = charset;
+        this.maxSize = maxSize;
+    }
+
     public void setContent(String content) {
         this.content = content;
+        this.bytes = null;
+    }
+
+    /**
+     * Returns the body as a stream. Unless the body has already been read completely, the
+     * stream reads directly from the request and can therefore only be retrieved once.
+     *
+     * @return The body as a stream
+     * @throws IllegalStateException If the body has already been retrieved as stream
+     */
+    public InputStream getInputStream() {
+        if (this.bytes != null || this.content != null || this.inputStream == null) {
+            return new ByteArrayInputStream(asBytes());
+        }
+
+        InputStream stream = new LimitedInputStream(this.inputStream, this.maxSize);
+        this.inputStream = null;
+        this.streamed = true;
+
+        return stream;
+    }
+
+    /**
+     * @return The body as a channel, see {@link #getInputStream()}
+     */
+    public ReadableByteChannel getChannel() {
+        return Channels.newChannel(getInputStream());
+    }
+
+    /**
+     * @return The complete body, read from the request once and cached afterwards
+     * @throws IllegalStateException If the body has already been retrieved as stream
+     */
+    public byte[] asBytes() {
+        if (this.bytes == null) {
+            if (this.streamed) {
+                throw new IllegalStateException("Request body has already been retrieved as stream and can not be read again");
+            } else if (this.content != null) {
+                this.bytes = this.content.getBytes(this.charset);
+            } else if (this.inputStream != null) {
+                try (InputStream stream = getInputStream()) {
+                    ByteArrayOutputStream outputStream = new ByteArrayOutputStream(BUFFER_SIZE);
+                    IOUtils.copy(stream, outputStream);
+                    this.bytes = outputStream.toByteArray();
+                } catch (IOException e) {
+                    throw new IllegalStateException("Failed to read request body", e);
+                }
+            } else {
+                this.bytes = new byte[0];
+            }
+        }
+
+        return this.bytes;
     }
 
     public String asString() {
+        if (this.content == null && (this.bytes != null || this.inputStream != null)) {
+            this.content = new String(asBytes(), this.charset);
+        }
+
         return this.content;
     }
 
     public Map<String, Object> asJson() {
-        return JsonFactory.create().readValue(this.content, Map.class);
+        return JsonFactory.create().readValue(asString(), Map.class);
+    }
+
+    /**
+     * Input stream which fails once more than the maximum number of bytes have been read
+     *
+     * @author svenkubiak
+     *
+     */
+    private static final class LimitedInputStream extends InputStream {
+        private final InputStream inputStream;
+        private final long maxSize;
+        private long read;
+
+        private LimitedInputStream(InputStream inputStream, long maxSize) {
+            this.inputStream = inputStream;
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int data = this.inputStream.read();
+            if (data != -1) {
+                count(1);
+            }
+
+            return data;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = this.inputStream.read(buffer, offset, length);
+            if (count > 0) {
+                count(count);
+            }
+
+            return count;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return this.inputStream.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.inputStream.close();
+        }
+
+        private void count(int count) throws BodyTooLargeException {
+            this.read = this.read + count;
+            if (this.maxSize >= 0 && this.read > this.maxSize) {
+                throw new BodyTooLargeException(this.maxSize);
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package mangoo.io.routing.bindings;
+
+import java.io.IOException;
+
+/**
+ * Thrown when a request body exceeds the configured application.body.maxsize
+ *
+ * @author svenkubiak
+ *
+ */
+public class BodyTooLargeException extends IOException {
+    private static final long serialVersionUID = 2474326429396541432L;
+
+    public BodyTooLargeException(long maxSize) {
+        super("Request body exceeds the maximum size of " + maxSize + " bytes");
+    }
+}
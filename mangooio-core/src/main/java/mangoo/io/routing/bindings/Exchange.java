@@ -2,6 +2,7 @@ package mangoo.io.routing.bindings;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import io.undertow.server.HttpServerExchange;
 import mangoo.io.authentication.Authentication;
@@ -13,12 +14,25 @@ import mangoo.io.authentication.Authentication;
  */
 public class Exchange {
     private HttpServerExchange httpServerExchange;
-    private Session session;
-    private String authenticityToken;
-    private Authentication authentication;
+    private Supplier<Session> session;
+    private Supplier<String> authenticityToken;
+    private Supplier<Authentication> authentication;
     private Map<String, Object> content = new HashMap<String, Object>();
 
     public Exchange(HttpServerExchange httpServerExchange, Session session, String authenticityToken, Authentication authentication) {
+        this(httpServerExchange, () -> session, () -> authenticityToken, () -> authentication);
+    }
+
+    /**
+     * Creates a new exchange which retrieves session, authenticity token and authentication
+     * only when they are accessed
+     *
+     * @param httpServerExchange The current HttpServerExchange
+     * @param session Supplier of the session of the current request
+     * @param authenticityToken Supplier of the authenticity token sent with the current request
+     * @param authentication Supplier of the authentication of the current request
+     */
+    public Exchange(HttpServerExchange httpServerExchange, Supplier<Session> session, Supplier<String> authenticityToken, Supplier<Authentication> authentication) {
         this.httpServerExchange = httpServerExchange;
         this.session = session;
         this.authenticityToken = authenticityToken;
@@ -34,15 +48,15 @@ public class Exchange {
     }
 
     public Session getSession() {
-        return session;
+        return (this.session == null) ? null : this.session.get();
     }
 
     public boolean authenticityMatches() {
-        return this.session.getAuthenticityToken().equals(this.authenticityToken);
+        return getSession().getAuthenticityToken().equals(this.authenticityToken.get());
     }
 
     public Authentication getAuthentication() {
-        return authentication;
+        return (this.authentication == null) ? null : this.authentication.get();
     }
 
     public Map<String, Object> getContent() {
@@ -4,6 +4,7 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
@@ -27,9 +28,20 @@ public class Form {
     private Map<String, String> values = new HashMap<String, String>();
     private Map<String, String> errors = new HashMap<String, String>();
 
+    private Locale locale;
+
     @Inject
     private Messages messages;
 
+    /**
+     * Sets the locale used for validation error messages
+     *
+     * @param locale The locale of the current request
+     */
+    public void setLocale(Locale locale) {
+        this.locale = locale;
+    }
+
     public void add(String key, String value) {
         this.values.put(key, value);
     }
@@ -88,7 +100,7 @@ public class Form {
         String value = (get(fieldName) == null) ? "" : get(fieldName);
 
         if (StringUtils.isBlank(StringUtils.trimToNull(value))) {
-            this.errors.put(fieldName, messages.get(Key.FORM_REQUIRED, fieldName));
+            this.errors.put(fieldName, this.messages.get(this.locale, Key.FORM_REQUIRED, fieldName));
         }
     }
 
@@ -102,7 +114,7 @@ public class Form {
         String value = (get(fieldName) == null) ? "" : get(fieldName);
 
         if (value.length() < minLength) {
-            this.errors.put(fieldName, messages.get(Key.FORM_MIN, fieldName, minLength));
+            this.errors.put(fieldName, this.messages.get(this.locale, Key.FORM_MIN, fieldName, minLength));
         }
     }
 
@@ -116,7 +128,7 @@ public class Form {
         String value = (get(fieldName) == null) ? "" : get(fieldName);
 
         if (value.length() > maxLength) {
-            this.errors.put(fieldName, messages.get(Key.FORM_MAX, fieldName, maxLength));
+            this.errors.put(fieldName, this.messages.get(this.locale, Key.FORM_MAX, fieldName, maxLength));
         }
     }
 
@@ -131,7 +143,7 @@ public class Form {
         String anotherValue = (get(anotherFieldName) == null) ? "" : get(anotherFieldName);
 
         if ( (StringUtils.isBlank(value) && StringUtils.isBlank(anotherValue)) || !value.equals(anotherValue)) {
-            this.errors.put(fieldName, messages.get(Key.FORM_EXACT_MATCH, fieldName, anotherFieldName));
+            this.errors.put(fieldName, this.messages.get(this.locale, Key.FORM_EXACT_MATCH, fieldName, anotherFieldName));
         }
     }
 
@@ -146,7 +158,7 @@ public class Form {
         String anotherValue = (get(anotherFieldName) == null) ? "" : get(anotherFieldName);
 
         if ((StringUtils.isBlank(value) && StringUtils.isBlank(anotherValue)) || !value.equalsIgnoreCase(anotherValue)) {
-            this.errors.put(fieldName, messages.get(Key.FORM_MATCH, fieldName, anotherFieldName));
+            this.errors.put(fieldName, this.messages.get(this.locale, Key.FORM_MATCH, fieldName, anotherFieldName));
         }
     }
 
@@ -159,7 +171,7 @@ public class Form {
         String value = (get(fieldName) == null) ? "" : get(fieldName);
 
         if (!EmailValidator.getInstance().isValid(value)) {
-            this.errors.put(fieldName, messages.get(Key.FORM_EMAIL, fieldName));
+            this.errors.put(fieldName, this.messages.get(this.locale, Key.FORM_EMAIL, fieldName));
         }
     }
 
@@ -172,7 +184,7 @@ public class Form {
         String value = (get(fieldName) == null) ? "" : get(fieldName);
 
         if (!InetAddressValidator.getInstance().isValidInet4Address(value)) {
-            this.errors.put(fieldName, messages.get(Key.FORM_IPV4, fieldName));
+            this.errors.put(fieldName, this.messages.get(this.locale, Key.FORM_IPV4, fieldName));
         }
     }
 
@@ -185,7 +197,7 @@ public class Form {
         String value = (get(fieldName) == null) ? "" : get(fieldName);
 
         if (!InetAddressValidator.getInstance().isValidInet6Address(value)) {
-            this.errors.put(fieldName, messages.get(Key.FORM_IPV6, fieldName));
+            this.errors.put(fieldName, this.messages.get(this.locale, Key.FORM_IPV6, fieldName));
         }
     }
 
@@ -200,7 +212,7 @@ public class Form {
         String value = (get(fieldName) == null) ? "" : get(fieldName);
 
         if (value.length() < minLength || value.length() > maxLength) {
-            this.errors.put(fieldName, messages.get(Key.FORM_RANGE, fieldName, minLength, maxLength));
+            this.errors.put(fieldName, this.messages.get(this.locale, Key.FORM_RANGE, fieldName, minLength, maxLength));
         }
     }
 
@@ -213,7 +225,7 @@ public class Form {
         String value = (get(fieldName) == null) ? "" : get(fieldName);
 
         if (!UrlValidator.getInstance().isValid(value)) {
-            this.errors.put(fieldName, messages.get(Key.FORM_URL, fieldName));
+            this.errors.put(fieldName, this.messages.get(this.locale, Key.FORM_URL, fieldName));
         }
     }
 
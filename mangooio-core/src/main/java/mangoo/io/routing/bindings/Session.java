@@ -4,11 +4,6 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import mangoo.io.core.Bootstrap;
-
 
 /**
  *
@@ -16,7 +11,6 @@ import mangoo.io.core.Bootstrap;
  *
  */
 public class Session {
-    private static final Logger LOG = LoggerFactory.getLogger(Bootstrap.class);
     private Map<String, String> values = new HashMap<String, String>();
     private String authenticityToken;
     private boolean changed;
@@ -44,14 +38,8 @@ public class Session {
      * @param value The value to store
      */
     public void add(String key, String value) {
-        if (key.contains("|") || key.contains(":") || key.contains("&")) {
-            LOG.error("Invalid characters found in session key. Please note, that the key can not contain |, : or &");
-        } else if (value.contains("|") || value.contains(":") || value.contains("&")) {
-            LOG.error("Invalid characters found in session value. Please note, that the value can not contain |, : or &");
-        } else {
-            this.changed = true;
-            this.values.put(key, value);
-        }
+        this.changed = true;
+        this.values.put(key, value);
     }
 
     /**
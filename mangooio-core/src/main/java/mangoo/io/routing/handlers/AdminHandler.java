@@ -0,0 +1,69 @@
+package mangoo.io.routing.handlers;
+
+import java.security.MessageDigest;
+
+import org.apache.commons.lang3.StringUtils;
+import org.bouncycastle.util.encoders.Base64;
+import org.bouncycastle.util.encoders.DecoderException;
+
+import com.google.common.base.Charsets;
+
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import io.undertow.util.StatusCodes;
+import mangoo.io.enums.Default;
+
+/**
+ * Protects an admin endpoint with HTTP basic authentication against the credentials
+ * from application.admin.username and application.admin.password
+ *
+ * @author svenkubiak
+ *
+ */
+public class AdminHandler implements HttpHandler {
+    private static final String BASIC = "Basic ";
+    private final HttpHandler next;
+    private final byte[] credentials;
+    private final String realm;
+
+    public AdminHandler(HttpHandler next, String username, String password, String realm) {
+        this.next = next;
+        this.credentials = (username + ":" + password).getBytes(Charsets.UTF_8);
+        this.realm = realm;
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        if (isAuthorized(exchange.getRequestHeaders().getFirst(Headers.AUTHORIZATION))) {
+            this.next.handleRequest(exchange);
+        } else {
+            exchange.setResponseCode(StatusCodes.UNAUTHORIZED);
+            exchange.getResponseHeaders().put(Headers.WWW_AUTHENTICATE, "Basic realm=\"" + this.realm + "\"");
+            exchange.getResponseHeaders().put(Headers.SERVER, Default.SERVER.toString());
+            exchange.endExchange();
+        }
+    }
+
+    /**
+     * Compares the credentials of the authorization header in constant time, so the
+     * configured credentials can not be guessed from the response time
+     *
+     * @param authorization The value of the authorization header, may be null
+     * @return True if the header contains the configured credentials, false otherwise
+     */
+    private boolean isAuthorized(String authorization) {
+        if (!StringUtils.startsWithIgnoreCase(authorization, BASIC)) {
+            return false;
+        }
+
+        byte[] decoded;
+        try {
+            decoded = Base64.decode(authorization.substring(BASIC.length()).trim());
+        } catch (DecoderException e) { //NOSONAR
+            return false;
+        }
+
+        return MessageDigest.isEqual(this.credentials, decoded);
+    }
+}
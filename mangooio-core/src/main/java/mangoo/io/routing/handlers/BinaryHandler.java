@@ -1,8 +1,19 @@
 package mangoo.io.routing.handlers;
 
+import java.io.File;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+
+import org.xnio.channels.Channels;
+import org.xnio.channels.StreamSinkChannel;
+
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
+import io.undertow.util.ByteRange;
+import io.undertow.util.DateUtils;
 import io.undertow.util.Headers;
+import io.undertow.util.StatusCodes;
 import mangoo.io.enums.ContentType;
 import mangoo.io.enums.Default;
 import mangoo.io.routing.Response;
@@ -13,6 +24,8 @@ import mangoo.io.routing.Response;
  *
  */
 public class BinaryHandler implements HttpHandler {
+    private static final String BYTES = "bytes";
+    private static final long MILLIS = 1000;
     private Response response;
 
     public BinaryHandler(Response response) {
@@ -21,12 +34,87 @@ public class BinaryHandler implements HttpHandler {
 
     @Override
     public void handleRequest(HttpServerExchange exchange) throws Exception {
-        exchange.startBlocking();
         exchange.setResponseCode(this.response.getStatusCode());
         exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, ContentType.APPLICATION_OCTETE_STREAM.toString());
         exchange.getResponseHeaders().put(Headers.CONTENT_DISPOSITION, "inline; filename=" + this.response.getBinaryFileName());
         exchange.getResponseHeaders().put(Headers.SERVER, Default.SERVER.toString());
         this.response.getHeaders().forEach((key, value) -> exchange.getResponseHeaders().add(key, value)); //NOSONAR
-        exchange.getOutputStream().write(this.response.getBinaryContent());
+
+        if (this.response.getBinaryFile() == null) {
+            exchange.startBlocking();
+            exchange.getOutputStream().write(this.response.getBinaryContent());
+        } else {
+            sendFile(exchange, this.response.getBinaryFile());
+        }
+    }
+
+    /**
+     * Transfers a file from the file system to the client, using sendfile where the operating
+     * system supports it. A single byte range is honored if requested, and if the If-Range
+     * header matches the current version of the file.
+     *
+     * @param exchange The current HttpServerExchange
+     * @param file The file to send
+     */
+    private void sendFile(HttpServerExchange exchange, File file) throws Exception {
+        long length = file.length();
+        long lastModified = file.lastModified();
+        String etag = "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(length) + "\"";
+
+        exchange.getResponseHeaders().put(Headers.ACCEPT_RANGES, BYTES);
+        exchange.getResponseHeaders().put(Headers.ETAG, etag);
+        exchange.getResponseHeaders().put(Headers.LAST_MODIFIED, DateUtils.toDateString(new Date(lastModified)));
+
+        long start = 0;
+        long end = length - 1;
+        ByteRange byteRange = getByteRange(exchange, etag, lastModified);
+        if (byteRange != null && this.response.getStatusCode() == StatusCodes.OK) {
+            start = byteRange.getStart(0);
+            end = byteRange.getEnd(0);
+            if (start == -1) {
+                start = Math.max(0, length - end);
+                end = length - 1;
+            } else if (end == -1 || end >= length) {
+                end = length - 1;
+            }
+
+            if (start >= length || start > end) {
+                exchange.setResponseCode(StatusCodes.REQUEST_RANGE_NOT_SATISFIABLE);
+                exchange.getResponseHeaders().put(Headers.CONTENT_RANGE, BYTES + " */" + length);
+                exchange.endExchange();
+                return;
+            }
+
+            exchange.setResponseCode(StatusCodes.PARTIAL_CONTENT);
+            exchange.getResponseHeaders().put(Headers.CONTENT_RANGE, BYTES + " " + start + "-" + end + "/" + length);
+        }
+
+        long count = end - start + 1;
+        exchange.setResponseContentLength(count);
+
+        StreamSinkChannel channel = exchange.getResponseChannel();
+        try (FileChannel fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            Channels.transferBlocking(channel, fileChannel, start, count);
+            Channels.shutdownWritesBlocking(channel);
+        }
+        exchange.endExchange();
+    }
+
+    private static ByteRange getByteRange(HttpServerExchange exchange, String etag, long lastModified) {
+        String range = exchange.getRequestHeaders().getFirst(Headers.RANGE);
+        if (range == null) {
+            return null;
+        }
+
+        String ifRange = exchange.getRequestHeaders().getFirst(Headers.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(etag)) {
+            Date date = DateUtils.parseDate(ifRange);
+            if (date == null || date.getTime() / MILLIS != lastModified / MILLIS) {
+                return null;
+            }
+        }
+
+        ByteRange byteRange = ByteRange.parse(range);
+        return (byteRange == null || byteRange.getRanges() != 1) ? null : byteRange;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,176 @@
+package mangoo.io.routing.handlers;
+
+import java.util.List;
+
+import org.xnio.conduits.StreamSinkConduit;
+
+import com.google.common.base.Preconditions;
+
+import io.undertow.conduits.DeflatingStreamSinkConduit;
+import io.undertow.conduits.GzipStreamSinkConduit;
+import io.undertow.predicate.Predicate;
+import io.undertow.server.ConduitWrapper;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.encoding.ContentEncodingProvider;
+import io.undertow.server.handlers.encoding.ContentEncodingRepository;
+import io.undertow.server.handlers.encoding.EncodingHandler;
+import io.undertow.util.ConduitFactory;
+import io.undertow.util.HeaderMap;
+import io.undertow.util.HeaderValues;
+import io.undertow.util.Headers;
+
+/**
+ * Compresses responses with gzip or deflate, depending on the Accept-Encoding header
+ * of the request. Only responses with an allowed content type are compressed, and only
+ * if they are larger than the minimum size or their size is unknown, e.g. streamed
+ * responses. Responses which already have a Content-Encoding, e.g. pre-compressed
+ * assets, are sent as they are. Compressed responses get a Vary header for Accept-Encoding
+ * and their ETag is weakened, as the compressed body differs from the identity body.
+ *
+ * @author svenkubiak
+ *
+ */
+public class CompressionHandler implements HttpHandler {
+    private static final String GZIP = "gzip";
+    private static final String DEFLATE = "deflate";
+    private static final String WEAK_PREFIX = "W/";
+    private static final int GZIP_PRIORITY = 100;
+    private static final int DEFLATE_PRIORITY = 50;
+    private final HttpHandler encodingHandler;
+    private final List<String> contentTypes;
+    private final long minSize;
+
+    /**
+     * Creates a new compression handler
+     *
+     * @param next The handler to compress the responses of
+     * @param level The compression level from 1 (fastest) to 9 (best compression)
+     * @param minSize The minimum size of a response in bytes to be compressed
+     * @param contentTypes The content types to compress, matched by prefix, e.g. text/
+     */
+    public CompressionHandler(HttpHandler next, int level, long minSize, List<String> contentTypes) {
+        Preconditions.checkNotNull(next, "next handler can not be null");
+        Preconditions.checkNotNull(contentTypes, "contentTypes can not be null");
+        Preconditions.checkArgument(level >= 1 && level <= 9, "level must be between 1 and 9");
+
+        this.contentTypes = contentTypes;
+        this.minSize = minSize;
+
+        Predicate predicate = this::encode;
+        ContentEncodingRepository repository = new ContentEncodingRepository()
+                .addEncodingHandler(GZIP, new GzipProvider(level), GZIP_PRIORITY, predicate)
+                .addEncodingHandler(DEFLATE, new DeflateProvider(level), DEFLATE_PRIORITY, predicate);
+
+        this.encodingHandler = new EncodingHandler(next, repository);
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        this.encodingHandler.handleRequest(exchange);
+    }
+
+    /**
+     * Checks if a response is compressed and adjusts its headers if so. Called once the
+     * encoding of the response is selected, before the response headers are sent.
+     *
+     * @param exchange The current HttpServerExchange
+     * @return True if the response is compressed, false otherwise
+     */
+    private boolean encode(HttpServerExchange exchange) {
+        if (!isCompressible(exchange)) {
+            return false;
+        }
+
+        HeaderMap headers = exchange.getResponseHeaders();
+        HeaderValues vary = headers.get(Headers.VARY);
+        if (vary == null || !vary.contains(Headers.ACCEPT_ENCODING_STRING)) {
+            headers.add(Headers.VARY, Headers.ACCEPT_ENCODING_STRING);
+        }
+
+        String etag = headers.getFirst(Headers.ETAG);
+        if (etag != null && !etag.startsWith(WEAK_PREFIX)) {
+            headers.put(Headers.ETAG, WEAK_PREFIX + etag);
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks if a response should be compressed. Called when the response channel is
+     * created, so the content type and, if known, the content length are already set.
+     *
+     * @param exchange The current HttpServerExchange
+     * @return True if the response should be compressed, false otherwise
+     */
+    private boolean isCompressible(HttpServerExchange exchange) {
+        String contentType = exchange.getResponseHeaders().getFirst(Headers.CONTENT_TYPE);
+        if (contentType == null) {
+            return false;
+        }
+
+        long length = exchange.getResponseContentLength();
+        if (length != -1 && length < this.minSize) {
+            return false;
+        }
+
+        for (String allowed : this.contentTypes) {
+            if (contentType.startsWith(allowed)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Provides gzip compression with a given compression level
+     *
+     * @author svenkubiak
+     *
+     */
+    private static final class GzipProvider implements ContentEncodingProvider {
+        private final int level;
+
+        private GzipProvider(int level) {
+            this.level = level;
+        }
+
+        @Override
+        public ConduitWrapper<StreamSinkConduit> getResponseWrapper() {
+            return (ConduitFactory<StreamSinkConduit> factory, HttpServerExchange exchange) -> new GzipConduit(factory, exchange, this.level);
+        }
+    }
+
+    /**
+     * Provides deflate compression with a given compression level
+     *
+     * @author svenkubiak
+     *
+     */
+    private static final class DeflateProvider implements ContentEncodingProvider {
+        private final int level;
+
+        private DeflateProvider(int level) {
+            this.level = level;
+        }
+
+        @Override
+        public ConduitWrapper<StreamSinkConduit> getResponseWrapper() {
+            return (ConduitFactory<StreamSinkConduit> factory, HttpServerExchange exchange) -> new DeflateConduit(factory, exchange, this.level);
+        }
+    }
+
+    private static final class GzipConduit extends GzipStreamSinkConduit {
+        private GzipConduit(ConduitFactory<StreamSinkConduit> factory, HttpServerExchange exchange, int level) {
+            super(factory, exchange);
+            this.deflater.setLevel(level);
+        }
+    }
+
+    private static final class DeflateConduit extends DeflatingStreamSinkConduit {
+        private DeflateConduit(ConduitFactory<StreamSinkConduit> factory, HttpServerExchange exchange, int level) {
+            super(factory, exchange, level);
+        }
+    }
+}
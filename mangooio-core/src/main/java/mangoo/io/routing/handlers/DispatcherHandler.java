@@ -1,8 +1,19 @@
 package mangoo.io.routing.handlers;
 
+import java.util.concurrent.Executor;
+
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.util.AttachmentKey;
+import mangoo.io.core.AdmissionControl;
+import mangoo.io.core.Application;
+import mangoo.io.core.ConcurrencyLimit;
+import mangoo.io.core.DispatchExecutor;
+import mangoo.io.jfr.DispatchEvent;
+import mangoo.io.jfr.JfrSupport;
+import mangoo.io.metrics.RequestMetrics;
+import mangoo.io.metrics.RouteMetrics;
+import mangoo.io.routing.Route;
 
 /**
  *
@@ -12,21 +23,49 @@ import io.undertow.util.AttachmentKey;
 @SuppressWarnings("all")
 public class DispatcherHandler implements HttpHandler {
     private static final AttachmentKey<Throwable> THROWABLE = AttachmentKey.create(Throwable.class);
-    private Class<?> controllerClass;
-    private String controllerMethod;
+    private final RequestHandler requestHandler;
+    private final Executor executor;
+    private final AdmissionControl admissionControl;
+    private final ConcurrencyLimit limit;
+    private final RouteMetrics routeMetrics;
+    private final String name;
+    private final boolean nonBlocking;
 
-    public DispatcherHandler(Class<?> controllerClass, String controllerMethod) {
-        this.controllerClass = controllerClass;
-        this.controllerMethod = controllerMethod;
+    public DispatcherHandler(Route route, RequestHandler requestHandler) {
+        this.requestHandler = requestHandler;
+        this.executor = Application.getInjector().getInstance(DispatchExecutor.class).getExecutor();
+        this.admissionControl = Application.getInjector().getInstance(AdmissionControl.class);
+        this.limit = this.admissionControl.getRouteLimit(route);
+        this.name = route.getRequestMethod() + " " + route.getUrl();
+        this.routeMetrics = Application.getInjector().getInstance(RequestMetrics.class).getRouteMetrics(this.name);
+        this.nonBlocking = route.isNonBlocking();
     }
 
     @Override
     public void handleRequest(HttpServerExchange exchange) throws Exception {
+        long start = System.nanoTime();
+        DispatchEvent event = JfrSupport.AVAILABLE ? DispatchEvent.start() : null;
+        exchange.addExchangeCompleteListener((completed, nextListener) -> {
+            this.routeMetrics.record(System.nanoTime() - start, completed.getResponseCode());
+            if (event != null) {
+                event.finish(this.name, completed.getRequestURI(), completed.getResponseCode());
+            }
+            nextListener.proceed();
+        });
+
+        if (!this.admissionControl.admit(exchange, this.limit)) {
+            return;
+        }
+
         try {
-            exchange.dispatch(exchange.getDispatchExecutor(), new RequestHandler(this.controllerClass, this.controllerMethod));
+            if (this.nonBlocking) {
+                this.requestHandler.handleRequest(exchange);
+            } else {
+                exchange.dispatch(this.executor, this.requestHandler);
+            }
         } catch (Exception e) {
             exchange.putAttachment(THROWABLE, e);
             throw new Exception();
         }
     }
-}
\ No newline at end of file
+}
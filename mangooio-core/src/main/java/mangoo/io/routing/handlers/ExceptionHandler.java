@@ -3,6 +3,8 @@ package mangoo.io.routing.handlers;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
 import freemarker.template.TemplateException;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
@@ -13,6 +15,7 @@ import mangoo.io.core.Application;
 import mangoo.io.enums.Default;
 import mangoo.io.enums.Header;
 import mangoo.io.enums.Template;
+import mangoo.io.routing.bindings.BodyTooLargeException;
 import mangoo.io.templating.TemplateEngine;
 
 /**
@@ -29,10 +32,18 @@ public class ExceptionHandler implements HttpHandler {
         exchange.getResponseHeaders().put(Header.X_CONTENT_TYPE_OPTIONS.toHttpString(), Default.NOSNIFF.toString());
         exchange.getResponseHeaders().put(Header.X_FRAME_OPTIONS.toHttpString(), Default.SAMEORIGIN.toString());
         exchange.getResponseHeaders().put(Headers.SERVER, Default.SERVER.toString());
+
+        Throwable throwable = exchange.getAttachment(THROWABLE);
+        if (throwable != null && ExceptionUtils.indexOfType(throwable, BodyTooLargeException.class) != -1) {
+            exchange.setResponseCode(StatusCodes.REQUEST_ENTITY_TOO_LARGE);
+            exchange.getResponseHeaders().put(Headers.CONNECTION, Headers.CLOSE.toString());
+            exchange.endExchange();
+            return;
+        }
+
         exchange.setResponseCode(StatusCodes.INTERNAL_SERVER_ERROR);
 
         if (Application.inDevMode()) {
-            Throwable throwable = exchange.getAttachment(THROWABLE);
             if (throwable == null) {
                 exchange.getResponseSender().send(Template.DEFAULT.internalServerError());
             } else {
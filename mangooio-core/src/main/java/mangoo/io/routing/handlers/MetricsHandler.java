@@ -0,0 +1,28 @@
+package mangoo.io.routing.handlers;
+
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import io.undertow.util.StatusCodes;
+import mangoo.io.core.Application;
+import mangoo.io.enums.Default;
+import mangoo.io.metrics.PrometheusFormat;
+import mangoo.io.metrics.RequestMetrics;
+
+/**
+ * Sends the request metrics of all routes in the Prometheus text format
+ *
+ * @author svenkubiak
+ *
+ */
+public class MetricsHandler implements HttpHandler {
+    private final RequestMetrics requestMetrics = Application.getInjector().getInstance(RequestMetrics.class);
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        exchange.setResponseCode(StatusCodes.OK);
+        exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, PrometheusFormat.CONTENT_TYPE);
+        exchange.getResponseHeaders().put(Headers.SERVER, Default.SERVER.toString());
+        exchange.getResponseSender().send(PrometheusFormat.write(this.requestMetrics));
+    }
+}
@@ -0,0 +1,104 @@
+package mangoo.io.routing.handlers;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.google.common.base.Splitter;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.server.handlers.resource.ResourceHandler;
+import io.undertow.server.handlers.resource.ResourceManager;
+import io.undertow.util.Headers;
+import mangoo.io.enums.ContentType;
+import mangoo.io.enums.Default;
+
+/**
+ * Serves the gzipped variant of a static file, e.g. a minified asset created with
+ * application.minify.gzipjs, if it exists next to the file and the client accepts gzip.
+ * The file is sent as it is, so serving it costs no CPU for compressing.
+ *
+ * @author svenkubiak
+ *
+ */
+public class PreCompressedHandler implements HttpHandler {
+    private static final String GZIP = "gzip";
+    private static final String SUFFIX = ".gz";
+    private static final Splitter SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
+    private final Cache<String, Boolean> variants = CacheBuilder.newBuilder().maximumSize(Default.PRECOMPRESSED_CACHE_SIZE.toLong()).build();
+    private final ResourceHandler resourceHandler;
+    private final ResourceManager resourceManager;
+
+    public PreCompressedHandler(ResourceHandler resourceHandler) {
+        this.resourceHandler = resourceHandler;
+        this.resourceManager = resourceHandler.getResourceManager();
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        String path = exchange.getRelativePath();
+        if (acceptsGzip(exchange.getRequestHeaders().getFirst(Headers.ACCEPT_ENCODING)) && hasVariant(path)) {
+            String mimeType = getMimeType(path);
+            exchange.setRelativePath(path + SUFFIX);
+            exchange.getResponseHeaders().put(Headers.CONTENT_ENCODING, GZIP);
+            exchange.getResponseHeaders().put(Headers.VARY, Headers.ACCEPT_ENCODING_STRING);
+            exchange.addResponseCommitListener(committed -> committed.getResponseHeaders().put(Headers.CONTENT_TYPE, mimeType));
+        }
+
+        this.resourceHandler.handleRequest(exchange);
+    }
+
+    private boolean hasVariant(String path) throws IOException {
+        if (path.endsWith(SUFFIX) || path.endsWith("/")) {
+            return false;
+        }
+
+        Boolean variant = this.variants.getIfPresent(path);
+        if (variant == null) {
+            variant = this.resourceManager.getResource(path + SUFFIX) != null;
+            this.variants.put(path, variant);
+        }
+
+        return variant;
+    }
+
+    private String getMimeType(String path) {
+        String mimeType = null;
+        int index = path.lastIndexOf('.');
+        if (index != -1) {
+            mimeType = this.resourceHandler.getMimeMappings().getMimeType(path.substring(index + 1));
+        }
+
+        return (mimeType == null) ? ContentType.APPLICATION_OCTETE_STREAM.toString() : mimeType;
+    }
+
+    /**
+     * Checks if an Accept-Encoding header contains gzip with a q-value above zero
+     *
+     * @param acceptEncoding The value of the Accept-Encoding header, may be null
+     * @return True if the client accepts gzip, false otherwise
+     */
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String coding : SPLITTER.split(acceptEncoding)) {
+            List<String> parts = Splitter.on(';').trimResults().splitToList(coding);
+            if (GZIP.equalsIgnoreCase(parts.get(0)) || "*".equals(parts.get(0))) {
+                for (int i = 1; i < parts.size(); i++) {
+                    String parameter = parts.get(i).replace(" ", "");
+                    if (parameter.startsWith("q=") && parameter.substring(2).matches("0(\\.0{0,3})?")) {
+                        return false;
+                    }
+                }
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
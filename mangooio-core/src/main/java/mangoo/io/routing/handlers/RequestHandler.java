@@ -2,30 +2,44 @@ package mangoo.io.routing.handlers;
 
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
-import java.util.Deque;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.Locale;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-import org.apache.commons.codec.digest.DigestUtils;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.boon.json.JsonFactory;
 import org.boon.json.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xnio.XnioExecutor;
 
-import com.google.common.base.Joiner;
-import com.google.common.base.Splitter;
+import com.google.common.hash.Hashing;
 import com.google.inject.Injector;
+import com.google.inject.Provider;
 
 import freemarker.template.TemplateException;
+import io.undertow.UndertowMessages;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.server.handlers.Cookie;
@@ -33,249 +47,728 @@ import io.undertow.server.handlers.CookieImpl;
 import io.undertow.server.handlers.form.FormData;
 import io.undertow.server.handlers.form.FormDataParser;
 import io.undertow.server.handlers.form.FormParserFactory;
-import io.undertow.util.HeaderValues;
+import io.undertow.util.ETag;
+import io.undertow.util.ETagUtils;
 import io.undertow.util.Headers;
 import io.undertow.util.HttpString;
 import io.undertow.util.Methods;
+import io.undertow.util.SameThreadExecutor;
 import io.undertow.util.StatusCodes;
+import mangoo.io.annotations.CacheResponse;
+import mangoo.io.annotations.CacheSafe;
 import mangoo.io.annotations.FilterWith;
 import mangoo.io.authentication.Authentication;
+import mangoo.io.cache.Cache;
+import mangoo.io.cache.CachedResponse;
 import mangoo.io.configuration.Config;
+import mangoo.io.cookie.CookieCodec;
 import mangoo.io.core.Application;
-import mangoo.io.crypto.Crypto;
-import mangoo.io.enums.ContentType;
+import mangoo.io.core.DispatchExecutor;
 import mangoo.io.enums.Default;
 import mangoo.io.enums.Header;
 import mangoo.io.enums.Key;
+import mangoo.io.enums.Phase;
+import mangoo.io.enums.Vary;
+import mangoo.io.i18n.LocaleResolver;
 import mangoo.io.i18n.Messages;
+import mangoo.io.interfaces.MangooBinder;
+import mangoo.io.interfaces.MangooControllerFilter;
 import mangoo.io.interfaces.MangooGlobalFilter;
+import mangoo.io.metrics.CacheCounter;
+import mangoo.io.metrics.FilterMetrics;
+import mangoo.io.metrics.FilterTimer;
+import mangoo.io.metrics.RequestTimings;
+import mangoo.io.metrics.ResponseCacheMetrics;
+import mangoo.io.metrics.SlowRequests;
+import mangoo.io.routing.RequestContext;
 import mangoo.io.routing.Response;
+import mangoo.io.routing.Route;
+import mangoo.io.routing.binders.Binders;
 import mangoo.io.routing.bindings.Body;
+import mangoo.io.routing.bindings.BodyTooLargeException;
 import mangoo.io.routing.bindings.Exchange;
 import mangoo.io.routing.bindings.Flash;
 import mangoo.io.routing.bindings.Form;
 import mangoo.io.routing.bindings.Session;
 import mangoo.io.templating.TemplateEngine;
 
+/**
+ * Compiled request handler of a single route. All reflection, injector lookups and
+ * object creation which does not depend on the request is done once when the handler
+ * is created at startup. The handler itself is immutable and shared between all
+ * requests, the state of a single request is kept in a {@link RequestContext}. The
+ * controller is obtained from its provider for every request, so controllers which
+ * are not bound as singleton still get a fresh instance per request.
+ *
+ * @author svenkubiak
+ *
+ */
 public class RequestHandler implements HttpHandler {
-    private static final int AUTH_PREFIX_LENGTH = 2;
+    private static final Logger LOG = LoggerFactory.getLogger(RequestHandler.class);
     private static final int TOKEN_LENGTH = 16;
-    private static final int INDEX_2 = 2;
-    private static final int INDEX_1 = 1;
-    private static final int INDEX_0 = 0;
-    private static final int SESSION_PREFIX_LENGTH = 3;
-    private int parameterCount;
-    private Class<?> controllerClass;
-    private String controllerMethod;
-    private Object controller;
-    private Map<String, Class<?>> parameters;
-    private Method method;
-    private ObjectMapper mapper;
-    private Authentication authentication;
-    private Session session;
-    private Flash flash;
-    private Form form;
-    private Config config;
-    private Injector injector;
-    private Exchange exchange;
-    private boolean globalFilter;
-
-    public RequestHandler(Class<?> controllerClass, String controllerMethod) {
+    private static final Object [] NO_ARGUMENTS = new Object[0];
+    private final int parameterCount;
+    private final Class<?> controllerClass;
+    private final String controllerMethod;
+    private final Provider<?> controllerProvider;
+    private final boolean nonBlocking;
+    private final String [] parameterNames;
+    private final MangooBinder [] binders;
+    private final Method method;
+    private final MethodHandle methodHandle;
+    private final ObjectMapper mapper;
+    private final Config config;
+    private final Injector injector;
+    private final Messages messages;
+    private final LocaleResolver localeResolver;
+    private final CookieCodec cookieCodec;
+    private final TemplateEngine templateEngine;
+    private final Provider<Form> formProvider;
+    private final Executor executor;
+    private final boolean async;
+    private final long asyncTimeout;
+    private final int asyncTimeoutStatus;
+    private final long maxBodySize;
+    private final boolean etag;
+    private final CacheResponse cacheResponse;
+    private final Cache cache;
+    private final CacheCounter cacheCounter;
+    private final boolean coalesced;
+    private final String route;
+    private final SlowRequests slowRequests;
+    private final Map<String, CompletableFuture<CachedResponse>> flights = new ConcurrentHashMap<String, CompletableFuture<CachedResponse>>();
+    private MangooControllerFilter [] filters;
+    private FilterTimer [] filterTimers;
+    private boolean [] cacheSafeFilters;
+
+    public RequestHandler(Route route) throws NoSuchMethodException, IllegalAccessException {
         this.injector = Application.getInjector();
-        this.controllerClass = controllerClass;
-        this.controllerMethod = controllerMethod;
-        this.controller = this.injector.getInstance(this.controllerClass);
-        this.parameters = getMethodParameters();
-        this.parameterCount = this.parameters.size();
-        this.config = this.injector.getInstance(Config.class);
-        this.globalFilter = this.injector.getAllBindings().containsKey(com.google.inject.Key.get(MangooGlobalFilter.class));
+        this.controllerClass = route.getControllerClass();
+        this.controllerMethod = route.getControllerMethod();
+        this.nonBlocking = route.isNonBlocking();
+        this.controllerProvider = this.injector.getProvider(this.controllerClass);
         this.mapper = JsonFactory.create();
+
+        Parameter [] parameters = getMethodParameters();
+        this.parameterCount = parameters.length;
+        this.parameterNames = new String[this.parameterCount];
+        this.binders = new MangooBinder[this.parameterCount];
+        Class<?> [] parameterTypes = new Class<?>[this.parameterCount];
+        for (int i = 0; i < this.parameterCount; i++) {
+            this.parameterNames[i] = parameters[i].getName();
+            this.binders[i] = Binders.getBinder(parameters[i], this.mapper);
+            parameterTypes[i] = parameters[i].getType();
+        }
+
+        this.method = this.controllerClass.getMethod(this.controllerMethod, parameterTypes);
+        this.methodHandle = MethodHandles.publicLookup()
+                .unreflect(this.method)
+                .asSpreader(Object[].class, this.parameterCount)
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+        this.config = this.injector.getInstance(Config.class);
+        this.messages = this.injector.getInstance(Messages.class);
+        this.localeResolver = this.injector.getInstance(LocaleResolver.class);
+        this.cookieCodec = this.injector.getInstance(CookieCodec.class);
+        this.templateEngine = this.injector.getInstance(TemplateEngine.class);
+        this.formProvider = this.injector.getProvider(Form.class);
+        this.executor = this.injector.getInstance(DispatchExecutor.class).getExecutor();
+        this.async = CompletionStage.class.isAssignableFrom(this.method.getReturnType());
+        this.asyncTimeout = this.config.getLong(Key.APPLICATION_ASYNC_TIMEOUT, Default.ASYNC_TIMEOUT.toLong());
+        this.asyncTimeoutStatus = this.config.getInt(Key.APPLICATION_ASYNC_TIMEOUT_STATUS, Default.ASYNC_TIMEOUT_STATUS.toInt());
+        this.maxBodySize = this.config.getLong(Key.APPLICATION_BODY_MAXSIZE, Default.BODY_MAXSIZE.toLong());
+        this.etag = route.isETag() || this.config.getBoolean(Key.APPLICATION_ETAG, false);
+        this.cacheResponse = this.method.getAnnotation(CacheResponse.class);
+        this.coalesced = route.isCoalesced();
+        this.route = route.getRequestMethod() + " " + route.getUrl();
+        this.slowRequests = this.injector.getInstance(SlowRequests.class);
+        this.cache = this.injector.getInstance(Cache.class);
+        this.cacheCounter = (this.cacheResponse == null) ? null : this.injector.getInstance(ResponseCacheMetrics.class).getCounter(this.controllerClass, this.controllerMethod);
+
+        initFilters(this.injector.getInstance(FilterMetrics.class));
     }
 
     @Override
-    @SuppressWarnings("all")
     public void handleRequest(HttpServerExchange exchange) throws Exception {
-        if (this.method == null) {
-            this.method = this.controller.getClass().getMethod(this.controllerMethod, parameters.values().toArray(new Class[0]));
+        if (exceedsMaxBodySize(exchange)) {
+            sendBodyTooLarge(exchange);
+            return;
         }
-        this.exchange = null;
-        this.session = null;
-        this.form = null;
-        this.authentication = null;
 
-        setLocale(exchange);
-        getSession(exchange);
-        getAuthentication(exchange);
-        getFlash(exchange);
-        getForm(exchange);
+        RequestContext context = new RequestContext(exchange, this::getSession, this::getAuthentication, this::getFlash, this::getBody);
+        RequestTimings timings = getTimings(context);
 
-        boolean continueAfterFilter = executeFilter(exchange);
-        if (continueAfterFilter) {
-            Response response = getResponse(exchange);
+        long start = timings.start();
+        setLocale(context);
+        timings.stop(Phase.LOCALE, start);
+
+        try {
+            start = timings.start();
+            getForm(context);
+            timings.stop(Phase.FORM, start);
+
+            if (this.cacheResponse != null && sendCachedResponse(context)) {
+                return;
+            }
+
+            start = timings.start();
+            boolean continueAfterFilter = executeFilter(context, false);
+            timings.stop(Phase.FILTERS, start);
+            if (continueAfterFilter && !joinFlight(context)) {
+                execute(context);
+            }
+        } catch (Exception e) {
+            finishFlight(context, null);
+            if (exchange.isResponseStarted() || ExceptionUtils.indexOfType(e, BodyTooLargeException.class) == -1) {
+                throw e;
+            }
+            sendBodyTooLarge(exchange);
+        }
+    }
+
+    /**
+     * Rejects a request whose body exceeds application.body.maxsize. The connection is closed,
+     * as the rest of the body is not read.
+     *
+     * @param exchange The current HttpServerExchange
+     */
+    private static void sendBodyTooLarge(HttpServerExchange exchange) {
+        exchange.setResponseCode(StatusCodes.REQUEST_ENTITY_TOO_LARGE);
+        exchange.getResponseHeaders().put(Headers.CONNECTION, Headers.CLOSE.toString());
+        exchange.getResponseHeaders().put(Headers.SERVER, Default.SERVER.toString());
+        exchange.endExchange();
+    }
+
+    /**
+     * Enables the timings of the request phases if slow requests are recorded. The slow
+     * request check runs once the exchange is completed.
+     *
+     * @param context The context of the current request
+     * @return The timings of the request
+     */
+    private RequestTimings getTimings(RequestContext context) {
+        if (!this.slowRequests.isEnabled()) {
+            return RequestTimings.DISABLED;
+        }
+
+        RequestTimings timings = new RequestTimings();
+        context.setTimings(timings);
+        context.getHttpServerExchange().addExchangeCompleteListener((exchange, nextListener) -> {
+            timings.complete();
+            this.slowRequests.record(this.route, exchange.getRequestPath(), exchange.getQueryString(), exchange.getResponseCode(), timings);
+            nextListener.proceed();
+        });
 
-            setSession(exchange);
-            setFlash(exchange);
-            setAuthentication(exchange);
+        return timings;
+    }
 
-            if (response.isRedirect()) {
-                exchange.setResponseCode(StatusCodes.FOUND);
-                exchange.getResponseHeaders().put(Headers.LOCATION, response.getRedirectTo());
+    private void execute(RequestContext context) throws Exception {
+        RequestTimings timings = context.getTimings();
+        long start = timings.start();
+        if (this.async) {
+            CompletionStage<?> completionStage = invokeAsync(getConvertedParameters(context));
+            timings.stop(Phase.INVOKE, start);
+            context.getHttpServerExchange().dispatch(SameThreadExecutor.INSTANCE, () -> complete(context, completionStage));
+        } else {
+            Response response = invoke(getConvertedParameters(context));
+            timings.stop(Phase.INVOKE, start);
+            sendResponse(context, render(context, response));
+        }
+    }
+
+    /**
+     * Joins the execution of an identical request which is currently in flight, if the route
+     * is coalesced. The exchange of a joining request is suspended without blocking a thread,
+     * until the response of the executing request is available. Requests of a user are never
+     * coalesced, as the response may be rendered from the data of that user.
+     *
+     * @param context The context of the current request
+     * @return True if the request joined another request, false if it has to execute the controller method itself
+     */
+    private boolean joinFlight(RequestContext context) {
+        HttpServerExchange exchange = context.getHttpServerExchange();
+        if (!this.coalesced || !(Methods.GET.equals(exchange.getRequestMethod()) || Methods.HEAD.equals(exchange.getRequestMethod())) || isPersonalized(exchange)) {
+            return false;
+        }
+
+        String flightKey = exchange.getRequestMethod() + " " + exchange.getRelativePath() + "?" + exchange.getQueryString() + "|" + context.getLocale();
+        CompletableFuture<CachedResponse> flight = new CompletableFuture<CachedResponse>();
+        CompletableFuture<CachedResponse> existingFlight = this.flights.putIfAbsent(flightKey, flight);
+        if (existingFlight == null) {
+            context.setFlightKey(flightKey);
+            return false;
+        }
+
+        exchange.dispatch(SameThreadExecutor.INSTANCE, () -> existingFlight.whenComplete((cachedResponse, throwable) -> {
+            try {
+                if (cachedResponse == null) {
+                    exchange.dispatch(this.executor, (HttpHandler) dispatched -> execute(context));
+                } else {
+                    sendResponse(context, cachedResponse.toResponse());
+                }
+            } catch (Exception e) {
+                LOG.error("Failed to complete coalesced response", e);
+                exchange.setResponseCode(StatusCodes.INTERNAL_SERVER_ERROR);
+                exchange.endExchange();
+            }
+        }));
+
+        return true;
+    }
+
+    /**
+     * Hands the response of a request which executed the controller method to all requests
+     * which joined it
+     *
+     * @param context The context of the current request
+     * @param cachedResponse The response to share or null if the joined requests have to execute the controller method themselves,
+     * e.g. because the response was not modified and its body was therefore not rendered
+     */
+    private void finishFlight(RequestContext context, CachedResponse cachedResponse) {
+        if (context.getFlightKey() != null) {
+            CompletableFuture<CachedResponse> flight = this.flights.remove(context.getFlightKey());
+            context.setFlightKey(null);
+            if (flight != null) {
+                flight.complete(cachedResponse);
+            }
+        }
+    }
+
+    /**
+     * Completes a suspended exchange once the completion stage returned by the controller
+     * method finishes, or with the configured status code when the timeout is reached first
+     *
+     * @param context The context of the suspended request
+     * @param completionStage The completion stage returned by the controller method
+     */
+    private void complete(RequestContext context, CompletionStage<?> completionStage) {
+        HttpServerExchange exchange = context.getHttpServerExchange();
+        AtomicBoolean completed = new AtomicBoolean();
+        XnioExecutor.Key timeout = exchange.getIoThread().executeAfter(() -> {
+            if (completed.compareAndSet(false, true)) {
+                finishFlight(context, null);
+                exchange.setResponseCode(this.asyncTimeoutStatus);
                 exchange.getResponseHeaders().put(Headers.SERVER, Default.SERVER.toString());
                 exchange.endExchange();
-            } else if (response.isBinary()) {
-                exchange.dispatch(exchange.getDispatchExecutor(), new BinaryHandler(response));
+            }
+        }, this.asyncTimeout, TimeUnit.MILLISECONDS);
+
+        completionStage.whenComplete((result, throwable) -> {
+            if (completed.compareAndSet(false, true)) {
+                timeout.remove();
+                try {
+                    if (throwable == null && result instanceof Response) {
+                        sendResponse(context, render(context, (Response) result));
+                    } else {
+                        Throwable cause = (throwable == null) ? new IllegalStateException("Controller method '" + this.controllerMethod + "' in controller class '"
+                                + this.controllerClass.getSimpleName() + "' completed with " + result + " instead of a Response") : throwable;
+                        finishFlight(context, null);
+                        exchange.putAttachment(ExceptionHandler.THROWABLE, new InvocationTargetException(cause));
+                        new ExceptionHandler().handleRequest(exchange);
+                    }
+                } catch (Exception e) {
+                    finishFlight(context, null);
+                    LOG.error("Failed to complete asynchronous response", e);
+                    exchange.setResponseCode(StatusCodes.INTERNAL_SERVER_ERROR);
+                    exchange.endExchange();
+                }
+            }
+        });
+    }
+
+    /**
+     * Streams a response from a worker thread, as writing to the output stream blocks
+     *
+     * @param exchange The current HttpServerExchange
+     * @param response The streamed response
+     */
+    private void stream(HttpServerExchange exchange, Response response) throws Exception {
+        if (exchange.isInIoThread()) {
+            exchange.dispatch(this.executor, new StreamHandler(response));
+        } else {
+            new StreamHandler(response).handleRequest(exchange);
+        }
+    }
+
+    private void sendResponse(RequestContext context, Response response) throws Exception {
+        HttpServerExchange exchange = context.getHttpServerExchange();
+        RequestTimings timings = context.getTimings();
+
+        long start = timings.startNested();
+        setSession(context);
+        timings.stopNested(Phase.SESSION, start);
+
+        start = timings.startNested();
+        setFlash(context);
+        timings.stopNested(Phase.FLASH, start);
+
+        start = timings.startNested();
+        setAuthentication(context);
+        timings.stopNested(Phase.AUTHENTICATION, start);
+
+        timings.commit();
+
+        if (response.isRedirect()) {
+            finishFlight(context, null);
+            exchange.setResponseCode(StatusCodes.FOUND);
+            exchange.getResponseHeaders().put(Headers.LOCATION, response.getRedirectTo());
+            exchange.getResponseHeaders().put(Headers.SERVER, Default.SERVER.toString());
+            exchange.endExchange();
+        } else if (response.isBinary()) {
+            finishFlight(context, null);
+            exchange.dispatch(this.executor, new BinaryHandler(response));
+        } else {
+            exchange.setResponseCode(response.getStatusCode());
+            exchange.getResponseHeaders().put(Header.X_XSS_PPROTECTION.toHttpString(), 1);
+            exchange.getResponseHeaders().put(Header.X_CONTENT_TYPE_OPTIONS.toHttpString(), Default.NOSNIFF.toString());
+            exchange.getResponseHeaders().put(Header.X_FRAME_OPTIONS.toHttpString(), Default.SAMEORIGIN.toString());
+            exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, response.getContentType() + "; charset=" + response.getCharset());
+            exchange.getResponseHeaders().put(Headers.SERVER, Default.SERVER.toString());
+            response.getHeaders().forEach((key, value) -> exchange.getResponseHeaders().add(key, value));
+
+            String etag = getETag(context, response);
+            boolean notModified = etag != null && isNotModified(exchange, etag);
+
+            cacheResponse(context, response, notModified);
+            finishFlight(context, !notModified && isShareable(context, response) ? new CachedResponse(response) : null);
+
+            if (etag != null) {
+                exchange.getResponseHeaders().put(Headers.ETAG, etag);
+            }
+
+            if (notModified) {
+                exchange.setResponseCode(StatusCodes.NOT_MODIFIED);
+                exchange.getResponseHeaders().remove(Headers.CONTENT_TYPE);
+                exchange.endExchange();
+            } else if (response.isStreamed()) {
+                stream(exchange, response);
             } else {
-                exchange.setResponseCode(response.getStatusCode());
-                exchange.getResponseHeaders().put(Header.X_XSS_PPROTECTION.toHttpString(), 1);
-                exchange.getResponseHeaders().put(Header.X_CONTENT_TYPE_OPTIONS.toHttpString(), Default.NOSNIFF.toString());
-                exchange.getResponseHeaders().put(Header.X_FRAME_OPTIONS.toHttpString(), Default.SAMEORIGIN.toString());
-                exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, response.getContentType() + "; charset=" + response.getCharset());
-                exchange.getResponseHeaders().put(Headers.SERVER, Default.SERVER.toString());
-                response.getHeaders().forEach((key, value) -> exchange.getResponseHeaders().add(key, value));
                 exchange.getResponseSender().send(response.getBody());
             }
         }
     }
 
-    private void setLocale(HttpServerExchange exchange) {
-        HeaderValues headerValues = exchange.getRequestHeaders().get(Headers.ACCEPT_LANGUAGE_STRING);
-        if (headerValues != null && headerValues.getFirst() != null) {
-            Iterable<String> split = Splitter.on(",").trimResults().split(headerValues.getFirst());
-            if (split != null) {
-                String language = split.iterator().next();
-                if (StringUtils.isBlank(language)) {
-                    language = this.config.getString(Key.APPLICATION_LANGUAGE, Default.LANGUAGE.toString());
-                }
+    /**
+     * Serves the response from the cache if the controller method is annotated with
+     * CacheResponse and a response for the request is cached. All filters which are not
+     * marked as CacheSafe are still executed. Requests of a user, i.e. with a session,
+     * authentication or flash cookie, bypass the cache.
+     *
+     * @param context The context of the current request
+     * @return True if the request was handled, false if the controller method has to be invoked
+     */
+    private boolean sendCachedResponse(RequestContext context) throws Exception {
+        HttpServerExchange exchange = context.getHttpServerExchange();
+        if (!Methods.GET.equals(exchange.getRequestMethod()) && !Methods.HEAD.equals(exchange.getRequestMethod())) {
+            return false;
+        }
 
-                Locale.setDefault(Locale.forLanguageTag(language.substring(0, 1)));
-                Application.getInjector().getInstance(Messages.class).reload();
+        if (isPersonalized(exchange)) {
+            this.cacheCounter.skip();
+            return false;
+        }
+
+        String cacheKey = getCacheKey(context);
+        CachedResponse cachedResponse = this.cache.get(cacheKey, CachedResponse.class);
+        if (cachedResponse == null) {
+            this.cacheCounter.miss();
+            context.setCacheKey(cacheKey);
+            return false;
+        }
+
+        this.cacheCounter.hit();
+        long start = context.getTimings().start();
+        boolean continueAfterFilter = executeFilter(context, true);
+        context.getTimings().stop(Phase.FILTERS, start);
+        if (continueAfterFilter) {
+            sendResponse(context, cachedResponse.toResponse());
+        }
+
+        return true;
+    }
+
+    private String getCacheKey(RequestContext context) {
+        HttpServerExchange exchange = context.getHttpServerExchange();
+        StringBuilder buffer = new StringBuilder(Default.RESPONSE_CACHE_PREFIX.toString())
+                .append(this.controllerClass.getName()).append('.').append(this.controllerMethod)
+                .append(':').append(exchange.getRelativePath());
+
+        for (Vary vary : this.cacheResponse.varyBy()) {
+            if (Vary.QUERY.equals(vary)) {
+                buffer.append('?').append(exchange.getQueryString());
+            } else if (Vary.LOCALE.equals(vary)) {
+                buffer.append('|').append(context.getLocale());
+            } else if (Vary.HEADER.equals(vary)) {
+                for (String header : this.cacheResponse.headers()) {
+                    buffer.append('|').append(header).append('=').append(exchange.getRequestHeaders().getFirst(header));
+                }
             }
         }
+
+        return buffer.toString();
     }
 
-    private boolean executeFilter(HttpServerExchange exchange) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-        boolean continueAfterFilter = executeGlobalFilter(exchange);
+    /**
+     * Stores a response in the cache if it was a cache miss and the response can be shared.
+     * A not modified response is never cached, as its body may not have been rendered.
+     *
+     * @param context The context of the current request
+     * @param response The response to cache
+     * @param notModified True if the request is answered with 304 Not Modified
+     */
+    private void cacheResponse(RequestContext context, Response response, boolean notModified) {
+        if (context.getCacheKey() == null) {
+            return;
+        }
 
-        if (continueAfterFilter) {
-            continueAfterFilter = executeFilter(this.controllerClass.getAnnotations(), exchange);
+        if (!notModified && isShareable(context, response)) {
+            this.cache.add(context.getCacheKey(), new CachedResponse(response), this.cacheResponse.ttl());
+        } else {
+            this.cacheCounter.skip();
         }
+    }
 
-        if (continueAfterFilter) {
-            continueAfterFilter = executeFilter(this.method.getAnnotations(), exchange);
+    /**
+     * Checks if a request carries a session, authentication or flash cookie. The response to
+     * such a request may be rendered from the data of a single user, e.g. its authenticity
+     * token, so it must not be served to other users.
+     *
+     * @param exchange The current HttpServerExchange
+     * @return True if the request belongs to a user, false otherwise
+     */
+    private boolean isPersonalized(HttpServerExchange exchange) {
+        Map<String, Cookie> cookies = exchange.getRequestCookies();
+        return cookies.containsKey(this.config.getSessionCookieName()) || cookies.containsKey(this.config.getAuthenticationCookieName())
+                || cookies.containsKey(this.config.getFlashCookieName());
+    }
+
+    /**
+     * Checks if a response can be served to other requests, which is the case for successful
+     * text responses which do not set any cookie, as cookies belong to a single user
+     *
+     * @param context The context of the current request
+     * @param response The response to check
+     * @return True if the response can be shared, false otherwise
+     */
+    private static boolean isShareable(RequestContext context, Response response) {
+        return response.getStatusCode() == StatusCodes.OK && !response.isStreamed() && context.getHttpServerExchange().getResponseCookies().isEmpty();
+    }
+
+    /**
+     * Checks the announced length of the request body against application.body.maxsize,
+     * so oversized requests are rejected before their body is read
+     *
+     * @param exchange The current HttpServerExchange
+     * @return True if the request body is too large, false otherwise
+     */
+    private boolean exceedsMaxBodySize(HttpServerExchange exchange) {
+        if (this.maxBodySize < 0) {
+            return false;
         }
 
-        return continueAfterFilter;
+        String contentLength = exchange.getRequestHeaders().getFirst(Headers.CONTENT_LENGTH);
+        return contentLength != null && NumberUtils.toLong(contentLength, 0) > this.maxBodySize;
     }
 
-    private boolean executeGlobalFilter(HttpServerExchange exchange) {
-        if (this.globalFilter) {
-            MangooGlobalFilter mangooGlobalFilter = this.injector.getInstance(MangooGlobalFilter.class);
-            return mangooGlobalFilter.filter(getExchange(exchange));
+    private Body getBody(HttpServerExchange exchange) {
+        if (exchange.getRequestMethod().equals(Methods.POST) || exchange.getRequestMethod().equals(Methods.PUT)) {
+            exchange.startBlocking();
+
+            String contentType = exchange.getRequestHeaders().getFirst(Headers.CONTENT_TYPE);
+            String charset = (contentType == null) ? null : Headers.extractQuotedValueFromHeader(contentType, "charset");
+            return new Body(exchange.getInputStream(), (charset == null) ? StandardCharsets.UTF_8 : Charset.forName(charset), this.maxBodySize);
         }
 
-        return true;
+        return new Body();
+    }
+
+    private void setLocale(RequestContext context) {
+        context.setLocale(this.localeResolver.resolve(context.getHttpServerExchange().getRequestHeaders().getFirst(Headers.ACCEPT_LANGUAGE)));
     }
 
-    private Exchange getExchange(HttpServerExchange httpServerExchange) {
-        if (this.exchange == null) {
-            String authenticityToken = getRequestParameters(httpServerExchange).get(Default.AUTHENTICITY_TOKEN.toString());
-            if (StringUtils.isBlank(authenticityToken)) {
-                authenticityToken = this.form.get(Default.AUTHENTICITY_TOKEN.toString());
+    /**
+     * Executes the filter chain of the route
+     *
+     * @param context The context of the current request
+     * @param cached True if the response is served from the cache, skipping all filters marked as CacheSafe
+     * @return True if the request should continue, false if a filter stopped the request
+     */
+    private boolean executeFilter(RequestContext context, boolean cached) {
+        for (int i = 0; i < this.filters.length; i++) {
+            if (cached && this.cacheSafeFilters[i]) {
+                continue;
             }
 
-            this.exchange = new Exchange(httpServerExchange, this.session, authenticityToken, this.authentication);
+            long start = System.nanoTime();
+            boolean continueAfterFilter = this.filters[i].filter(getExchange(context));
+            this.filterTimers[i].record(System.nanoTime() - start, continueAfterFilter);
+
+            if (!continueAfterFilter) {
+                return false;
+            }
         }
 
-        return this.exchange;
+        return true;
     }
 
-    private boolean executeFilter(Annotation[] annotations, HttpServerExchange exchange) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-        FilterWith filterWith = null;
-        boolean continueAfterFilter = true;
+    private Exchange getExchange(RequestContext context) {
+        if (context.getExchange() == null) {
+            context.setExchange(new Exchange(context.getHttpServerExchange(), context::getSession, () -> getAuthenticityToken(context), context::getAuthentication));
+        }
 
-        for (Annotation annotation : annotations) {
-            if (annotation.annotationType().equals(FilterWith.class)) {
-                filterWith = (FilterWith) annotation;
-                for (Class<?> clazz : filterWith.value()) {
-                    if (continueAfterFilter) {
-                        Method classMethod = clazz.getMethod(Default.FILTER_METHOD_NAME.toString(), Exchange.class);
-                        continueAfterFilter = (boolean) classMethod.invoke(this.injector.getInstance(clazz), getExchange(exchange));
-                    } else {
-                        return false;
+        return context.getExchange();
+    }
+
+    private String getAuthenticityToken(RequestContext context) {
+        String authenticityToken = context.getParameter(Default.AUTHENTICITY_TOKEN.toString());
+        if (StringUtils.isBlank(authenticityToken)) {
+            authenticityToken = context.getForm().get(Default.AUTHENTICITY_TOKEN.toString());
+        }
+
+        return authenticityToken;
+    }
+
+    /**
+     * Resolves the global filter and all filters of the controller class and controller method
+     * in the order they are executed
+     *
+     * @param filterMetrics The filter metrics to get the filter timers from
+     */
+    private void initFilters(FilterMetrics filterMetrics) {
+        List<MangooControllerFilter> filterChain = new ArrayList<MangooControllerFilter>();
+        List<FilterTimer> timers = new ArrayList<FilterTimer>();
+        List<Boolean> cacheSafe = new ArrayList<Boolean>();
+
+        if (this.injector.getAllBindings().containsKey(com.google.inject.Key.get(MangooGlobalFilter.class))) {
+            MangooGlobalFilter globalFilter = this.injector.getInstance(MangooGlobalFilter.class);
+            filterChain.add(globalFilter::filter);
+            timers.add(filterMetrics.getTimer(globalFilter.getClass()));
+            cacheSafe.add(globalFilter.getClass().isAnnotationPresent(CacheSafe.class));
+        }
+
+        for (Annotation[] annotations : Arrays.asList(this.controllerClass.getAnnotations(), this.method.getAnnotations())) {
+            for (Annotation annotation : annotations) {
+                if (annotation.annotationType().equals(FilterWith.class)) {
+                    for (Class<? extends MangooControllerFilter> clazz : ((FilterWith) annotation).value()) {
+                        filterChain.add(this.injector.getInstance(clazz));
+                        timers.add(filterMetrics.getTimer(clazz));
+                        cacheSafe.add(clazz.isAnnotationPresent(CacheSafe.class));
                     }
                 }
             }
         }
 
-        return continueAfterFilter;
+        this.filters = filterChain.toArray(new MangooControllerFilter[filterChain.size()]);
+        this.filterTimers = timers.toArray(new FilterTimer[timers.size()]);
+        this.cacheSafeFilters = new boolean[cacheSafe.size()];
+        for (int i = 0; i < this.cacheSafeFilters.length; i++) {
+            this.cacheSafeFilters[i] = cacheSafe.get(i);
+        }
     }
 
-    private Response getResponse(HttpServerExchange exchange) throws IllegalAccessException, InvocationTargetException, IOException, TemplateException {
-        Response response;
+    private Response render(RequestContext context, Response response) throws IOException, TemplateException {
+        long start = context.getTimings().start();
+        response.andTemplate(this.method.getName());
 
-        if (this.parameters.isEmpty()) {
-            response = (Response) this.method.invoke(this.controller);
-            response.andTemplate(this.method.getName());
+        if (!response.isRendered() && !isNotModifiedVersion(context, response)) {
+            Exchange exchange = context.getExchange();
+            if (response.getContent() != null && exchange != null && exchange.getContent() != null) {
+                response.getContent().putAll(exchange.getContent());
+            }
+
+            response.andBody(this.templateEngine.render(context.getFlash(), context.getSession(), context.getForm(), this.messages, context.getLocale(), this.controllerClass.getSimpleName(), response.getTemplate(), response.getContent()));
+        }
+        context.getTimings().stop(Phase.RENDER, start);
+
+        return response;
+    }
+
+    /**
+     * Creates the ETag of a response, either from the version supplied by the controller or
+     * from the rendered body
+     *
+     * @param context The context of the current request
+     * @param response The response of the controller method
+     * @return A strong ETag or null if ETags are disabled or not applicable for the response
+     */
+    private String getETag(RequestContext context, Response response) {
+        HttpServerExchange exchange = context.getHttpServerExchange();
+        if (!this.etag || response.getStatusCode() != StatusCodes.OK || response.isStreamed()
+                || !(Methods.GET.equals(exchange.getRequestMethod()) || Methods.HEAD.equals(exchange.getRequestMethod()))
+                || exchange.getRequestCookies().containsKey(this.config.getFlashCookieName())) {
+            return null;
+        }
+
+        String hash;
+        if (response.getVersion() == null) {
+            hash = Hashing.murmur3_128().hashString(response.getBody(), StandardCharsets.UTF_8).toString();
         } else {
-            Object [] convertedParameters = getConvertedParameters(exchange);
+            hash = Hashing.murmur3_128().hashString(response.getVersion() + "-" + response.getTemplate() + "-" + context.getLocale(), StandardCharsets.UTF_8).toString();
+        }
+
+        return "\"" + hash + "\"";
+    }
 
-            response = (Response) this.method.invoke(this.controller, convertedParameters);
-            response.andTemplate(this.method.getName());
+    private boolean isNotModifiedVersion(RequestContext context, Response response) {
+        if (response.getVersion() == null) {
+            return false;
         }
 
-        if (!response.isRendered()) {
-            if (response.getContent() != null && this.exchange != null && this.exchange.getContent() != null) {
-                response.getContent().putAll(this.exchange.getContent());
-            }
+        String etag = getETag(context, response);
+        return etag != null && isNotModified(context.getHttpServerExchange(), etag);
+    }
+
+    private static boolean isNotModified(HttpServerExchange exchange, String etag) {
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst(Headers.IF_NONE_MATCH);
+        return ifNoneMatch != null && !ETagUtils.handleIfNoneMatch(ifNoneMatch, new ETag(false, etag.substring(1, etag.length() - 1)), true);
+    }
+
+    /**
+     * Invokes the controller method through the pre-bound method handle
+     *
+     * @param arguments The converted arguments for the controller method
+     * @return The response of the controller method
+     *
+     * @throws InvocationTargetException If the controller method throws an exception
+     */
+    @SuppressWarnings("all")
+    private Response invoke(Object [] arguments) throws InvocationTargetException {
+        try {
+            return (Response) (Object) this.methodHandle.invokeExact((Object) this.controllerProvider.get(), arguments);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
 
-            TemplateEngine templateEngine = this.injector.getInstance(TemplateEngine.class);
-            response.andBody(templateEngine.render(this.flash, this.session, this.form, this.injector.getInstance(Messages.class), this.controllerClass.getSimpleName(), response.getTemplate(), response.getContent()));
+    /**
+     * Invokes an asynchronous controller method through the pre-bound method handle
+     *
+     * @param arguments The converted arguments for the controller method
+     * @return The completion stage returned by the controller method
+     *
+     * @throws InvocationTargetException If the controller method throws an exception or returns null
+     */
+    @SuppressWarnings("all")
+    private CompletionStage<?> invokeAsync(Object [] arguments) throws InvocationTargetException {
+        Object completionStage;
+        try {
+            completionStage = (Object) this.methodHandle.invokeExact((Object) this.controllerProvider.get(), arguments);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
         }
 
-        return response;
+        if (completionStage == null) {
+            throw new InvocationTargetException(new IllegalStateException("Controller method '" + this.controllerMethod + "' in controller class '"
+                    + this.controllerClass.getSimpleName() + "' returned null instead of a CompletionStage"));
+        }
+
+        return (CompletionStage<?>) completionStage;
     }
 
     private Session getSession(HttpServerExchange exchange) {
         Session requestSession = null;
         Cookie cookie = exchange.getRequestCookies().get(this.config.getSessionCookieName());
         if (cookie != null) {
-            String cookieValue = cookie.getValue();
-            if (StringUtils.isNotBlank(cookieValue)) {
-                if (this.config.getBoolean(Key.COOKIE_ENCRYPTION, false)) {
-                    Crypto crypto = this.injector.getInstance(Crypto.class);
-                    cookieValue = crypto.decrypt(cookieValue);
-                }
-
-                String sign = null;
-                String expires = null;
-                String authenticityToken = null;
-                String prefix = StringUtils.substringBefore(cookieValue, Default.DATA_DELIMITER.toString());
-                if (StringUtils.isNotBlank(prefix)) {
-                    String [] prefixes = prefix.split("\\" + Default.DELIMITER.toString());
-                    if (prefixes != null && prefixes.length == SESSION_PREFIX_LENGTH) {
-                        sign = prefixes [INDEX_0];
-                        authenticityToken = prefixes [INDEX_1];
-                        expires = prefixes [INDEX_2];
-                    }
-                }
-
-                if (StringUtils.isNotBlank(sign) && StringUtils.isNotBlank(expires) && StringUtils.isNotBlank(authenticityToken)) {
-                    String data = cookieValue.substring(cookieValue.indexOf(Default.DATA_DELIMITER.toString()) + 1, cookieValue.length());
-
-                    LocalDateTime expiresDate = LocalDateTime.parse(expires);
-                    if (LocalDateTime.now().isBefore(expiresDate) && DigestUtils.sha512Hex(data + authenticityToken + expires + this.config.getApplicationSecret()).equals(sign)) {
-                        Map<String, String> sessionValues = new HashMap<String, String>();
-                        if (StringUtils.isNotEmpty(data)) {
-                            for (Map.Entry<String, String> entry : Splitter.on(Default.SPLITTER.toString()).withKeyValueSeparator(Default.SEPERATOR.toString()).split(data).entrySet()) {
-                                sessionValues.put(entry.getKey(), entry.getValue());
-                            }
-                        }
-                        requestSession = new Session(sessionValues);
-                        requestSession.setAuthenticityToken(authenticityToken);
-                        requestSession.setExpires(expiresDate);
-                    }
-                }
-            }
+            requestSession = this.cookieCodec.decodeSession(cookie.getValue());
         }
 
         if (requestSession == null) {
@@ -284,29 +777,22 @@ public class RequestHandler implements HttpHandler {
             requestSession.setExpires(LocalDateTime.now().plusSeconds(this.config.getSessionExpires()));
         }
 
-        this.session = requestSession;
-
         return requestSession;
     }
 
-    private void setSession(HttpServerExchange exchange) {
-        if (this.session != null && this.session.hasChanges()) {
-            String values = Joiner.on(Default.SPLITTER.toString()).withKeyValueSeparator(Default.SEPERATOR.toString()).join(this.session.getValues());
-
-            String sign = DigestUtils.sha512Hex(values + this.session.getAuthenticityToken() + this.session.getExpires() + config.getApplicationSecret());
-            String value = sign + Default.DELIMITER.toString() + this.session.getAuthenticityToken() + Default.DELIMITER.toString() + this.session.getExpires() + Default.DATA_DELIMITER.toString() + values;
-
-            if (this.config.getBoolean(Key.COOKIE_ENCRYPTION, false)) {
-                Crypto crypto = this.injector.getInstance(Crypto.class);
-                value = crypto.encrypt(value);
-            }
+    private void setSession(RequestContext context) {
+        if (!context.hasSession()) {
+            return;
+        }
 
-            Cookie cookie = new CookieImpl(config.getString(Key.COOKIE_NAME), value)
+        Session session = context.getSession();
+        if (session.hasChanges()) {
+            Cookie cookie = new CookieImpl(this.config.getString(Key.COOKIE_NAME), this.cookieCodec.encodeSession(session))
                     .setHttpOnly(true)
                     .setPath("/")
-                    .setExpires(Date.from(this.session.getExpires().atZone(ZoneId.systemDefault()).toInstant()));
+                    .setExpires(Date.from(session.getExpires().atZone(ZoneId.systemDefault()).toInstant()));
 
-            exchange.setResponseCookie(cookie);
+            context.getHttpServerExchange().setResponseCookie(cookie);
         }
     }
 
@@ -314,32 +800,7 @@ public class RequestHandler implements HttpHandler {
         Authentication requestAuthentication = null;
         Cookie cookie = exchange.getRequestCookies().get(this.config.getAuthenticationCookieName());
         if (cookie != null) {
-            String cookieValue = cookie.getValue();
-            if (StringUtils.isNotBlank(cookieValue)) {
-                if (this.config.getBoolean(Key.AUTH_COOKIE_ENCRYPT.toString(), false)) {
-                    Crypto crypto = this.injector.getInstance(Crypto.class);
-                    cookieValue = crypto.decrypt(cookieValue);
-                }
-
-                String sign = null;
-                String expires = null;
-                String prefix = StringUtils.substringBefore(cookieValue, Default.DATA_DELIMITER.toString());
-                if (StringUtils.isNotBlank(prefix)) {
-                    String [] prefixes = prefix.split("\\" + Default.DELIMITER.toString());
-                    if (prefixes != null && prefixes.length == AUTH_PREFIX_LENGTH) {
-                        sign = prefixes [INDEX_0];
-                        expires = prefixes [INDEX_1];
-                    }
-                }
-
-                if (StringUtils.isNotBlank(sign) && StringUtils.isNotBlank(expires)) {
-                    String data = cookieValue.substring(cookieValue.indexOf(Default.DATA_DELIMITER.toString()) + 1, cookieValue.length());
-                    LocalDateTime expiresDate = LocalDateTime.parse(expires);
-                    if (LocalDateTime.now().isBefore(expiresDate) && DigestUtils.sha512Hex(data + expires + this.config.getApplicationSecret()).equals(sign)) {
-                        requestAuthentication = new Authentication(this.config, data, expiresDate);
-                    }
-                }
-            }
+            requestAuthentication = this.cookieCodec.decodeAuthentication(cookie.getValue());
         }
 
         if (requestAuthentication == null) {
@@ -347,85 +808,93 @@ public class RequestHandler implements HttpHandler {
             requestAuthentication.setExpires(LocalDateTime.now().plusSeconds(this.config.getAuthenticationExpires()));
         }
 
-        this.authentication = requestAuthentication;
-
         return requestAuthentication;
     }
 
-    private void setAuthentication(HttpServerExchange exchange) {
-        if (this.authentication != null && this.authentication.hasAuthenticatedUser()) {
+    private void setAuthentication(RequestContext context) {
+        if (!context.hasAuthentication()) {
+            return;
+        }
+
+        Authentication authentication = context.getAuthentication();
+        if (authentication.hasAuthenticatedUser()) {
             Cookie cookie;
             String cookieName = this.config.getAuthenticationCookieName();
-            if (this.authentication.isLogout()) {
-                cookie = exchange.getRequestCookies().get(cookieName);
+            if (authentication.isLogout()) {
+                cookie = context.getHttpServerExchange().getRequestCookies().get(cookieName);
                 cookie.setMaxAge(0);
                 cookie.setDiscard(true);
             } else {
-                String sign = DigestUtils.sha512Hex(this.authentication.getAuthenticatedUser() + this.authentication.getExpires() + this.config.getString(Key.APPLICATION_SECRET));
-                String value = sign + Default.DELIMITER.toString() + this.authentication.getExpires() + Default.DATA_DELIMITER.toString() + this.authentication.getAuthenticatedUser();
-
-                if (this.config.getBoolean(Key.AUTH_COOKIE_ENCRYPT, false)) {
-                    value = this.injector.getInstance(Crypto.class).encrypt(value);
-                }
-
-                cookie = new CookieImpl(cookieName, value)
+                cookie = new CookieImpl(cookieName, this.cookieCodec.encodeAuthentication(authentication))
                         .setHttpOnly(true)
                         .setPath("/")
-                        .setExpires(Date.from(this.authentication.getExpires().atZone(ZoneId.systemDefault()).toInstant()));
+                        .setExpires(Date.from(authentication.getExpires().atZone(ZoneId.systemDefault()).toInstant()));
             }
 
-            exchange.setResponseCookie(cookie);
+            context.getHttpServerExchange().setResponseCookie(cookie);
         }
     }
 
-    private void getFlash(HttpServerExchange exchange) {
+    private Flash getFlash(HttpServerExchange exchange) {
         Flash requestFlash = null;
         Cookie cookie = exchange.getRequestCookies().get(this.config.getFlashCookieName());
-        if (cookie != null && StringUtils.isNotBlank(cookie.getValue())){
-            Map<String, String> values = new HashMap<String, String>();
-            for (Map.Entry<String, String> entry : Splitter.on("&").withKeyValueSeparator(":").split(cookie.getValue()).entrySet()) {
-                values.put(entry.getKey(), entry.getValue());
+        if (cookie != null) {
+            requestFlash = this.cookieCodec.decodeFlash(cookie.getValue());
+            if (requestFlash != null) {
+                requestFlash.setDiscard(true);
             }
-
-            requestFlash = new Flash(values);
-            requestFlash.setDiscard(true);
         }
 
         if (requestFlash == null) {
             requestFlash = new Flash();
         }
 
-        this.flash = requestFlash;
+        return requestFlash;
     }
 
-    private void setFlash(HttpServerExchange exchange) {
-        if (this.flash != null && !this.flash.isDiscard() && this.flash.hasContent()) {
-            String values = Joiner.on("&").withKeyValueSeparator(":").join(this.flash.getValues());
-
-            Cookie cookie = new CookieImpl(this.config.getFlashCookieName(), values)
-                    .setHttpOnly(true)
-                    .setPath("/");
-
-            exchange.setResponseCookie(cookie);
-        } else {
-            Cookie cookie = exchange.getRequestCookies().get(this.config.getFlashCookieName());
-            if (cookie != null) {
-                cookie.setHttpOnly(true)
-                .setPath("/")
-                .setMaxAge(0);
+    /**
+     * Sets the flash cookie if the flash has new content. A flash cookie received with the
+     * request is expired otherwise, even if the flash was never accessed, as its content is
+     * only available for the request directly following the one which set it.
+     *
+     * @param context The context of the current request
+     */
+    private void setFlash(RequestContext context) {
+        HttpServerExchange exchange = context.getHttpServerExchange();
+        if (context.hasFlash()) {
+            Flash flash = context.getFlash();
+            if (!flash.isDiscard() && flash.hasContent()) {
+                Cookie cookie = new CookieImpl(this.config.getFlashCookieName(), this.cookieCodec.encodeFlash(flash))
+                        .setHttpOnly(true)
+                        .setPath("/");
 
                 exchange.setResponseCookie(cookie);
+                return;
             }
         }
+
+        Cookie cookie = exchange.getRequestCookies().get(this.config.getFlashCookieName());
+        if (cookie != null) {
+            cookie.setHttpOnly(true)
+            .setPath("/")
+            .setMaxAge(0);
+
+            exchange.setResponseCookie(cookie);
+        }
     }
 
-    private void getForm(HttpServerExchange exchange) throws IOException {
-        this.form = this.injector.getInstance(Form.class);
-        if (exchange.getRequestMethod().equals(Methods.POST) || exchange.getRequestMethod().equals(Methods.PUT)) {
+    private void getForm(RequestContext context) throws IOException {
+        HttpServerExchange exchange = context.getHttpServerExchange();
+        Form form = this.formProvider.get();
+        form.setLocale(context.getLocale());
+        if (!this.nonBlocking && (exchange.getRequestMethod().equals(Methods.POST) || exchange.getRequestMethod().equals(Methods.PUT))) {
             final FormDataParser formDataParser = FormParserFactory.builder().build().createParser(exchange);
             if (formDataParser != null) {
+                if (this.maxBodySize >= 0) {
+                    exchange.setMaxEntitySize(this.maxBodySize);
+                }
                 exchange.startBlocking();
-                FormData formData = formDataParser.parseBlocking();
+                FormData formData = parseForm(formDataParser);
 
                 for (String data : formData) {
                     for (FormData.FormValue formValue : formData.get(data)) {
@@ -437,85 +906,53 @@ public class RequestHandler implements HttpHandler {
                     }
                 }
 
-                this.form.setSubmitted(true);
+                form.setSubmitted(true);
             }
         }
-    }
 
-    private Body getBody(HttpServerExchange exchange) throws IOException {
-        Body body = new Body();
-        if (exchange.getRequestMethod().equals(Methods.POST) || exchange.getRequestMethod().equals(Methods.PUT)) {
-            exchange.startBlocking();
-            body.setContent(IOUtils.toString(exchange.getInputStream()));
-        }
-
-        return body;
+        context.setForm(form);
     }
 
-    private Object[] getConvertedParameters(HttpServerExchange exchange) throws IOException {
-        Map<String, String> queryParameters = getRequestParameters(exchange);
-        Object [] convertedParameters = new Object[this.parameterCount];
-
-        int index = 0;
-        for (Map.Entry<String, Class<?>> entry : this.parameters.entrySet()) {
-            String key = entry.getKey();
-            Class<?> clazz = entry.getValue();
-
-            if ((Form.class).equals(clazz)) {
-                convertedParameters[index] = this.form;
-            } else if ((Body.class).equals(clazz)) {
-                convertedParameters[index] = getBody(exchange);
-            } else if ((Authentication.class).equals(clazz)) {
-                convertedParameters[index] = this.authentication;
-            } else if ((Session.class).equals(clazz)) {
-                convertedParameters[index] = this.session;
-            } else if ((Flash.class).equals(clazz)) {
-                convertedParameters[index] = this.flash;
-            } else if ((String.class).equals(clazz)) {
-                convertedParameters[index] = StringUtils.isBlank(queryParameters.get(key)) ? "" : queryParameters.get(key);
-            } else if ((Integer.class).equals(clazz) || (int.class).equals(clazz)) {
-                convertedParameters[index] = StringUtils.isBlank(queryParameters.get(key)) ? Integer.valueOf(0) : Integer.valueOf(queryParameters.get(key));
-            } else if ((Double.class).equals(clazz) || (double.class).equals(clazz)) {
-                convertedParameters[index] = StringUtils.isBlank(queryParameters.get(key)) ? Double.valueOf(0) : Double.valueOf(queryParameters.get(key));
-            } else if ((Float.class).equals(clazz) || (float.class).equals(clazz)) {
-                convertedParameters[index] = StringUtils.isBlank(queryParameters.get(key)) ? Float.valueOf(0) : Float.valueOf(queryParameters.get(key));
-            } else if ((Long.class).equals(clazz) || (long.class).equals(clazz)) {
-                convertedParameters[index] = StringUtils.isBlank(queryParameters.get(key)) ? Long.valueOf(0) : Long.valueOf(queryParameters.get(key));
-            } else if ((ContentType.APPLICATION_JSON.toString()).equals(exchange.getRequestHeaders().get(Headers.CONTENT_TYPE).element())) {
-                convertedParameters[index] = this.mapper.readValue(getBody(exchange).asString(), clazz);
+    /**
+     * Parses the form of the request. Undertow signals a form which exceeds the maximum
+     * entity size with a plain IOException, which is turned into a BodyTooLargeException.
+     *
+     * @param formDataParser The parser of the request
+     * @return The parsed form data
+     *
+     * @throws IOException If the form could not be read or exceeds application.body.maxsize
+     */
+    private FormData parseForm(FormDataParser formDataParser) throws IOException {
+        try {
+            return formDataParser.parseBlocking();
+        } catch (IOException e) {
+            if (this.maxBodySize >= 0 && UndertowMessages.MESSAGES.requestEntityWasTooLarge(this.maxBodySize).getMessage().equals(e.getMessage())) {
+                throw new BodyTooLargeException(this.maxBodySize);
             }
-
-            index++;
+            throw e;
         }
-
-        return convertedParameters;
     }
 
-    private Map<String, String> getRequestParameters(HttpServerExchange exchange) {
-        Map<String, String> requestParamater = new HashMap<String, String>();
-
-        Map<String, Deque<String>> queryParameters = exchange.getQueryParameters();
-        queryParameters.putAll(exchange.getPathParameters());
+    private Object[] getConvertedParameters(RequestContext context) throws IOException {
+        if (this.parameterCount == 0) {
+            return NO_ARGUMENTS;
+        }
 
-        for (Map.Entry<String, Deque<String>> entry : queryParameters.entrySet()) {
-            requestParamater.put(entry.getKey(), entry.getValue().element());
+        Object [] convertedParameters = new Object[this.parameterCount];
+        for (int i = 0; i < this.parameterCount; i++) {
+            convertedParameters[i] = this.binders[i].bind(context, this.parameterNames[i]);
         }
 
-        return requestParamater;
+        return convertedParameters;
     }
 
-    private Map<String, Class<?>> getMethodParameters() {
-        Map<String, Class<?>> methodParameters = new LinkedHashMap<String, Class<?>>();
-        for (Method declaredMethod : this.controller.getClass().getDeclaredMethods()) {
+    private Parameter[] getMethodParameters() {
+        for (Method declaredMethod : this.controllerClass.getDeclaredMethods()) {
             if (declaredMethod.getName().equals(this.controllerMethod) && declaredMethod.getParameterCount() > 0) {
-                Parameter[] declaredParameters = declaredMethod.getParameters();
-                for (Parameter parameter : declaredParameters) {
-                    methodParameters.put(parameter.getName(), parameter.getType());
-                }
-                break;
+                return declaredMethod.getParameters();
             }
         }
 
-        return methodParameters;
+        return new Parameter[0];
     }
 }
\ No newline at end of file
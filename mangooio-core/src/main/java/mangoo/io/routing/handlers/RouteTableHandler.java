@@ -0,0 +1,291 @@
+package mangoo.io.routing.handlers;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.base.Preconditions;
+
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HttpString;
+import io.undertow.util.PathTemplateMatch;
+
+/**
+ * Routing handler with a fast path for the routes of an application. Literal routes
+ * are matched with a single lookup in an immutable hash map per request method, routes
+ * with {parameter} segments are matched by walking a compact tree of path segments.
+ * Every request which is not matched by the route table, e.g. routes with wildcards
+ * or a trailing slash, is passed to the next handler.
+ *
+ * @author svenkubiak
+ *
+ */
+public class RouteTableHandler implements HttpHandler {
+    private static final char SLASH = '/';
+    private final Map<HttpString, Map<String, HttpHandler>> literals;
+    private final Map<HttpString, Node> templates;
+    private final HttpHandler next;
+    private final int literalRoutes;
+    private final int templateRoutes;
+    private final int delegatedRoutes;
+    private final int nodes;
+
+    private RouteTableHandler(Builder builder, HttpHandler next) {
+        Map<HttpString, Map<String, HttpHandler>> literalMap = new HashMap<HttpString, Map<String, HttpHandler>>();
+        builder.literals.forEach((method, routes) -> literalMap.put(method, Collections.unmodifiableMap(new HashMap<String, HttpHandler>(routes))));
+
+        this.literals = Collections.unmodifiableMap(literalMap);
+        this.templates = Collections.unmodifiableMap(new HashMap<HttpString, Node>(builder.templates));
+        this.next = next;
+        this.literalRoutes = builder.literalRoutes;
+        this.templateRoutes = builder.templateRoutes;
+        this.delegatedRoutes = builder.delegatedRoutes;
+        this.nodes = builder.nodes;
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        HttpHandler handler = match(exchange);
+        if (handler == null) {
+            this.next.handleRequest(exchange);
+        } else {
+            handler.handleRequest(exchange);
+        }
+    }
+
+    /**
+     * Matches the request method and relative path of a request against the route table.
+     * For templates, the matched parameters are added as query parameters, just like
+     * Undertow's RoutingHandler does.
+     *
+     * @param exchange The current HttpServerExchange
+     * @return The handler of the matching route or null if no route matches
+     */
+    public HttpHandler match(HttpServerExchange exchange) {
+        HttpString method = exchange.getRequestMethod();
+        String path = exchange.getRelativePath();
+
+        Map<String, HttpHandler> routes = this.literals.get(method);
+        if (routes != null) {
+            HttpHandler handler = routes.get(path);
+            if (handler != null) {
+                return handler;
+            }
+        }
+
+        Node root = this.templates.get(method);
+        if (root != null && path.length() > 1 && path.charAt(0) == SLASH) {
+            String [] values = new String[root.depth];
+            Node node = root.match(path, 1, 0, values);
+            if (node != null) {
+                Map<String, String> parameters = new HashMap<String, String>();
+                for (int i = 0; i < node.parameterNames.length; i++) {
+                    if (node.parameterNames[i] != null) {
+                        parameters.put(node.parameterNames[i], values[i]);
+                        exchange.addQueryParam(node.parameterNames[i], values[i]);
+                    }
+                }
+                exchange.putAttachment(PathTemplateMatch.ATTACHMENT_KEY, new PathTemplateMatch(node.template, parameters));
+
+                return node.handler;
+            }
+        }
+
+        return null;
+    }
+
+    public int getLiteralRoutes() {
+        return this.literalRoutes;
+    }
+
+    public int getTemplateRoutes() {
+        return this.templateRoutes;
+    }
+
+    public int getDelegatedRoutes() {
+        return this.delegatedRoutes;
+    }
+
+    public int getNodes() {
+        return this.nodes;
+    }
+
+    @Override
+    public String toString() {
+        return this.literalRoutes + " literal routes, " + this.templateRoutes + " template routes in " + this.nodes + " nodes, " + this.delegatedRoutes + " routes delegated";
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Collects the routes of a route table
+     *
+     * @author svenkubiak
+     *
+     */
+    public static final class Builder {
+        private final Map<HttpString, Map<String, HttpHandler>> literals = new HashMap<HttpString, Map<String, HttpHandler>>();
+        private final Map<HttpString, Node> templates = new HashMap<HttpString, Node>();
+        private int literalRoutes;
+        private int templateRoutes;
+        private int delegatedRoutes;
+        private int nodes;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a route to the route table. Routes which the route table does not support,
+         * e.g. wildcards or parameters only spanning a part of a path segment, are not
+         * added and left to the next handler.
+         *
+         * @param method The request method of the route
+         * @param template The URL of the route, e.g. /user/{id}
+         * @param handler The handler of the route
+         * @return True if the route was added to the route table, false if it is left to the next handler
+         */
+        public boolean add(HttpString method, String template, HttpHandler handler) {
+            Preconditions.checkNotNull(method, "method can not be null");
+            Preconditions.checkNotNull(template, "template can not be null");
+            Preconditions.checkNotNull(handler, "handler can not be null");
+
+            if (!isSupported(template)) {
+                this.delegatedRoutes++;
+                return false;
+            }
+
+            if (template.indexOf('{') == -1) {
+                Map<String, HttpHandler> routes = this.literals.computeIfAbsent(method, key -> new HashMap<String, HttpHandler>());
+                if (routes.putIfAbsent(template, handler) == null) {
+                    this.literalRoutes++;
+                }
+            } else {
+                Node node = this.templates.computeIfAbsent(method, key -> {
+                    this.nodes++;
+                    return new Node();
+                });
+
+                String [] segments = template.substring(1).split("/");
+                String [] parameterNames = new String[segments.length];
+                for (int i = 0; i < segments.length; i++) {
+                    String segment = segments[i];
+                    if (segment.charAt(0) == '{') {
+                        parameterNames[i] = segment.substring(1, segment.length() - 1);
+                        if (node.parameter == null) {
+                            node.parameter = new Node();
+                            this.nodes++;
+                        }
+                        node = node.parameter;
+                    } else {
+                        Node child = node.children.get(segment);
+                        if (child == null) {
+                            child = new Node();
+                            node.children.put(segment, child);
+                            this.nodes++;
+                        }
+                        node = child;
+                    }
+                }
+
+                if (node.handler == null) {
+                    node.handler = handler;
+                    node.template = template;
+                    node.parameterNames = parameterNames;
+                    this.templates.get(method).depth = Math.max(this.templates.get(method).depth, segments.length);
+                    this.templateRoutes++;
+                }
+            }
+
+            return true;
+        }
+
+        private static boolean isSupported(String template) {
+            if (template.isEmpty() || template.charAt(0) != SLASH || template.indexOf('*') != -1 || template.indexOf("//") != -1) {
+                return false;
+            }
+
+            if (template.length() > 1 && template.charAt(template.length() - 1) == SLASH) {
+                return false;
+            }
+
+            for (String segment : template.substring(1).split("/")) {
+                int open = segment.indexOf('{');
+                int close = segment.indexOf('}');
+                if ((open != -1 || close != -1) && (open != 0 || close != segment.length() - 1 || segment.length() < 3 || segment.indexOf('{', 1) != -1)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        /**
+         * Creates the immutable route table
+         *
+         * @param next The handler for all requests not matched by the route table
+         * @return A new RouteTableHandler
+         */
+        public RouteTableHandler build(HttpHandler next) {
+            Preconditions.checkNotNull(next, "next handler can not be null");
+
+            return new RouteTableHandler(this, next);
+        }
+    }
+
+    /**
+     * Node in the tree of path segments of parameterized routes
+     *
+     * @author svenkubiak
+     *
+     */
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<String, Node>();
+        private Node parameter;
+        private HttpHandler handler;
+        private String template;
+        private String [] parameterNames;
+        private int depth;
+
+        /**
+         * Matches the segment of the path starting at the given index, preferring literal
+         * segments over parameters
+         */
+        private Node match(String path, int start, int index, String [] values) {
+            int end = path.indexOf(SLASH, start);
+            boolean last = end == -1;
+            if (last) {
+                end = path.length();
+            }
+
+            if (end == start || index >= values.length) {
+                return null;
+            }
+
+            String segment = path.substring(start, end);
+            Node child = this.children.get(segment);
+            if (child != null) {
+                Node node = last ? child.ifHandler() : child.match(path, end + 1, index + 1, values);
+                if (node != null) {
+                    return node;
+                }
+            }
+
+            if (this.parameter != null) {
+                Node node = last ? this.parameter.ifHandler() : this.parameter.match(path, end + 1, index + 1, values);
+                if (node != null) {
+                    values[index] = segment;
+                    return node;
+                }
+            }
+
+            return null;
+        }
+
+        private Node ifHandler() {
+            return (this.handler == null) ? null : this;
+        }
+    }
+}
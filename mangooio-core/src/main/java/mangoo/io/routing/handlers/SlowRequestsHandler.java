@@ -0,0 +1,34 @@
+package mangoo.io.routing.handlers;
+
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import io.undertow.util.StatusCodes;
+import mangoo.io.core.Application;
+import mangoo.io.enums.ContentType;
+import mangoo.io.enums.Default;
+import mangoo.io.metrics.SlowRequest;
+import mangoo.io.metrics.SlowRequests;
+
+/**
+ * Sends the last slow requests with their phase breakdown, one request per line, newest first
+ *
+ * @author svenkubiak
+ *
+ */
+public class SlowRequestsHandler implements HttpHandler {
+    private final SlowRequests slowRequests = Application.getInjector().getInstance(SlowRequests.class);
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        StringBuilder buffer = new StringBuilder();
+        for (SlowRequest slowRequest : this.slowRequests.getSlowRequests()) {
+            buffer.append(slowRequest).append('\n');
+        }
+
+        exchange.setResponseCode(StatusCodes.OK);
+        exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, ContentType.TEXT_PLAIN.toString() + "; charset=UTF-8");
+        exchange.getResponseHeaders().put(Headers.SERVER, Default.SERVER.toString());
+        exchange.getResponseSender().send(buffer.toString());
+    }
+}
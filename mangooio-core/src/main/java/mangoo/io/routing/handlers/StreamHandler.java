@@ -0,0 +1,34 @@
+package mangoo.io.routing.handlers;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import mangoo.io.routing.Response;
+
+/**
+ * Writes the body of a streamed response directly to the output stream of the exchange,
+ * which sends it in chunks using the pooled buffers of Undertow. All headers and cookies
+ * have to be set before this handler is executed, as they are committed with the first chunk.
+ *
+ * @author svenkubiak
+ *
+ */
+public class StreamHandler implements HttpHandler {
+    private Response response;
+
+    public StreamHandler(Response response) {
+        this.response = response;
+    }
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        exchange.startBlocking();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(exchange.getOutputStream(), Charset.forName(this.response.getCharset())))) {
+            this.response.getStreamWriter().write(writer);
+        }
+    }
+}
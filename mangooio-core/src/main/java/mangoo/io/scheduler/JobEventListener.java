@@ -0,0 +1,44 @@
+package mangoo.io.scheduler;
+
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobListener;
+
+import mangoo.io.jfr.JobEvent;
+
+/**
+ * Records a flight recorder event for every job execution. Must only be registered
+ * if the flight recorder is available.
+ *
+ * @author svenkubiak
+ *
+ */
+public class JobEventListener implements JobListener {
+    private static final String EVENT = JobEventListener.class.getName();
+
+    @Override
+    public String getName() {
+        return EVENT;
+    }
+
+    @Override
+    public void jobToBeExecuted(JobExecutionContext context) {
+        JobEvent event = JobEvent.start();
+        if (event != null) {
+            context.put(EVENT, event);
+        }
+    }
+
+    @Override
+    public void jobExecutionVetoed(JobExecutionContext context) {
+        //intentionally left blank
+    }
+
+    @Override
+    public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException) {
+        Object event = context.get(EVENT);
+        if (event instanceof JobEvent) {
+            ((JobEvent) event).finish(context.getJobDetail().getKey().toString(), context.getJobDetail().getJobClass().getName(), jobException == null);
+        }
+    }
+}
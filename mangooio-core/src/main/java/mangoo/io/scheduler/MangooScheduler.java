@@ -21,7 +21,9 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
 import mangoo.io.configuration.Config;
+import mangoo.io.core.DispatchExecutor;
 import mangoo.io.enums.Default;
+import mangoo.io.jfr.JfrSupport;
 
 /**
  *
@@ -34,17 +36,25 @@ public class MangooScheduler {
     private Scheduler scheduler;
 
     @Inject
-    public MangooScheduler(MangooJobFactory quartzJobFactory, Config config) {
+    public MangooScheduler(MangooJobFactory quartzJobFactory, Config config, DispatchExecutor dispatchExecutor) {
         for (Map.Entry<String, String> entry : config.getAllConfigurations().entrySet()) {
             if (entry.getKey().startsWith(Default.SCHEDULER_PREFIX.toString())) {
                 System.setProperty(entry.getKey(), entry.getValue());
             }
         }
 
+        if (dispatchExecutor.isVirtual() && config.getString(Default.SCHEDULER_THREAD_POOL_CLASS.toString()) == null) {
+            MangooThreadPool.setExecutor(dispatchExecutor.getExecutor());
+            System.setProperty(Default.SCHEDULER_THREAD_POOL_CLASS.toString(), MangooThreadPool.class.getName());
+        }
+
         final SchedulerFactory schedulerFactory = new StdSchedulerFactory();
         try {
             this.scheduler = schedulerFactory.getScheduler();
             this.scheduler.setJobFactory(quartzJobFactory);
+            if (JfrSupport.AVAILABLE) {
+                this.scheduler.getListenerManager().addJobListener(new JobEventListener());
+            }
         } catch (SchedulerException e) {
             LOG.error("Failed to get scheduler from schedulerFactory", e);
         }
@@ -0,0 +1,64 @@
+package mangoo.io.scheduler;
+
+import java.util.concurrent.Executor;
+
+import org.quartz.spi.ThreadPool;
+
+/**
+ * Quartz thread pool which runs every job execution on the executor of
+ * {@link mangoo.io.core.DispatchExecutor}, e.g. on a new virtual thread
+ *
+ * @author svenkubiak
+ *
+ */
+public class MangooThreadPool implements ThreadPool {
+    private static volatile Executor executor;
+
+    public static void setExecutor(Executor executor) {
+        MangooThreadPool.executor = executor;
+    }
+
+    @Override
+    public boolean runInThread(Runnable runnable) {
+        if (runnable == null) {
+            return false;
+        }
+
+        executor.execute(runnable);
+        return true;
+    }
+
+    @Override
+    public int blockForAvailableThreads() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void initialize() {
+        //intentionally left blank
+    }
+
+    @Override
+    public void shutdown(boolean waitForJobsToComplete) {
+        //intentionally left blank
+    }
+
+    @Override
+    public int getPoolSize() {
+        return Integer.MAX_VALUE;
+    }
+
+    public void setThreadCount(int threadCount) { //NOSONAR
+        //intentionally left blank, as threads are not pooled
+    }
+
+    @Override
+    public void setInstanceId(String schedInstId) {
+        //intentionally left blank
+    }
+
+    @Override
+    public void setInstanceName(String schedName) {
+        //intentionally left blank
+    }
+}
@@ -8,6 +8,7 @@ import java.io.Writer;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -27,6 +28,8 @@ import io.undertow.server.HttpServerExchange;
 import mangoo.io.core.Application;
 import mangoo.io.enums.Default;
 import mangoo.io.i18n.Messages;
+import mangoo.io.jfr.JfrSupport;
+import mangoo.io.jfr.RenderEvent;
 import mangoo.io.routing.bindings.Flash;
 import mangoo.io.routing.bindings.Form;
 import mangoo.io.routing.bindings.Session;
@@ -70,11 +73,16 @@ public class TemplateEngine {
 
     @SuppressWarnings("all")
     public String render(Flash flash, Session session, Form form, Messages messages, String pathPrefix, String templateName, Map<String, Object> content) throws TemplateNotFoundException, MalformedTemplateNameException, ParseException, IOException, TemplateException {
+        return render(flash, session, form, messages, messages.getDefaultLocale(), pathPrefix, templateName, content);
+    }
+
+    @SuppressWarnings("all")
+    public String render(Flash flash, Session session, Form form, Messages messages, Locale locale, String pathPrefix, String templateName, Map<String, Object> content) throws TemplateNotFoundException, MalformedTemplateNameException, ParseException, IOException, TemplateException {
         Template template = configuration.getTemplate(pathPrefix + "/" + getTemplateName(templateName));
         content.put("form", form);
         content.put("flash", flash);
         content.put("session", session);
-        content.put("i18n", new I18nMethod(messages));
+        content.put("i18n", new I18nMethod(messages, locale));
         content.put("authenticityToken", new AuthenticityTokenDirective(session));
         content.put("authenticityForm", new AuthenticityFormDirective(session));
 
@@ -142,9 +150,14 @@ public class TemplateEngine {
      * @throws IOException
      */
     private String processTemplate(Map<String, Object> content, Template template) throws TemplateException, IOException {
+        RenderEvent event = JfrSupport.AVAILABLE ? RenderEvent.start() : null;
         StringWriter buffer = new StringWriter(MAX_CHARS);
         template.process(content, buffer);
 
+        if (event != null) {
+            event.finish(template.getName(), buffer.getBuffer().length());
+        }
+
         Writer writer = new StringWriter();
         writer.write(buffer.toString());
         writer.close();
@@ -2,6 +2,7 @@ package mangoo.io.templating.methods;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,9 +24,15 @@ public class I18nMethod implements TemplateMethodModelEx {
     private static final Logger LOG = LoggerFactory.getLogger(I18nMethod.class);
     private static final int NUM_ARGUMENTS = 1;
     private Messages messages;
+    private Locale locale;
 
     public I18nMethod(Messages messages) {
+        this(messages, messages.getDefaultLocale());
+    }
+
+    public I18nMethod(Messages messages, Locale locale) {
         this.messages = messages;
+        this.locale = locale;
     }
 
     @Override
@@ -33,7 +40,7 @@ public class I18nMethod implements TemplateMethodModelEx {
         String messageValue = "";
         if (args.size() == NUM_ARGUMENTS) {
             String messageKey = ((SimpleScalar) args.get(0)).getAsString();
-            messageValue = messages.get(messageKey);
+            messageValue = this.messages.get(this.locale, messageKey);
 
             logError(messageKey, messageValue);
         } else if (args.size() > NUM_ARGUMENTS) {
@@ -48,7 +55,7 @@ public class I18nMethod implements TemplateMethodModelEx {
 
             String messageKey = strings.get(0);
             strings.remove(0);
-            messageValue = messages.get(messageKey, strings.toArray());
+            messageValue = this.messages.get(this.locale, messageKey, strings.toArray());
 
             logError(messageKey, messageValue);
         }
@@ -3,6 +3,9 @@ package conf;
 import controllers.ApplicationController;
 import controllers.AuthenticationController;
 import controllers.AuthenticityController;
+import controllers.BodyController;
+import controllers.CacheController;
+import controllers.ETagController;
 import controllers.FilterController;
 import controllers.FlashController;
 import controllers.FormController;
@@ -19,13 +22,33 @@ public class Routes implements MangooRoutes {
     @Override
     public void routify() {
         Router.mapRequest(Methods.GET).toUrl("/").onClassAndMethod(ApplicationController.class, "index");
-        Router.mapRequest(Methods.GET).toUrl("/redirect").onClassAndMethod(ApplicationController.class, "redirect");
-        Router.mapRequest(Methods.GET).toUrl("/text").onClassAndMethod(ApplicationController.class, "text");
+        Router.mapRequest(Methods.GET).toUrl("/redirect").onClassAndMethod(ApplicationController.class, "redirect").nonBlocking();
+        Router.mapRequest(Methods.GET).toUrl("/text").onClassAndMethod(ApplicationController.class, "text").nonBlocking();
+        Router.mapRequest(Methods.GET).toUrl("/prototype").onClassAndMethod(ApplicationController.class, "prototype");
+        Router.mapRequest(Methods.GET).toUrl("/thread").onClassAndMethod(ApplicationController.class, "thread");
         Router.mapRequest(Methods.GET).toUrl("/forbidden").onClassAndMethod(ApplicationController.class, "forbidden");
         Router.mapRequest(Methods.GET).toUrl("/badrequest").onClassAndMethod(ApplicationController.class, "badrequest");
         Router.mapRequest(Methods.GET).toUrl("/unauthorized").onClassAndMethod(ApplicationController.class, "unauthorized");
         Router.mapRequest(Methods.GET).toUrl("/binary").onClassAndMethod(ApplicationController.class, "binary");
-        Router.mapRequest(Methods.GET).toUrl("/header").onClassAndMethod(ApplicationController.class, "header");
+        Router.mapRequest(Methods.GET).toUrl("/largefile").onClassAndMethod(ApplicationController.class, "largefile");
+        Router.mapRequest(Methods.GET).toUrl("/header").onClassAndMethod(ApplicationController.class, "header").nonBlocking();
+        Router.mapRequest(Methods.GET).toUrl("/limited").onClassAndMethod(ApplicationController.class, "limited").limit(1);
+        Router.mapRequest(Methods.GET).toUrl("/async").onClassAndMethod(ApplicationController.class, "async");
+        Router.mapRequest(Methods.GET).toUrl("/asyncnull").onClassAndMethod(ApplicationController.class, "asyncnull");
+        Router.mapRequest(Methods.GET).toUrl("/asynctimeout").onClassAndMethod(ApplicationController.class, "asynctimeout");
+        Router.mapRequest(Methods.GET).toUrl("/stream").onClassAndMethod(ApplicationController.class, "stream");
+        Router.mapRequest(Methods.POST).toUrl("/body/count").onClassAndMethod(BodyController.class, "count");
+        Router.mapRequest(Methods.POST).toUrl("/body/echo").onClassAndMethod(BodyController.class, "echo");
+        Router.mapRequest(Methods.GET).toUrl("/cache/cached").onClassAndMethod(CacheController.class, "cached");
+        Router.mapRequest(Methods.GET).toUrl("/cache/query").onClassAndMethod(CacheController.class, "query");
+        Router.mapRequest(Methods.GET).toUrl("/cache/session").onClassAndMethod(CacheController.class, "session");
+        Router.mapRequest(Methods.GET).toUrl("/cache/user").onClassAndMethod(CacheController.class, "user");
+        Router.mapRequest(Methods.GET).toUrl("/cache/version").onClassAndMethod(CacheController.class, "version").etag();
+        Router.mapRequest(Methods.GET).toUrl("/cache/slow").onClassAndMethod(CacheController.class, "slow").coalesce();
+        Router.mapRequest(Methods.GET).toUrl("/cache/slowuser").onClassAndMethod(CacheController.class, "slowUser").coalesce();
+        Router.mapRequest(Methods.GET).toUrl("/etag").onClassAndMethod(ETagController.class, "etag").etag();
+        Router.mapRequest(Methods.GET).toUrl("/etag/version").onClassAndMethod(ETagController.class, "version").etag();
+        Router.mapRequest(Methods.GET).toUrl("/etag/large").onClassAndMethod(ETagController.class, "large").etag();
 
         Router.mapRequest(Methods.POST).toUrl("/form").onClassAndMethod(FormController.class, "form");
 
@@ -41,7 +64,12 @@ public class Routes implements MangooRoutes {
         Router.mapRequest(Methods.GET).toUrl("/double/{foo}").onClassAndMethod(ParameterController.class, "doubleParam");
         Router.mapRequest(Methods.GET).toUrl("/int/{foo}").onClassAndMethod(ParameterController.class, "intParam");
         Router.mapRequest(Methods.GET).toUrl("/float/{foo}").onClassAndMethod(ParameterController.class, "floatParam");
+        Router.mapRequest(Methods.GET).toUrl("/short/{foo}").onClassAndMethod(ParameterController.class, "shortParam");
+        Router.mapRequest(Methods.GET).toUrl("/byte/{foo}").onClassAndMethod(ParameterController.class, "byteParam");
+        Router.mapRequest(Methods.GET).toUrl("/char").onClassAndMethod(ParameterController.class, "charParam");
         Router.mapRequest(Methods.GET).toUrl("/multiple/{foo}/{bar}").onClassAndMethod(ParameterController.class, "multipleParam");
+        Router.mapRequest(Methods.GET).toUrl("/uuid/{foo}").onClassAndMethod(ParameterController.class, "uuidParam");
+        Router.mapRequest(Methods.GET).toUrl("/localdate/{foo}").onClassAndMethod(ParameterController.class, "localDateParam");
         Router.mapRequest(Methods.GET).toUrl("/path").onClassAndMethod(ParameterController.class, "pathParam");
 
         Router.mapRequest(Methods.GET).toUrl("/session").onClassAndMethod(SessionController.class, "session");
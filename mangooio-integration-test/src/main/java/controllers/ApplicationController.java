@@ -2,17 +2,38 @@ package controllers;
 
 import io.undertow.util.HttpString;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import mangoo.io.routing.Response;
+import mangoo.io.routing.bindings.Session;
 
 public class ApplicationController {
+    public static final long LARGE_FILE_SIZE = 64L * 1024 * 1024;
+    private static final int BUFFER_SIZE = 8192;
+    private static final long LIMITED_MILLIS = 500;
+    private int requests;
 
     public Response index() {
         return Response.withOk();
     }
 
+    public Response prototype() {
+        this.requests++;
+
+        return Response.withOk().andTextBody(String.valueOf(this.requests));
+    }
+
+    public Response thread() {
+        return Response.withOk().andTextBody(Thread.currentThread().toString());
+    }
+
     public Response redirect() {
         return Response.withRedirect("/");
     }
@@ -46,4 +67,49 @@ public class ApplicationController {
                 .andEmptyBody()
                 .andHeader(new HttpString("Access-Control-Allow-Origin"), "https://mangoo.io");
     }
+
+    public Response limited() throws InterruptedException {
+        Thread.sleep(LIMITED_MILLIS);
+
+        return Response.withOk().andTextBody("limited");
+    }
+
+    public CompletionStage<Response> async() {
+        return CompletableFuture.supplyAsync(() -> Response.withOk().andTextBody("async"));
+    }
+
+    public CompletionStage<Response> asyncnull() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    public CompletionStage<Response> asynctimeout() {
+        return new CompletableFuture<Response>();
+    }
+
+    public Response stream(Session session) {
+        session.add("stream", "true");
+
+        return Response.withOk().andContentType("text/csv").andStream(writer -> {
+            for (int i = 0; i < 10000; i++) {
+                writer.write("line;" + i + "\n");
+            }
+        });
+    }
+
+    public synchronized Response largefile() throws IOException {
+        File file = new File(System.getProperty("java.io.tmpdir"), "mangooio-largefile.bin");
+        if (file.length() != LARGE_FILE_SIZE) {
+            byte [] buffer = new byte[BUFFER_SIZE];
+            try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file))) {
+                for (long position = 0; position < LARGE_FILE_SIZE; position = position + BUFFER_SIZE) {
+                    for (int i = 0; i < BUFFER_SIZE; i++) {
+                        buffer[i] = (byte) ((position + i) % 251);
+                    }
+                    outputStream.write(buffer);
+                }
+            }
+        }
+
+        return Response.withOk().andBinaryFile(file);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package controllers;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import mangoo.io.routing.Response;
+import mangoo.io.routing.bindings.Body;
+
+public class BodyController {
+    private static final int BUFFER_SIZE = 8192;
+
+    public Response count(Body body) throws IOException {
+        long count = 0;
+        byte [] buffer = new byte[BUFFER_SIZE];
+        try (InputStream inputStream = body.getInputStream()) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                count = count + read;
+            }
+        }
+
+        return Response.withOk().andTextBody(String.valueOf(count));
+    }
+
+    public Response echo(Body body) {
+        return Response.withOk().andTextBody(body.asString());
+    }
+}
@@ -0,0 +1,60 @@
+package controllers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.inject.Singleton;
+
+import mangoo.io.annotations.CacheResponse;
+import mangoo.io.enums.Vary;
+import mangoo.io.routing.Response;
+import mangoo.io.routing.bindings.Session;
+
+/**
+ *
+ * @author svenkubiak
+ *
+ */
+@Singleton
+public class CacheController {
+    private static final long SLOW_MILLIS = 500;
+    private final AtomicInteger invocations = new AtomicInteger();
+
+    @CacheResponse(ttl = 60)
+    public Response cached() {
+        return Response.withOk().andTextBody("cached-" + this.invocations.incrementAndGet());
+    }
+
+    @CacheResponse(ttl = 60, varyBy = Vary.QUERY)
+    public Response query(String foo) {
+        return Response.withOk().andTextBody(foo + "-" + this.invocations.incrementAndGet());
+    }
+
+    @CacheResponse(ttl = 60)
+    public Response session(Session session) {
+        session.add("cache", "true");
+
+        return Response.withOk().andTextBody("session-" + this.invocations.incrementAndGet());
+    }
+
+    @CacheResponse(ttl = 60)
+    public Response user(Session session) {
+        return Response.withOk().andTextBody(String.valueOf(session.get("user")));
+    }
+
+    @CacheResponse(ttl = 60)
+    public Response version() {
+        return Response.withOk().andVersion(ETagController.VERSION);
+    }
+
+    public Response slow() throws InterruptedException {
+        Thread.sleep(SLOW_MILLIS);
+
+        return Response.withOk().andTextBody("slow-" + this.invocations.incrementAndGet());
+    }
+
+    public Response slowUser(Session session) throws InterruptedException {
+        Thread.sleep(SLOW_MILLIS);
+
+        return Response.withOk().andTextBody(String.valueOf(session.get("user")));
+    }
+}
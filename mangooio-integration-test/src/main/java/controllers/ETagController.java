@@ -0,0 +1,30 @@
+package controllers;
+
+import mangoo.io.routing.Response;
+
+/**
+ *
+ * @author svenkubiak
+ *
+ */
+public class ETagController {
+    public static final String VERSION = "42";
+    private static final int LARGE_LINES = 200;
+
+    public Response etag() {
+        return Response.withOk().andContent("foo", "bar");
+    }
+
+    public Response version() {
+        return Response.withOk().andVersion(VERSION);
+    }
+
+    public Response large() {
+        StringBuilder buffer = new StringBuilder();
+        for (int i = 0; i < LARGE_LINES; i++) {
+            buffer.append("line;").append(i).append('\n');
+        }
+
+        return Response.withOk().andTextBody(buffer.toString());
+    }
+}
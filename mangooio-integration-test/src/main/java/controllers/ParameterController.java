@@ -1,5 +1,8 @@
 package controllers;
 
+import java.time.LocalDate;
+import java.util.UUID;
+
 import mangoo.io.routing.Response;
 
 public class ParameterController {
@@ -23,10 +26,30 @@ public class ParameterController {
         return Response.withOk().andTextBody(String.valueOf(foo));
     }
     
+    public Response shortParam (short foo) {
+        return Response.withOk().andTextBody(String.valueOf(foo));
+    }
+    
+    public Response byteParam (byte foo) {
+        return Response.withOk().andTextBody(String.valueOf(foo));
+    }
+    
+    public Response charParam (char foo) {
+        return Response.withOk().andTextBody(String.valueOf((int) foo));
+    }
+    
     public Response multipleParam (String foo, int bar) {
         return Response.withOk().andTemplate(MULTIPARAM_TEMPLATE).andContent(FOO, foo).andContent("bar", bar);
     }
     
+    public Response uuidParam (UUID foo) {
+        return Response.withOk().andTextBody(foo.toString());
+    }
+    
+    public Response localDateParam (LocalDate foo) {
+        return Response.withOk().andTextBody(foo.toString());
+    }
+    
     public Response pathParam (String foo) {
         return Response.withOk().andTemplate(PARAM_TEMPLATE).andContent(FOO, foo);
     }
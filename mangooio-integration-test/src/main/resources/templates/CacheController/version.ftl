@@ -0,0 +1 @@
+Version
\ No newline at end of file
@@ -0,0 +1,2 @@
+<#import "../layout.ftl" as layout> 
+<@layout.myLayout "Layout">Version</@layout.myLayout>
\ No newline at end of file
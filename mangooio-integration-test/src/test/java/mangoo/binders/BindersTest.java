@@ -0,0 +1,55 @@
+package mangoo.binders;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import mangoo.io.authentication.Authentication;
+import mangoo.io.enums.Mode;
+import mangoo.io.routing.binders.Binders;
+import mangoo.io.routing.bindings.Body;
+import mangoo.io.routing.bindings.Flash;
+import mangoo.io.routing.bindings.Form;
+import mangoo.io.routing.bindings.Session;
+import models.Person;
+
+public class BindersTest {
+
+    @Test
+    public void readsBodyTest() {
+        assertTrue(Binders.readsBody(Form.class));
+        assertTrue(Binders.readsBody(Body.class));
+        assertTrue(Binders.readsBody(Person.class));
+    }
+
+    @Test
+    public void readsNoBodyTest() {
+        assertFalse(Binders.readsBody(Session.class));
+        assertFalse(Binders.readsBody(Flash.class));
+        assertFalse(Binders.readsBody(Authentication.class));
+        assertFalse(Binders.readsBody(Locale.class));
+        assertFalse(Binders.readsBody(String.class));
+        assertFalse(Binders.readsBody(int.class));
+        assertFalse(Binders.readsBody(Long.class));
+        assertFalse(Binders.readsBody(short.class));
+        assertFalse(Binders.readsBody(Byte.class));
+        assertFalse(Binders.readsBody(Character.class));
+        assertFalse(Binders.readsBody(Mode.class));
+        assertFalse(Binders.readsBody(UUID.class));
+        assertFalse(Binders.readsBody(LocalDate.class));
+    }
+
+    @Test
+    public void customBinderTest() {
+        Binders.register(StringBuilder.class, (context, name) -> new StringBuilder(context.getBody().asString()));
+        assertTrue(Binders.readsBody(StringBuilder.class));
+
+        Binders.registerConverter(StringBuilder.class, StringBuilder::new);
+        assertFalse(Binders.readsBody(StringBuilder.class));
+    }
+}
@@ -1,9 +1,15 @@
 package mangoo.bindings;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
+import org.apache.commons.io.IOUtils;
 import org.junit.Test;
 
 import mangoo.io.routing.bindings.Body;
@@ -22,4 +28,29 @@ public class BodyTest {
         assertEquals("iPhone", json.get("phonetype"));
         assertEquals("good", json.get("cat"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testStreamedBody() throws IOException {
+        Body body = new Body(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, -1);
+        try (InputStream inputStream = body.getInputStream()) {
+            assertEquals(content, IOUtils.toString(inputStream, StandardCharsets.UTF_8));
+        }
+
+        try {
+            body.getInputStream();
+            fail("Body must not be read twice");
+        } catch (IllegalStateException e) { //NOSONAR
+            //intentionally left blank
+        }
+    }
+
+    @Test
+    public void testBufferedBody() throws IOException {
+        Body body = new Body(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, -1);
+
+        assertEquals(content, body.asString());
+        try (InputStream inputStream = body.getInputStream()) {
+            assertEquals(content, IOUtils.toString(inputStream, StandardCharsets.UTF_8));
+        }
+    }
+}
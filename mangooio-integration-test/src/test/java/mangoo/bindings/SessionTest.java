@@ -41,4 +41,13 @@ public class SessionTest {
         assertNull(session.get("foo"));
         assertNull(session.get("bla"));
     }
+
+    @Test
+    public void testSpecialCharacters() {
+        Session session = new Session();
+        session.add("foo|bar", "a:b&c");
+
+        assertEquals("a:b&c", session.get("foo|bar"));
+        assertTrue(session.hasChanges());
+    }
 }
\ No newline at end of file
@@ -50,6 +50,17 @@ public class ApplicationControllerTest {
         assertEquals("This is a test!", response.getContent());
     }
     
+    @Test
+    public void prototypeTest() {
+        for (int i = 0; i < 3; i++) {
+            MangooResponse response = MangooRequest.get("/prototype").execute();
+
+            assertNotNull(response);
+            assertEquals(StatusCodes.OK, response.getStatusCode());
+            assertEquals("1", response.getContent());
+        }
+    }
+
     @Test
     public void redirectTestWithoutRedirect() {
         MangooResponse response = MangooRequest.get("/redirect").disableRedirects(true).execute();
@@ -75,6 +86,44 @@ public class ApplicationControllerTest {
         assertEquals(StatusCodes.OK, response.getStatusCode());
     }
     
+    @Test
+    public void asyncTest() {
+        MangooResponse response = MangooRequest.get("/async").execute();
+
+        assertNotNull(response);
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+        assertEquals("async", response.getContent());
+    }
+
+    @Test
+    public void asyncNullTest() {
+        MangooResponse response = MangooRequest.get("/asyncnull").execute();
+
+        assertNotNull(response);
+        assertEquals(StatusCodes.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+
+    @Test
+    public void asyncTimeoutTest() {
+        MangooResponse response = MangooRequest.get("/asynctimeout").execute();
+
+        assertNotNull(response);
+        assertEquals(StatusCodes.SERVICE_UNAVAILABLE, response.getStatusCode());
+    }
+
+    @Test
+    public void streamTest() {
+        Config config = Application.getInjector().getInstance(Config.class);
+        MangooResponse response = MangooRequest.get("/stream").execute();
+
+        assertNotNull(response);
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+        assertEquals("chunked", response.getHttpResponse().getFirstHeader("Transfer-Encoding").getValue());
+        assertEquals(config.getString(Key.COOKIE_NAME), response.getCookies().get(0).getName());
+        assertTrue(response.getContent().startsWith("line;0\n"));
+        assertTrue(response.getContent().endsWith("line;9999\n"));
+    }
+
     @Test
     public void notFoundTest() {
         MangooResponse response = MangooRequest.get("/foo").execute();
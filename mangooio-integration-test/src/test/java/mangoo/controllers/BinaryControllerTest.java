@@ -0,0 +1,122 @@
+package mangoo.controllers;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+
+import controllers.ApplicationController;
+import io.undertow.util.StatusCodes;
+import mangoo.io.configuration.Config;
+import mangoo.io.core.Application;
+import mangoo.io.enums.Default;
+import mangoo.io.enums.Key;
+
+/**
+ *
+ * @author svenkubiak
+ *
+ */
+public class BinaryControllerTest {
+    private static final long RANGE_SIZE = 8L * 1024 * 1024;
+
+    @Test
+    public void rangeDownloadTest() throws IOException {
+        long size = ApplicationController.LARGE_FILE_SIZE;
+        long downloaded = 0;
+        try (CloseableHttpClient httpclient = HttpClients.custom().build()) {
+            for (long start = 0; start < size; start = start + RANGE_SIZE) {
+                long end = Math.min(start + RANGE_SIZE, size) - 1;
+
+                HttpGet httpGet = new HttpGet(getUrl());
+                httpGet.setHeader("Range", "bytes=" + start + "-" + end);
+                try (CloseableHttpResponse response = httpclient.execute(httpGet)) {
+                    byte [] content = EntityUtils.toByteArray(response.getEntity());
+
+                    assertEquals(StatusCodes.PARTIAL_CONTENT, response.getStatusLine().getStatusCode());
+                    assertEquals("bytes " + start + "-" + end + "/" + size, response.getFirstHeader("Content-Range").getValue());
+                    assertEquals(end - start + 1, content.length);
+                    for (int i = 0; i < content.length; i++) {
+                        assertEquals((byte) ((start + i) % 251), content[i]);
+                    }
+
+                    downloaded = downloaded + content.length;
+                }
+            }
+        }
+
+        assertEquals(size, downloaded);
+    }
+
+    @Test
+    public void suffixRangeTest() throws IOException {
+        long size = ApplicationController.LARGE_FILE_SIZE;
+        try (CloseableHttpClient httpclient = HttpClients.custom().build()) {
+            HttpGet httpGet = new HttpGet(getUrl());
+            httpGet.setHeader("Range", "bytes=-100");
+            try (CloseableHttpResponse response = httpclient.execute(httpGet)) {
+                byte [] content = EntityUtils.toByteArray(response.getEntity());
+
+                assertEquals(StatusCodes.PARTIAL_CONTENT, response.getStatusLine().getStatusCode());
+                assertEquals("bytes " + (size - 100) + "-" + (size - 1) + "/" + size, response.getFirstHeader("Content-Range").getValue());
+                assertEquals(100, content.length);
+            }
+        }
+    }
+
+    @Test
+    public void ifRangeTest() throws IOException {
+        try (CloseableHttpClient httpclient = HttpClients.custom().build()) {
+            String etag;
+            HttpGet httpGet = new HttpGet(getUrl());
+            httpGet.setHeader("Range", "bytes=0-9");
+            try (CloseableHttpResponse response = httpclient.execute(httpGet)) {
+                EntityUtils.consume(response.getEntity());
+                etag = response.getFirstHeader("ETag").getValue();
+            }
+
+            httpGet = new HttpGet(getUrl());
+            httpGet.setHeader("Range", "bytes=0-9");
+            httpGet.setHeader("If-Range", etag);
+            try (CloseableHttpResponse response = httpclient.execute(httpGet)) {
+                EntityUtils.consume(response.getEntity());
+                assertEquals(StatusCodes.PARTIAL_CONTENT, response.getStatusLine().getStatusCode());
+            }
+
+            httpGet = new HttpGet(getUrl());
+            httpGet.setHeader("Range", "bytes=0-9");
+            httpGet.setHeader("If-Range", "\"outdated\"");
+            try (CloseableHttpResponse response = httpclient.execute(httpGet)) {
+                assertEquals(StatusCodes.OK, response.getStatusLine().getStatusCode());
+                assertEquals(String.valueOf(ApplicationController.LARGE_FILE_SIZE), response.getFirstHeader("Content-Length").getValue());
+            }
+        }
+    }
+
+    @Test
+    public void unsatisfiableRangeTest() throws IOException {
+        long size = ApplicationController.LARGE_FILE_SIZE;
+        try (CloseableHttpClient httpclient = HttpClients.custom().build()) {
+            HttpGet httpGet = new HttpGet(getUrl());
+            httpGet.setHeader("Range", "bytes=" + size + "-");
+            try (CloseableHttpResponse response = httpclient.execute(httpGet)) {
+                assertEquals(StatusCodes.REQUEST_RANGE_NOT_SATISFIABLE, response.getStatusLine().getStatusCode());
+                assertEquals("bytes */" + size, response.getFirstHeader("Content-Range").getValue());
+            }
+        }
+    }
+
+    private static String getUrl() {
+        Config config = Application.getInjector().getInstance(Config.class);
+        String host = config.getString(Key.APPLICATION_HOST, Default.APPLICATION_HOST.toString());
+        int port = config.getInt(Key.APPLICATION_PORT, Default.APPLICATION_PORT.toInt());
+
+        return "http://" + host + ":" + port + "/largefile";
+    }
+}
@@ -0,0 +1,165 @@
+package mangoo.controllers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+
+import io.undertow.util.StatusCodes;
+import mangoo.io.configuration.Config;
+import mangoo.io.core.Application;
+import mangoo.io.enums.Default;
+import mangoo.io.enums.Key;
+import mangoo.io.test.MangooRequest;
+import mangoo.io.test.MangooResponse;
+
+/**
+ *
+ * @author svenkubiak
+ *
+ */
+public class BodyControllerTest {
+    private static final int BUFFER_SIZE = 8192;
+    private static final long LARGE_BODY = 200L * 1024 * 1024;
+    private static final long MAX_HEAP_GROWTH = 32L * 1024 * 1024;
+
+    @Test
+    public void echoTest() {
+        MangooResponse response = MangooRequest.post("/body/echo").requestBody("this is a body").execute();
+
+        assertNotNull(response);
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+        assertEquals("this is a body", response.getContent());
+    }
+
+    @Test
+    public void largeBodyTest() throws IOException {
+        Config config = Application.getInjector().getInstance(Config.class);
+        String host = config.getString(Key.APPLICATION_HOST, Default.APPLICATION_HOST.toString());
+        int port = config.getInt(Key.APPLICATION_PORT, Default.APPLICATION_PORT.toInt());
+
+        long heapBefore = usedHeap();
+        try (CloseableHttpClient httpclient = HttpClients.custom().build()) {
+            HttpPost httpPost = new HttpPost("http://" + host + ":" + port + "/body/count");
+            httpPost.setEntity(new InputStreamEntity(new GeneratingInputStream(LARGE_BODY), LARGE_BODY));
+
+            try (CloseableHttpResponse response = httpclient.execute(httpPost)) {
+                assertEquals(StatusCodes.OK, response.getStatusLine().getStatusCode());
+                assertEquals(String.valueOf(LARGE_BODY), EntityUtils.toString(response.getEntity()));
+            }
+        }
+        long heapAfter = usedHeap();
+
+        assertTrue("Heap grew by " + (heapAfter - heapBefore) + " bytes", heapAfter - heapBefore < MAX_HEAP_GROWTH);
+    }
+
+    @Test
+    public void tooLargeTest() throws IOException {
+        Config config = Application.getInjector().getInstance(Config.class);
+        String host = config.getString(Key.APPLICATION_HOST, Default.APPLICATION_HOST.toString());
+        int port = config.getInt(Key.APPLICATION_PORT, Default.APPLICATION_PORT.toInt());
+        long maxSize = config.getLong(Key.APPLICATION_BODY_MAXSIZE, Default.BODY_MAXSIZE.toLong());
+
+        try (Socket socket = new Socket(host, port)) {
+            OutputStream outputStream = socket.getOutputStream();
+            outputStream.write(("POST /body/count HTTP/1.1\r\nHost: " + host + "\r\nContent-Length: " + (maxSize + 1) + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            outputStream.flush();
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            assertEquals("HTTP/1.1 413 Request Entity Too Large", reader.readLine());
+        }
+    }
+
+    @Test
+    public void chunkedTooLargeTest() throws IOException {
+        assertEquals("HTTP/1.1 413 Request Entity Too Large", postChunked("/body/count", null));
+    }
+
+    @Test
+    public void chunkedFormTooLargeTest() throws IOException {
+        assertEquals("HTTP/1.1 413 Request Entity Too Large", postChunked("/form", "application/x-www-form-urlencoded"));
+    }
+
+    /**
+     * Sends a chunked body which exceeds application.body.maxsize by a single byte, so the
+     * size of the body is only known once it has been read
+     */
+    private static String postChunked(String uri, String contentType) throws IOException {
+        Config config = Application.getInjector().getInstance(Config.class);
+        String host = config.getString(Key.APPLICATION_HOST, Default.APPLICATION_HOST.toString());
+        int port = config.getInt(Key.APPLICATION_PORT, Default.APPLICATION_PORT.toInt());
+        long size = config.getLong(Key.APPLICATION_BODY_MAXSIZE, Default.BODY_MAXSIZE.toLong()) + 1;
+
+        try (Socket socket = new Socket(host, port)) {
+            OutputStream outputStream = socket.getOutputStream();
+            String headers = "POST " + uri + " HTTP/1.1\r\nHost: " + host + "\r\nTransfer-Encoding: chunked\r\n"
+                    + ((contentType == null) ? "" : "Content-Type: " + contentType + "\r\n") + "\r\n";
+            outputStream.write(headers.getBytes(StandardCharsets.US_ASCII));
+            outputStream.write((Long.toHexString(size) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+
+            byte [] buffer = new byte[BUFFER_SIZE];
+            Arrays.fill(buffer, (byte) 'a');
+            for (long remaining = size; remaining > 0; remaining = remaining - buffer.length) {
+                outputStream.write(buffer, 0, (int) Math.min(buffer.length, remaining));
+            }
+            outputStream.flush();
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            return reader.readLine();
+        }
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+    }
+
+    private static final class GeneratingInputStream extends InputStream {
+        private long remaining;
+
+        private GeneratingInputStream(long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (this.remaining <= 0) {
+                return -1;
+            }
+            this.remaining--;
+
+            return 'a';
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (this.remaining <= 0) {
+                return -1;
+            }
+
+            int count = (int) Math.min(length, this.remaining);
+            for (int i = offset; i < offset + count; i++) {
+                buffer[i] = 'a';
+            }
+            this.remaining = this.remaining - count;
+
+            return count;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package mangoo.controllers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.undertow.util.StatusCodes;
+import mangoo.io.configuration.Config;
+import mangoo.io.cookie.CookieCodec;
+import mangoo.io.core.Application;
+import mangoo.io.metrics.CacheCounter;
+import mangoo.io.metrics.ResponseCacheMetrics;
+import mangoo.io.routing.bindings.Session;
+import mangoo.io.test.MangooRequest;
+import mangoo.io.test.MangooResponse;
+
+import org.junit.Test;
+
+import controllers.CacheController;
+
+/**
+ *
+ * @author svenkubiak
+ *
+ */
+public class CacheControllerTest {
+    private static final int COALESCED_REQUESTS = 10;
+
+    @Test
+    public void cachedTest() {
+        CacheCounter counter = Application.getInjector().getInstance(ResponseCacheMetrics.class).getCounter(CacheController.class, "cached");
+        long hits = counter.getHits();
+
+        MangooResponse first = MangooRequest.get("/cache/cached").execute();
+        MangooResponse second = MangooRequest.get("/cache/cached").execute();
+
+        assertEquals(StatusCodes.OK, first.getStatusCode());
+        assertEquals(StatusCodes.OK, second.getStatusCode());
+        assertEquals("text/plain; charset=UTF-8", second.getContentType());
+        assertEquals(first.getContent(), second.getContent());
+        assertTrue(counter.getHits() > hits);
+    }
+
+    @Test
+    public void varyByQueryTest() {
+        MangooResponse foo = MangooRequest.get("/cache/query?foo=foo").execute();
+        MangooResponse bar = MangooRequest.get("/cache/query?foo=bar").execute();
+
+        assertTrue(foo.getContent().startsWith("foo-"));
+        assertTrue(bar.getContent().startsWith("bar-"));
+        assertEquals(foo.getContent(), MangooRequest.get("/cache/query?foo=foo").execute().getContent());
+    }
+
+    @Test
+    public void sessionNotCachedTest() {
+        CacheCounter counter = Application.getInjector().getInstance(ResponseCacheMetrics.class).getCounter(CacheController.class, "session");
+        long skips = counter.getSkips();
+
+        MangooResponse first = MangooRequest.get("/cache/session").execute();
+        MangooResponse second = MangooRequest.get("/cache/session").execute();
+
+        assertNotEquals(first.getContent(), second.getContent());
+        assertEquals(0, counter.getHits());
+        assertEquals(skips + 2, counter.getSkips());
+    }
+
+    @Test
+    public void notModifiedNotCachedTest() {
+        //same version and template name, hence the same ETag, without caching a response of /cache/version
+        String etag = MangooRequest.get("/etag/version").execute().getHttpResponse().getFirstHeader("ETag").getValue();
+        MangooResponse notModified = MangooRequest.get("/cache/version").header("If-None-Match", etag).execute();
+        MangooResponse response = MangooRequest.get("/cache/version").execute();
+
+        assertEquals(StatusCodes.NOT_MODIFIED, notModified.getStatusCode());
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+        assertEquals("Version", response.getContent());
+    }
+
+    @Test
+    public void userNotCachedTest() {
+        assertEquals("alice", MangooRequest.get("/cache/user").header("Cookie", sessionCookie("alice")).execute().getContent());
+        assertEquals("bob", MangooRequest.get("/cache/user").header("Cookie", sessionCookie("bob")).execute().getContent());
+        assertEquals("null", MangooRequest.get("/cache/user").execute().getContent());
+    }
+
+    @Test
+    public void coalescedTest() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(COALESCED_REQUESTS);
+        try {
+            List<Future<MangooResponse>> futures = new ArrayList<Future<MangooResponse>>();
+            for (int i = 0; i < COALESCED_REQUESTS; i++) {
+                futures.add(executorService.submit(() -> MangooRequest.get("/cache/slow").execute()));
+            }
+
+            Set<String> contents = new HashSet<String>();
+            for (Future<MangooResponse> future : futures) {
+                MangooResponse response = future.get();
+                assertEquals(StatusCodes.OK, response.getStatusCode());
+                contents.add(response.getContent());
+            }
+
+            assertTrue(contents.size() < COALESCED_REQUESTS);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void coalescedUserTest() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            Future<MangooResponse> alice = executorService.submit(() -> MangooRequest.get("/cache/slowuser").header("Cookie", sessionCookie("alice")).execute());
+            Future<MangooResponse> bob = executorService.submit(() -> MangooRequest.get("/cache/slowuser").header("Cookie", sessionCookie("bob")).execute());
+
+            assertEquals("alice", alice.get().getContent());
+            assertEquals("bob", bob.get().getContent());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Creates the session cookie of a user, as it would be sent by the browser of that user
+     */
+    private static String sessionCookie(String user) {
+        Session session = new Session();
+        session.add("user", user);
+        session.setAuthenticityToken(user + "-token");
+        session.setExpires(LocalDateTime.now().plusHours(1));
+
+        Config config = Application.getInjector().getInstance(Config.class);
+        return config.getSessionCookieName() + "=" + Application.getInjector().getInstance(CookieCodec.class).encodeSession(session);
+    }
+}
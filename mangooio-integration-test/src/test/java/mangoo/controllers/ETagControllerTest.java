@@ -0,0 +1,70 @@
+package mangoo.controllers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import io.undertow.util.StatusCodes;
+import mangoo.io.test.MangooRequest;
+import mangoo.io.test.MangooResponse;
+
+import org.junit.Test;
+
+/**
+ *
+ * @author svenkubiak
+ *
+ */
+public class ETagControllerTest {
+
+    @Test
+    public void etagTest() {
+        MangooResponse response = MangooRequest.get("/etag").execute();
+
+        assertNotNull(response);
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+        assertEquals("bar", response.getContent());
+        assertNotNull(response.getHttpResponse().getFirstHeader("ETag"));
+    }
+
+    @Test
+    public void notModifiedTest() {
+        String etag = MangooRequest.get("/etag").execute().getHttpResponse().getFirstHeader("ETag").getValue();
+        MangooResponse response = MangooRequest.get("/etag").header("If-None-Match", etag).execute();
+
+        assertNotNull(response);
+        assertEquals(StatusCodes.NOT_MODIFIED, response.getStatusCode());
+        assertEquals(etag, response.getHttpResponse().getFirstHeader("ETag").getValue());
+        assertNull(response.getHttpResponse().getEntity());
+    }
+
+    @Test
+    public void modifiedTest() {
+        MangooResponse response = MangooRequest.get("/etag").header("If-None-Match", "\"foo\"").execute();
+
+        assertNotNull(response);
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+        assertEquals("bar", response.getContent());
+    }
+
+    @Test
+    public void versionTest() {
+        MangooResponse response = MangooRequest.get("/etag/version").execute();
+        String etag = response.getHttpResponse().getFirstHeader("ETag").getValue();
+
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+        assertEquals("Version", response.getContent());
+        assertNotEquals(MangooRequest.get("/etag").execute().getHttpResponse().getFirstHeader("ETag").getValue(), etag);
+
+        response = MangooRequest.get("/etag/version").header("If-None-Match", "W/" + etag).execute();
+        assertEquals(StatusCodes.NOT_MODIFIED, response.getStatusCode());
+    }
+
+    @Test
+    public void withoutETagTest() {
+        MangooResponse response = MangooRequest.get("/").execute();
+
+        assertNotNull(response);
+        assertNull(response.getHttpResponse().getFirstHeader("ETag"));
+    }
+}
@@ -2,12 +2,18 @@ package mangoo.controllers;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import io.undertow.util.StatusCodes;
+import mangoo.io.core.Application;
+import mangoo.io.metrics.FilterMetrics;
+import mangoo.io.metrics.FilterTimer;
 import mangoo.io.test.MangooRequest;
 import mangoo.io.test.MangooResponse;
 
 import org.junit.Test;
 
+import filters.ContentFilter;
+
 public class FilterControllerTest {
 
     @Test
@@ -18,4 +24,17 @@ public class FilterControllerTest {
         assertEquals(StatusCodes.OK, response.getStatusCode());
         assertEquals("bar", response.getContent());
     }
+
+    @Test
+    public void testFilterTimer() {
+        FilterTimer filterTimer = Application.getInjector().getInstance(FilterMetrics.class).getTimer(ContentFilter.class);
+        long invocations = filterTimer.getInvocations();
+
+        MangooResponse response = MangooRequest.get("/filter").execute();
+
+        assertNotNull(response);
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+        assertEquals(invocations + 1, filterTimer.getInvocations());
+        assertTrue(filterTimer.getAverageNanos() > 0);
+    }
 }
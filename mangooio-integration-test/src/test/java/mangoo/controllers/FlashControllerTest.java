@@ -17,4 +17,15 @@ public class FlashControllerTest {
         assertNotNull(response);
         assertEquals("simpleerrorwarningsuccess", response.getContent());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void unreadFlashTest() {
+        MangooBrowser browser = MangooBrowser.getInstance();
+        browser.uri("/flash").method(Methods.GET).disableRedirects(true).execute();
+        browser.uri("/text").method(Methods.GET).execute();
+        MangooResponse response = browser.uri("/flashed").method(Methods.GET).execute();
+
+        assertNotNull(response);
+        assertEquals("nullnullnullnull", response.getContent());
+    }
+}
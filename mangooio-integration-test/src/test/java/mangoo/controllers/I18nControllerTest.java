@@ -20,4 +20,20 @@ public class I18nControllerTest {
         assertNotNull(response.getContent());
         assertEquals("willkommen", response.getContent());
     }
+
+    @Test
+    public void qualityTest() {
+        MangooResponse response = MangooRequest.get("/translation").header("Accept-Language", "en;q=0.5, de;q=0.9").execute();
+
+        assertNotNull(response.getContent());
+        assertEquals("willkommen", response.getContent());
+    }
+
+    @Test
+    public void fallbackTest() {
+        MangooResponse response = MangooRequest.get("/translation").header("Accept-Language", "fr-FR, en;q=0.8").execute();
+
+        assertNotNull(response.getContent());
+        assertEquals("welcome", response.getContent());
+    }
 }
\ No newline at end of file
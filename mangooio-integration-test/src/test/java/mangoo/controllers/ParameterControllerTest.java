@@ -5,6 +5,7 @@ import static org.junit.Assert.assertNotNull;
 
 import org.junit.Test;
 
+import io.undertow.util.StatusCodes;
 import mangoo.io.test.MangooRequest;
 import mangoo.io.test.MangooResponse;
 
@@ -31,6 +32,28 @@ public class ParameterControllerTest {
         assertEquals("1.42", response.getContent());
     }
     
+    @Test
+    public void shortTest() {
+        MangooResponse response = MangooRequest.get("/short/42").execute();
+        
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+        assertEquals("42", response.getContent());
+    }
+    
+    @Test
+    public void byteTest() {
+        MangooResponse response = MangooRequest.get("/byte/7").execute();
+        
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+        assertEquals("7", response.getContent());
+    }
+    
+    @Test
+    public void charTest() {
+        assertEquals("97", MangooRequest.get("/char?foo=a").execute().getContent());
+        assertEquals("0", MangooRequest.get("/char").execute().getContent());
+    }
+    
     @Test
     public void floatTest() {
         MangooResponse response = MangooRequest.get("/float/1.24").execute();
@@ -47,6 +70,22 @@ public class ParameterControllerTest {
         assertEquals("bar:1", response.getContent());
     }
     
+    @Test
+    public void uuidTest() {
+        MangooResponse response = MangooRequest.get("/uuid/5bbd3a10-6d45-4e4b-b2a5-2e1b0bd0a3f1").execute();
+        
+        assertNotNull(response.getContent());
+        assertEquals("5bbd3a10-6d45-4e4b-b2a5-2e1b0bd0a3f1", response.getContent());
+    }
+    
+    @Test
+    public void localDateTest() {
+        MangooResponse response = MangooRequest.get("/localdate/2015-07-24").execute();
+        
+        assertNotNull(response.getContent());
+        assertEquals("2015-07-24", response.getContent());
+    }
+    
     @Test
     public void pathTest() {
         MangooResponse response = MangooRequest.get("/path?foo=bar").execute();
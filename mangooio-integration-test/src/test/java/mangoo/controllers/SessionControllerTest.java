@@ -2,6 +2,7 @@ package mangoo.controllers;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 
 import java.util.List;
 
@@ -31,4 +32,15 @@ public class SessionControllerTest {
         assertNotNull(cookies);
         assertEquals(cookieName, cookies.get(0).getName());
     }
+
+    @Test
+    public void untouchedSessionTest() {
+        Config config = MangooTestInstance.IO.getInjector().getInstance(Config.class);
+        String cookieName = config.getString(Key.COOKIE_NAME);
+
+        MangooResponse response = MangooRequest.get("/text").header("Cookie", cookieName + "=foo").execute();
+
+        assertNotNull(response);
+        assertNull(response.getHttpResponse().getFirstHeader("Set-Cookie"));
+    }
 }
\ No newline at end of file
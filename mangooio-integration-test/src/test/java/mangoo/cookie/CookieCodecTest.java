@@ -0,0 +1,154 @@
+package mangoo.cookie;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import mangoo.io.authentication.Authentication;
+import mangoo.io.configuration.Config;
+import mangoo.io.cookie.BinaryCookieFormat;
+import mangoo.io.cookie.CookieCodec;
+import mangoo.io.cookie.LegacyCookieFormat;
+import mangoo.io.core.Application;
+import mangoo.io.crypto.Crypto;
+import mangoo.io.routing.bindings.Flash;
+import mangoo.io.routing.bindings.Session;
+
+public class CookieCodecTest {
+    private static final String TOKEN = "ZjmzuKnEzNtRbdxyJAl4PWsg6xPWYd2O";
+    private static final String SPECIAL = "a|b:c&d=e;f, g \u00fc\u00f6\u00e4 \u20ac";
+    private Config config;
+    private Crypto crypto;
+
+    @Before
+    public void init() {
+        this.config = Application.getInjector().getInstance(Config.class);
+        this.crypto = Application.getInjector().getInstance(Crypto.class);
+    }
+
+    @Test
+    public void sessionTest() {
+        for (boolean encrypt : new boolean[] {false, true}) {
+            CookieCodec cookieCodec = new CookieCodec(this.config, this.crypto, encrypt, encrypt);
+            String value = cookieCodec.encodeSession(createSession());
+
+            assertTrue(value.startsWith(BinaryCookieFormat.PREFIX));
+            assertTrue(value.matches("[A-Za-z0-9_.-]+"));
+
+            Session session = cookieCodec.decodeSession(value);
+            assertNotNull(session);
+            assertEquals(TOKEN, session.getAuthenticityToken());
+            assertEquals(SPECIAL, session.get(SPECIAL));
+            assertEquals("2015-08-01T12:00", session.get("lastVisit"));
+            assertEquals("", session.get("empty"));
+        }
+    }
+
+    @Test
+    public void authenticationTest() {
+        for (boolean encrypt : new boolean[] {false, true}) {
+            CookieCodec cookieCodec = new CookieCodec(this.config, this.crypto, encrypt, encrypt);
+            String value = cookieCodec.encodeAuthentication(new Authentication(this.config, SPECIAL, LocalDateTime.now().plusHours(1)));
+
+            Authentication authentication = cookieCodec.decodeAuthentication(value);
+            assertNotNull(authentication);
+            assertEquals(SPECIAL, authentication.getAuthenticatedUser());
+        }
+    }
+
+    @Test
+    public void flashTest() {
+        CookieCodec cookieCodec = new CookieCodec(this.config, this.crypto, false, false);
+        Flash flash = new Flash();
+        flash.setSuccess(SPECIAL);
+
+        Flash decoded = cookieCodec.decodeFlash(cookieCodec.encodeFlash(flash));
+        assertNotNull(decoded);
+        assertEquals(SPECIAL, decoded.get("success"));
+    }
+
+    @Test
+    public void tamperedTest() {
+        CookieCodec cookieCodec = new CookieCodec(this.config, this.crypto, false, false);
+        String value = cookieCodec.encodeSession(createSession());
+        int index = value.length() / 2;
+        String tampered = value.substring(0, index) + (value.charAt(index) == 'A' ? 'B' : 'A') + value.substring(index + 1);
+
+        assertNull(cookieCodec.decodeSession(tampered));
+        assertNull(cookieCodec.decodeSession(BinaryCookieFormat.PREFIX + "!!!"));
+        assertNull(cookieCodec.decodeSession(BinaryCookieFormat.PREFIX));
+        assertNull(cookieCodec.decodeAuthentication(value));
+    }
+
+    @Test
+    public void negativeLengthTest() {
+        CookieCodec cookieCodec = new CookieCodec(this.config, this.crypto, false, false);
+        byte [] payload = {1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 1};
+
+        assertNull(cookieCodec.decodeFlash(BinaryCookieFormat.PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(payload)));
+    }
+
+    @Test
+    public void expiredTest() {
+        CookieCodec cookieCodec = new CookieCodec(this.config, this.crypto, false, false);
+        Session session = createSession();
+        session.setExpires(LocalDateTime.now().minusMinutes(1));
+
+        assertNull(cookieCodec.decodeSession(cookieCodec.encodeSession(session)));
+        assertNull(cookieCodec.decodeAuthentication(cookieCodec.encodeAuthentication(new Authentication(this.config, "jdoe", LocalDateTime.now().minusMinutes(1)))));
+    }
+
+    @Test
+    public void legacyTest() {
+        for (boolean encrypt : new boolean[] {false, true}) {
+            LegacyCookieFormat legacyFormat = new LegacyCookieFormat(this.config, this.crypto, encrypt, encrypt);
+            CookieCodec cookieCodec = new CookieCodec(this.config, this.crypto, encrypt, encrypt);
+
+            Session session = new Session();
+            session.add("foo", "bar");
+            session.setAuthenticityToken(TOKEN);
+            session.setExpires(LocalDateTime.now().plusHours(1));
+
+            Session decoded = cookieCodec.decodeSession(legacyFormat.encodeSession(session));
+            assertNotNull(decoded);
+            assertEquals("bar", decoded.get("foo"));
+            assertEquals(TOKEN, decoded.getAuthenticityToken());
+
+            Authentication authentication = cookieCodec.decodeAuthentication(legacyFormat.encodeAuthentication(new Authentication(this.config, "jdoe", LocalDateTime.now().plusHours(1))));
+            assertNotNull(authentication);
+            assertEquals("jdoe", authentication.getAuthenticatedUser());
+        }
+    }
+
+    @Test
+    public void malformedLegacyTest() {
+        for (boolean encrypt : new boolean[] {false, true}) {
+            CookieCodec cookieCodec = new CookieCodec(this.config, this.crypto, encrypt, encrypt);
+
+            assertNull(cookieCodec.decodeFlash("foo"));
+            assertNull(cookieCodec.decodeFlash("foo&bar"));
+            assertNull(cookieCodec.decodeSession("foo"));
+            assertNull(cookieCodec.decodeSession("sign|token|foo#bar"));
+            assertNull(cookieCodec.decodeAuthentication("foo"));
+            assertNull(cookieCodec.decodeAuthentication("sign|foo#jdoe"));
+        }
+    }
+
+    private Session createSession() {
+        Session session = new Session();
+        session.add(SPECIAL, SPECIAL);
+        session.add("lastVisit", "2015-08-01T12:00");
+        session.add("empty", "");
+        session.setAuthenticityToken(TOKEN);
+        session.setExpires(LocalDateTime.now().plusHours(1));
+
+        return session;
+    }
+}
@@ -0,0 +1,102 @@
+package mangoo.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import io.undertow.util.StatusCodes;
+import mangoo.io.core.AdmissionControl;
+import mangoo.io.core.Application;
+import mangoo.io.core.ConcurrencyLimit;
+import mangoo.io.test.MangooRequest;
+import mangoo.io.test.MangooResponse;
+
+import org.junit.Test;
+
+/**
+ *
+ * @author svenkubiak
+ *
+ */
+public class AdmissionControlTest {
+    private static final int REQUESTS = 5;
+    private static final long LATENCY = 1000000;
+
+    @Test
+    public void limitTest() throws Exception {
+        ConcurrencyLimit limit = Application.getInjector().getInstance(AdmissionControl.class).getRouteLimits().get("GET /limited");
+        assertNotNull(limit);
+        long rejections = limit.getRejections();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(REQUESTS);
+        try {
+            List<Future<MangooResponse>> futures = new ArrayList<Future<MangooResponse>>();
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executorService.submit(() -> MangooRequest.get("/limited").execute()));
+            }
+
+            int ok = 0;
+            int unavailable = 0;
+            for (Future<MangooResponse> future : futures) {
+                MangooResponse response = future.get();
+                if (response.getStatusCode() == StatusCodes.OK) {
+                    ok++;
+                } else {
+                    assertEquals(StatusCodes.SERVICE_UNAVAILABLE, response.getStatusCode());
+                    assertNotNull(response.getHttpResponse().getFirstHeader("Retry-After"));
+                    unavailable++;
+                }
+            }
+
+            assertTrue(ok >= 1);
+            assertTrue(unavailable >= 1);
+            assertEquals(rejections + unavailable, limit.getRejections());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void fixedLimitTest() {
+        ConcurrencyLimit limit = new ConcurrencyLimit("test", 2, 2, false, 2.0);
+
+        assertTrue(limit.tryAcquire());
+        assertTrue(limit.tryAcquire());
+        assertTrue(!limit.tryAcquire());
+        assertEquals(2, limit.getInFlight());
+        assertEquals(1, limit.getRejections());
+
+        limit.release(LATENCY);
+        assertTrue(limit.tryAcquire());
+    }
+
+    @Test
+    public void adaptiveLimitTest() {
+        ConcurrencyLimit limit = new ConcurrencyLimit("test", 10, 100, true, 2.0);
+        for (int i = 0; i < 500; i++) {
+            while (limit.tryAcquire()) {
+                //fill up to the current limit
+            }
+            limit.release(LATENCY);
+        }
+        assertTrue(limit.getLimit() > 10);
+
+        int grown = limit.getLimit();
+        for (int i = 0; i < 50; i++) {
+            limit.tryAcquire();
+            limit.release(LATENCY * 10);
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        assertTrue(limit.getLimit() < grown);
+    }
+}
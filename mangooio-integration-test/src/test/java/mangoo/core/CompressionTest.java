@@ -0,0 +1,156 @@
+package mangoo.core;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+
+import com.google.common.io.ByteStreams;
+import com.google.common.io.Resources;
+
+import io.undertow.util.StatusCodes;
+import mangoo.io.configuration.Config;
+import mangoo.io.core.Application;
+import mangoo.io.enums.Default;
+import mangoo.io.enums.Key;
+
+/**
+ *
+ * @author svenkubiak
+ *
+ */
+public class CompressionTest {
+    private static final String ASSET = "/assets/javascripts/jquery.min.js";
+
+    @Test
+    public void compressedStreamTest() throws IOException {
+        try (CloseableHttpClient httpclient = HttpClients.custom().disableContentCompression().build()) {
+            HttpGet httpGet = new HttpGet(getUrl("/stream"));
+            httpGet.setHeader("Accept-Encoding", "gzip, deflate");
+            try (CloseableHttpResponse response = httpclient.execute(httpGet)) {
+                assertEquals(StatusCodes.OK, response.getStatusLine().getStatusCode());
+                assertEquals("gzip", response.getFirstHeader("Content-Encoding").getValue());
+                assertEquals("Accept-Encoding", response.getFirstHeader("Vary").getValue());
+
+                String content = new String(gunzip(response.getEntity().getContent()), "UTF-8");
+                assertTrue(content.startsWith("line;0\n"));
+                assertTrue(content.endsWith("line;9999\n"));
+            }
+        }
+    }
+
+    @Test
+    public void deflateTest() throws IOException {
+        try (CloseableHttpClient httpclient = HttpClients.custom().disableContentCompression().build()) {
+            HttpGet httpGet = new HttpGet(getUrl("/stream"));
+            httpGet.setHeader("Accept-Encoding", "deflate");
+            try (CloseableHttpResponse response = httpclient.execute(httpGet)) {
+                assertEquals(StatusCodes.OK, response.getStatusLine().getStatusCode());
+                assertEquals("deflate", response.getFirstHeader("Content-Encoding").getValue());
+                assertEquals("Accept-Encoding", response.getFirstHeader("Vary").getValue());
+            }
+        }
+    }
+
+    @Test
+    public void smallResponseTest() throws IOException {
+        try (CloseableHttpClient httpclient = HttpClients.custom().disableContentCompression().build()) {
+            HttpGet httpGet = new HttpGet(getUrl("/text"));
+            httpGet.setHeader("Accept-Encoding", "gzip");
+            try (CloseableHttpResponse response = httpclient.execute(httpGet)) {
+                assertEquals(StatusCodes.OK, response.getStatusLine().getStatusCode());
+                assertNull(response.getFirstHeader("Content-Encoding"));
+                assertNull(response.getFirstHeader("Vary"));
+                assertEquals("foo", EntityUtils.toString(response.getEntity()));
+            }
+        }
+    }
+
+    @Test
+    public void etagTest() throws IOException {
+        try (CloseableHttpClient httpclient = HttpClients.custom().disableContentCompression().build()) {
+            String etag;
+            HttpGet httpGet = new HttpGet(getUrl("/etag/large"));
+            httpGet.setHeader("Accept-Encoding", "identity");
+            try (CloseableHttpResponse response = httpclient.execute(httpGet)) {
+                assertEquals(StatusCodes.OK, response.getStatusLine().getStatusCode());
+                assertNull(response.getFirstHeader("Content-Encoding"));
+                etag = response.getFirstHeader("ETag").getValue();
+                assertTrue(etag.startsWith("\""));
+                EntityUtils.consume(response.getEntity());
+            }
+
+            String compressedEtag;
+            httpGet.setHeader("Accept-Encoding", "gzip");
+            try (CloseableHttpResponse response = httpclient.execute(httpGet)) {
+                assertEquals(StatusCodes.OK, response.getStatusLine().getStatusCode());
+                assertEquals("gzip", response.getFirstHeader("Content-Encoding").getValue());
+                assertEquals("Accept-Encoding", response.getFirstHeader("Vary").getValue());
+                compressedEtag = response.getFirstHeader("ETag").getValue();
+                assertEquals("W/" + etag, compressedEtag);
+                EntityUtils.consume(response.getEntity());
+            }
+
+            httpGet.setHeader("If-None-Match", compressedEtag);
+            try (CloseableHttpResponse response = httpclient.execute(httpGet)) {
+                assertEquals(StatusCodes.NOT_MODIFIED, response.getStatusLine().getStatusCode());
+            }
+        }
+    }
+
+    @Test
+    public void preCompressedAssetTest() throws IOException {
+        try (CloseableHttpClient httpclient = HttpClients.custom().disableContentCompression().build()) {
+            HttpGet httpGet = new HttpGet(getUrl(ASSET));
+            httpGet.setHeader("Accept-Encoding", "gzip");
+            try (CloseableHttpResponse response = httpclient.execute(httpGet)) {
+                byte [] compressed = EntityUtils.toByteArray(response.getEntity());
+
+                assertEquals(StatusCodes.OK, response.getStatusLine().getStatusCode());
+                assertEquals("gzip", response.getFirstHeader("Content-Encoding").getValue());
+                assertEquals("application/javascript", response.getFirstHeader("Content-Type").getValue());
+                assertArrayEquals(Resources.toByteArray(Resources.getResource("files" + ASSET + ".gz")), compressed);
+                assertArrayEquals(Resources.toByteArray(Resources.getResource("files" + ASSET)), gunzip(new ByteArrayInputStream(compressed)));
+            }
+        }
+    }
+
+    @Test
+    public void uncompressedAssetTest() throws IOException {
+        try (CloseableHttpClient httpclient = HttpClients.custom().disableContentCompression().build()) {
+            HttpGet httpGet = new HttpGet(getUrl(ASSET));
+            httpGet.setHeader("Accept-Encoding", "gzip;q=0, identity");
+            try (CloseableHttpResponse response = httpclient.execute(httpGet)) {
+                assertEquals(StatusCodes.OK, response.getStatusLine().getStatusCode());
+                assertNull(response.getFirstHeader("Content-Encoding"));
+                assertArrayEquals(Resources.toByteArray(Resources.getResource("files" + ASSET)), EntityUtils.toByteArray(response.getEntity()));
+            }
+        }
+    }
+
+    private static byte [] gunzip(InputStream inputStream) throws IOException {
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(inputStream)) {
+            return ByteStreams.toByteArray(gzipInputStream);
+        }
+    }
+
+    private static String getUrl(String path) {
+        Config config = Application.getInjector().getInstance(Config.class);
+        String host = config.getString(Key.APPLICATION_HOST, Default.APPLICATION_HOST.toString());
+        int port = config.getInt(Key.APPLICATION_PORT, Default.APPLICATION_PORT.toInt());
+
+        return "http://" + host + ":" + port + path;
+    }
+}
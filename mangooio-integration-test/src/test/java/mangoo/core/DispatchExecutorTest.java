@@ -0,0 +1,50 @@
+package mangoo.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import io.undertow.util.StatusCodes;
+import mangoo.io.configuration.Config;
+import mangoo.io.core.Application;
+import mangoo.io.core.DispatchExecutor;
+import mangoo.io.enums.Default;
+import mangoo.io.enums.Mode;
+import mangoo.io.test.MangooRequest;
+import mangoo.io.test.MangooResponse;
+
+/**
+ *
+ * @author svenkubiak
+ *
+ */
+public class DispatchExecutorTest {
+
+    @Test
+    public void blockingRouteTest() {
+        DispatchExecutor dispatchExecutor = Application.getInjector().getInstance(DispatchExecutor.class);
+        MangooResponse response = MangooRequest.get("/thread").execute();
+
+        assertNotNull(response);
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+        if (dispatchExecutor.isVirtual()) {
+            assertTrue(response.getContent(), response.getContent().startsWith("VirtualThread"));
+        } else {
+            assertTrue(response.getContent(), response.getContent().contains("task"));
+        }
+    }
+
+    @Test
+    public void shutdownTest() {
+        DispatchExecutor dispatchExecutor = new DispatchExecutor(new Config(Default.CONFIGURATION_FILE.toString(), Mode.TEST));
+        Assume.assumeTrue("Virtual threads are not supported by this JVM", dispatchExecutor.isVirtual());
+
+        dispatchExecutor.shutdown();
+        assertTrue(((ExecutorService) dispatchExecutor.getExecutor()).isShutdown());
+    }
+}
@@ -0,0 +1,64 @@
+package mangoo.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+
+import javax.net.ssl.SSLContext;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.ssl.SSLContexts;
+import org.apache.http.util.EntityUtils;
+import org.junit.Test;
+
+import io.undertow.util.StatusCodes;
+import mangoo.io.configuration.Config;
+import mangoo.io.core.Application;
+import mangoo.io.enums.Default;
+import mangoo.io.enums.Key;
+
+/**
+ *
+ * @author svenkubiak
+ *
+ */
+public class HttpsTest {
+
+    @Test
+    public void httpsTest() throws IOException, GeneralSecurityException {
+        //HTTP/2 is enabled in the test configuration, without ALPN HTTPS has to fall back to HTTP/1.1
+        SSLContext sslContext = SSLContexts.custom().loadTrustMaterial(null, new TrustSelfSignedStrategy()).build();
+        try (CloseableHttpClient httpclient = HttpClients.custom().setSslcontext(sslContext).setSSLHostnameVerifier(NoopHostnameVerifier.INSTANCE).build()) {
+            try (CloseableHttpResponse response = httpclient.execute(new HttpGet(getUrl("https", Key.APPLICATION_HTTPS_PORT, Default.HTTPS_PORT) + "/text"))) {
+                assertEquals(StatusCodes.OK, response.getStatusLine().getStatusCode());
+                assertEquals("HTTP/1.1", response.getStatusLine().getProtocolVersion().toString());
+                assertEquals("foo", EntityUtils.toString(response.getEntity()));
+            }
+        }
+    }
+
+    @Test
+    public void httpTest() throws IOException {
+        try (CloseableHttpClient httpclient = HttpClients.custom().build()) {
+            try (CloseableHttpResponse response = httpclient.execute(new HttpGet(getUrl("http", Key.APPLICATION_PORT, Default.APPLICATION_PORT) + "/text"))) {
+                assertEquals(StatusCodes.OK, response.getStatusLine().getStatusCode());
+                assertEquals("HTTP/1.1", response.getStatusLine().getProtocolVersion().toString());
+                assertEquals("foo", EntityUtils.toString(response.getEntity()));
+            }
+        }
+    }
+
+    private static String getUrl(String scheme, Key key, Default defaultPort) {
+        Config config = Application.getInjector().getInstance(Config.class);
+        String host = config.getString(Key.APPLICATION_HOST, Default.APPLICATION_HOST.toString());
+        int port = config.getInt(key, defaultPort.toInt());
+
+        return scheme + "://" + host + ":" + port;
+    }
+}
@@ -0,0 +1,105 @@
+package mangoo.jfr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.mail.SimpleEmail;
+import org.junit.Test;
+import org.quartz.JobDetail;
+import org.quartz.TriggerBuilder;
+
+import io.undertow.util.StatusCodes;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import jobs.InfoJob;
+import mangoo.io.cache.Cache;
+import mangoo.io.core.Application;
+import mangoo.io.crypto.Crypto;
+import mangoo.io.jfr.JfrSupport;
+import mangoo.io.mail.Mailer;
+import mangoo.io.scheduler.MangooScheduler;
+import mangoo.io.test.MangooRequest;
+import mangoo.io.test.MangooResponse;
+
+/**
+ *
+ * @author svenkubiak
+ *
+ */
+public class FlightRecorderTest {
+    private static final long JOB_MILLIS = 2000;
+
+    @Test
+    public void eventsTest() throws Exception {
+        assumeTrue(JfrSupport.AVAILABLE);
+
+        Path file = Files.createTempFile("mangooio", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String event : new String[] {"mangooio.Dispatch", "mangooio.Render", "mangooio.Crypto", "mangooio.Cache", "mangooio.Job", "mangooio.Mail"}) {
+                recording.enable(event).withoutThreshold();
+            }
+            recording.start();
+
+            MangooResponse response = MangooRequest.get("/etag").execute();
+            assertEquals(StatusCodes.OK, response.getStatusCode());
+
+            Crypto crypto = Application.getInjector().getInstance(Crypto.class);
+            assertEquals("foo", crypto.decrypt(crypto.encrypt("foo")));
+
+            Cache cache = Application.getInjector().getInstance(Cache.class);
+            cache.add("jfr", "bar");
+            assertEquals("bar", cache.get("jfr"));
+
+            SimpleEmail email = new SimpleEmail();
+            email.setFrom("user@test.com");
+            email.setSubject("jfr");
+            email.setMsg("jfr");
+            email.addTo("foo@jfr.com");
+            Application.getInjector().getInstance(Mailer.class).send(email);
+
+            runJob();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Set<String> events = new HashSet<String>();
+        boolean dispatched = false;
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            events.add(event.getEventType().getName());
+            if ("mangooio.Dispatch".equals(event.getEventType().getName()) && "GET /etag".equals(event.getString("route"))) {
+                dispatched = event.getInt("statusCode") == StatusCodes.OK;
+            }
+        }
+        Files.deleteIfExists(file);
+
+        assertTrue(dispatched);
+        assertTrue(events.contains("mangooio.Render"));
+        assertTrue(events.contains("mangooio.Crypto"));
+        assertTrue(events.contains("mangooio.Cache"));
+        assertTrue(events.contains("mangooio.Mail"));
+        assertTrue(events.contains("mangooio.Job"));
+    }
+
+    private static void runJob() throws Exception {
+        MangooScheduler mangooScheduler = Application.getInjector().getInstance(MangooScheduler.class);
+        JobDetail jobDetail = mangooScheduler.getJobDetail(InfoJob.class, "jfr", "jfr");
+        mangooScheduler.schedule(jobDetail, TriggerBuilder.newTrigger().withIdentity("jfr", "jfr").startNow().build());
+        mangooScheduler.start();
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(JOB_MILLIS);
+        while (mangooScheduler.getScheduler().checkExists(jobDetail.getKey()) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(100);
+        mangooScheduler.standby();
+    }
+}
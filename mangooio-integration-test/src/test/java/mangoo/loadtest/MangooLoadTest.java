@@ -0,0 +1,66 @@
+package mangoo.loadtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import mangoo.io.test.MangooLoad;
+import mangoo.io.test.MangooLoadResult;
+
+/**
+ *
+ * @author svenkubiak
+ *
+ */
+public class MangooLoadTest {
+    private static final int RATE = 200;
+
+    @Test
+    public void closedLoopTest() {
+        MangooLoadResult result = MangooLoad.get("/text")
+                .users(4)
+                .warmup(500, TimeUnit.MILLISECONDS)
+                .duration(1, TimeUnit.SECONDS)
+                .execute();
+
+        assertTrue(result.getRequests() > 0);
+        assertEquals(result.getRequests(), result.getServiceTimes().getCount());
+        assertTrue(result.getLatencies().getCount() >= result.getRequests());
+        result.assertNoErrors().assertPercentile(99, 1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void fixedRateTest() {
+        MangooLoadResult result = MangooLoad.get("/text")
+                .users(4)
+                .rate(RATE)
+                .warmup(500, TimeUnit.MILLISECONDS)
+                .duration(1, TimeUnit.SECONDS)
+                .execute();
+
+        assertEquals(RATE, result.getRequests(), RATE / 10);
+        assertEquals(result.getRequests(), result.getLatencies().getCount());
+        result.assertNoErrors().assertPercentile(99, 1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void percentileTest() {
+        MangooLoadResult result = MangooLoad.get("/limited")
+                .warmup(0, TimeUnit.SECONDS)
+                .duration(1, TimeUnit.SECONDS)
+                .execute();
+
+        assertTrue(result.getPercentile(99, TimeUnit.MILLISECONDS) >= 400);
+        try {
+            result.assertPercentile(99, 100, TimeUnit.MILLISECONDS);
+        } catch (AssertionError e) {
+            assertTrue(e.getMessage().startsWith("Expected p99 latency of at most 100 milliseconds"));
+            return;
+        }
+
+        throw new AssertionError("assertPercentile did not fail");
+    }
+}
@@ -0,0 +1,54 @@
+package mangoo.loadtest;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import mangoo.io.configuration.Config;
+import mangoo.io.configuration.ServerConfig;
+import mangoo.io.core.Application;
+import mangoo.io.test.MangooLoad;
+import mangoo.io.test.MangooLoadResult;
+import mangoo.io.test.MangooTestInstance;
+
+/**
+ * Closed-loop load test against the server configuration of the application.yaml passed
+ * in application.config. Not part of the TestSuite, run it with the loadtest profile, e.g.
+ *
+ * mvn test -Ploadtest -Dloadtest.config=src/test/resources/loadtest/small.yaml
+ *
+ * @author svenkubiak
+ *
+ */
+public class ServerLoad {
+    private static final int THREADS = Integer.getInteger("loadtest.threads", 64);
+    private static final int SECONDS = Integer.getInteger("loadtest.seconds", 10);
+    private static final int WARMUP_SECONDS = 2;
+
+    @BeforeClass
+    public static void startup() {
+        MangooTestInstance.IO.get();
+    }
+
+    @Test
+    public void nonBlockingLoad() {
+        run("/text");
+    }
+
+    @Test
+    public void blockingLoad() {
+        run("/");
+    }
+
+    private static void run(String path) {
+        MangooLoadResult result = MangooLoad.get(path)
+                .users(THREADS)
+                .warmup(WARMUP_SECONDS, TimeUnit.SECONDS)
+                .duration(SECONDS, TimeUnit.SECONDS)
+                .execute();
+
+        System.out.println(path + " with " + new ServerConfig(Application.getInjector().getInstance(Config.class)) + ": " + result);
+        result.assertNoErrors();
+    }
+}
@@ -0,0 +1,84 @@
+package mangoo.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import io.undertow.util.StatusCodes;
+import mangoo.io.core.Application;
+import mangoo.io.metrics.LatencyHistogram;
+import mangoo.io.metrics.RequestMetrics;
+import mangoo.io.metrics.RouteMetrics;
+import mangoo.io.test.MangooRequest;
+import mangoo.io.test.MangooResponse;
+
+import org.junit.Test;
+
+/**
+ *
+ * @author svenkubiak
+ *
+ */
+public class RequestMetricsTest {
+    private static final long VALUES = 100000;
+    private static final String ADMIN_AUTHORIZATION = "Basic " + Base64.getEncoder().encodeToString("admin:admin".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    public void routeMetricsTest() {
+        RouteMetrics routeMetrics = Application.getInjector().getInstance(RequestMetrics.class).getRouteMetrics("GET /text");
+        long requests = routeMetrics.getRequests();
+        long success = routeMetrics.getStatusCodes(2);
+
+        MangooResponse response = MangooRequest.get("/text").execute();
+
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+        assertEquals(requests + 1, routeMetrics.getRequests());
+        assertEquals(success + 1, routeMetrics.getStatusCodes(2));
+        assertTrue(routeMetrics.getLatencies().getPercentile(50) > 0);
+    }
+
+    @Test
+    public void prometheusUnauthorizedTest() {
+        MangooResponse response = MangooRequest.get("/@admin/metrics").execute();
+        assertEquals(StatusCodes.UNAUTHORIZED, response.getStatusCode());
+        assertFalse(response.getContent().contains("mangooio_requests_total"));
+
+        response = MangooRequest.get("/@admin/metrics").header("Authorization", "Basic " + Base64.getEncoder().encodeToString("admin:wrong".getBytes(StandardCharsets.UTF_8))).execute();
+        assertEquals(StatusCodes.UNAUTHORIZED, response.getStatusCode());
+    }
+
+    @Test
+    public void prometheusTest() {
+        MangooRequest.get("/text").execute();
+        MangooResponse response = MangooRequest.get("/@admin/metrics").header("Authorization", ADMIN_AUTHORIZATION).execute();
+
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+        assertTrue(response.getContentType().startsWith("text/plain; version=0.0.4"));
+        assertTrue(response.getContent().contains("# TYPE mangooio_request_duration_seconds summary"));
+        assertTrue(response.getContent().contains("mangooio_requests_total{route=\"GET /text\",status=\"2xx\"}"));
+        assertTrue(response.getContent().contains("mangooio_request_duration_seconds{route=\"GET /text\",quantile=\"0.99\"}"));
+    }
+
+    @Test
+    public void percentileTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= VALUES; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(i));
+        }
+
+        assertEquals(VALUES, histogram.getCount());
+        assertEquals(TimeUnit.MICROSECONDS.toNanos(VALUES), histogram.getMax());
+        assertWithin(TimeUnit.MICROSECONDS.toNanos(VALUES / 2), histogram.getPercentile(50));
+        assertWithin(TimeUnit.MICROSECONDS.toNanos(VALUES * 99 / 100), histogram.getPercentile(99));
+        assertWithin(TimeUnit.MICROSECONDS.toNanos(VALUES * 999 / 1000), histogram.getPercentile(99.9));
+        assertEquals(0, new LatencyHistogram().getPercentile(99));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(actual + " is not within 3.2% of " + expected, Math.abs(actual - expected) <= expected * 0.032);
+    }
+}
@@ -0,0 +1,88 @@
+package mangoo.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.undertow.util.StatusCodes;
+import mangoo.io.core.Application;
+import mangoo.io.enums.Phase;
+import mangoo.io.metrics.RequestTimings;
+import mangoo.io.metrics.SlowRequest;
+import mangoo.io.metrics.SlowRequests;
+import mangoo.io.test.MangooRequest;
+import mangoo.io.test.MangooResponse;
+
+import org.junit.Test;
+
+/**
+ *
+ * @author svenkubiak
+ *
+ */
+public class SlowRequestsTest {
+    private static final long NESTED_MILLIS = 20;
+    private static final String ADMIN_AUTHORIZATION = "Basic " + Base64.getEncoder().encodeToString("admin:admin".getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    public void slowRequestTest() {
+        MangooResponse response = MangooRequest.get("/limited").execute();
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+
+        List<SlowRequest> slowRequests = Application.getInjector().getInstance(SlowRequests.class).getSlowRequests();
+        assertTrue(slowRequests.size() > 0);
+
+        SlowRequest slowRequest = slowRequests.get(0);
+        assertEquals("GET /limited", slowRequest.getRoute());
+        assertEquals(StatusCodes.OK, slowRequest.getStatusCode());
+        assertTrue(slowRequest.getPhases().get(Phase.INVOKE) >= TimeUnit.MILLISECONDS.toNanos(400));
+        assertTrue(slowRequest.getNanos() >= slowRequest.getPhases().get(Phase.INVOKE));
+    }
+
+    @Test
+    public void adminTest() {
+        MangooRequest.get("/limited").execute();
+        MangooResponse response = MangooRequest.get("/@admin/slowrequests").header("Authorization", ADMIN_AUTHORIZATION).execute();
+
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+        assertTrue(response.getContent().contains("GET /limited /limited 200"));
+        assertTrue(response.getContent().contains("invoke="));
+    }
+
+    @Test
+    public void adminUnauthorizedTest() {
+        MangooResponse response = MangooRequest.get("/@admin/slowrequests").execute();
+
+        assertEquals(StatusCodes.UNAUTHORIZED, response.getStatusCode());
+        assertFalse(response.getContent().contains("/limited"));
+    }
+
+    @Test
+    public void queryStringTest() {
+        MangooResponse response = MangooRequest.get("/limited?token=secret").execute();
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+
+        for (SlowRequest slowRequest : Application.getInjector().getInstance(SlowRequests.class).getSlowRequests()) {
+            assertFalse(slowRequest.getUri().contains("secret"));
+        }
+    }
+
+    @Test
+    public void nestedTimingsTest() throws InterruptedException {
+        RequestTimings timings = new RequestTimings();
+        long start = timings.start();
+        long nested = timings.startNested();
+        Thread.sleep(NESTED_MILLIS);
+        timings.stopNested(Phase.SESSION, nested);
+        timings.stop(Phase.FILTERS, start);
+
+        assertTrue(timings.getNanos(Phase.SESSION) >= TimeUnit.MILLISECONDS.toNanos(NESTED_MILLIS));
+        assertTrue(timings.getNanos(Phase.FILTERS) < TimeUnit.MILLISECONDS.toNanos(NESTED_MILLIS));
+        assertEquals(0, RequestTimings.DISABLED.start());
+    }
+}
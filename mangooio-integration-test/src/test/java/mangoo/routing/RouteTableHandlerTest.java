@@ -0,0 +1,184 @@
+package mangoo.routing;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HttpString;
+import io.undertow.util.Methods;
+import io.undertow.util.PathTemplateMatch;
+import io.undertow.util.StatusCodes;
+import mangoo.io.configuration.Config;
+import mangoo.io.core.Application;
+import mangoo.io.enums.Default;
+import mangoo.io.enums.Key;
+import mangoo.io.routing.handlers.RouteTableHandler;
+import mangoo.io.test.MangooRequest;
+import mangoo.io.test.MangooResponse;
+
+/**
+ *
+ * @author svenkubiak
+ *
+ */
+public class RouteTableHandlerTest {
+    private static final HttpHandler NEXT = exchange -> {};
+
+    @Test
+    public void literalTest() {
+        HttpHandler template = handler();
+        HttpHandler literal = handler();
+
+        RouteTableHandler.Builder builder = RouteTableHandler.builder();
+        builder.add(Methods.GET, "/user/{id}", template);
+        builder.add(Methods.GET, "/user/me", literal);
+        RouteTableHandler routeTableHandler = builder.build(NEXT);
+
+        assertSame(literal, routeTableHandler.match(exchange(Methods.GET, "/user/me")));
+        assertSame(template, routeTableHandler.match(exchange(Methods.GET, "/user/42")));
+        assertEquals(1, routeTableHandler.getLiteralRoutes());
+        assertEquals(1, routeTableHandler.getTemplateRoutes());
+    }
+
+    @Test
+    public void literalSegmentTest() {
+        HttpHandler template = handler();
+        HttpHandler literal = handler();
+
+        RouteTableHandler.Builder builder = RouteTableHandler.builder();
+        builder.add(Methods.GET, "/user/{id}/edit", template);
+        builder.add(Methods.GET, "/user/me/{tab}", literal);
+        RouteTableHandler routeTableHandler = builder.build(NEXT);
+
+        HttpServerExchange exchange = exchange(Methods.GET, "/user/me/edit");
+        assertSame(literal, routeTableHandler.match(exchange));
+        assertEquals("edit", exchange.getQueryParameters().get("tab").getFirst());
+        assertNull(exchange.getQueryParameters().get("id"));
+    }
+
+    @Test
+    public void backtrackingTest() {
+        HttpHandler literal = handler();
+        HttpHandler template = handler();
+
+        RouteTableHandler.Builder builder = RouteTableHandler.builder();
+        builder.add(Methods.GET, "/files/new/{step}", literal);
+        builder.add(Methods.GET, "/files/{name}/info/{part}", template);
+        RouteTableHandler routeTableHandler = builder.build(NEXT);
+
+        HttpServerExchange exchange = exchange(Methods.GET, "/files/new/info/size");
+        assertSame(template, routeTableHandler.match(exchange));
+        assertEquals("new", exchange.getQueryParameters().get("name").getFirst());
+        assertEquals("size", exchange.getQueryParameters().get("part").getFirst());
+        assertNull(exchange.getQueryParameters().get("step"));
+
+        exchange = exchange(Methods.GET, "/files/new/info");
+        assertSame(literal, routeTableHandler.match(exchange));
+        assertEquals("info", exchange.getQueryParameters().get("step").getFirst());
+    }
+
+    @Test
+    public void parameterTest() {
+        HttpHandler template = handler();
+
+        RouteTableHandler.Builder builder = RouteTableHandler.builder();
+        builder.add(Methods.GET, "/multiple/{foo}/{bar}", template);
+        RouteTableHandler routeTableHandler = builder.build(NEXT);
+
+        HttpServerExchange exchange = exchange(Methods.GET, "/multiple/bar/1");
+        assertSame(template, routeTableHandler.match(exchange));
+        assertEquals("bar", exchange.getQueryParameters().get("foo").getFirst());
+        assertEquals("1", exchange.getQueryParameters().get("bar").getFirst());
+
+        PathTemplateMatch pathTemplateMatch = exchange.getAttachment(PathTemplateMatch.ATTACHMENT_KEY);
+        assertNotNull(pathTemplateMatch);
+        assertEquals("/multiple/{foo}/{bar}", pathTemplateMatch.getMatchedTemplate());
+        assertEquals("bar", pathTemplateMatch.getParameters().get("foo"));
+        assertEquals("1", pathTemplateMatch.getParameters().get("bar"));
+    }
+
+    @Test
+    public void unsupportedTest() {
+        RouteTableHandler.Builder builder = RouteTableHandler.builder();
+
+        assertFalse(builder.add(Methods.GET, "/assets/*", handler()));
+        assertFalse(builder.add(Methods.GET, "/user/", handler()));
+        assertFalse(builder.add(Methods.GET, "/user/{id}.json", handler()));
+        assertFalse(builder.add(Methods.GET, "/user/id{id}", handler()));
+        assertTrue(builder.add(Methods.GET, "/user/{id}", handler()));
+        assertEquals(4, builder.build(NEXT).getDelegatedRoutes());
+    }
+
+    @Test
+    public void fallthroughTest() throws Exception {
+        AtomicReference<HttpServerExchange> delegated = new AtomicReference<HttpServerExchange>();
+        RouteTableHandler.Builder builder = RouteTableHandler.builder();
+        builder.add(Methods.GET, "/text", handler());
+        builder.add(Methods.GET, "/user/{id}", handler());
+        RouteTableHandler routeTableHandler = builder.build(delegated::set);
+
+        for (HttpServerExchange exchange : new HttpServerExchange[] {
+                exchange(Methods.POST, "/text"),
+                exchange(Methods.POST, "/user/42"),
+                exchange(Methods.GET, "/text/"),
+                exchange(Methods.GET, "/user/42/"),
+                exchange(Methods.GET, "/user/42/edit"),
+                exchange(Methods.GET, "/user"),
+                exchange(Methods.GET, "/user//"),
+                exchange(Methods.GET, "/assets/app.js")}) {
+            delegated.set(null);
+            routeTableHandler.handleRequest(exchange);
+
+            assertSame(exchange.getRequestMethod() + " " + exchange.getRelativePath(), exchange, delegated.get());
+            assertTrue(exchange.getQueryParameters().isEmpty());
+        }
+    }
+
+    @Test
+    public void routerTest() {
+        Config config = Application.getInjector().getInstance(Config.class);
+        assertEquals(Default.ROUTER_TABLE.toString(), config.getString(Key.APPLICATION_ROUTER));
+
+        MangooResponse response = MangooRequest.get("/multiple/bar/1").execute();
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+        assertEquals("bar:1", response.getContent());
+
+        response = MangooRequest.get("/text").execute();
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+        assertEquals("foo", response.getContent());
+
+        response = MangooRequest.get("/robots.txt").execute();
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+
+        response = MangooRequest.get("/assets/javascripts/jquery.min.js").execute();
+        assertEquals(StatusCodes.OK, response.getStatusCode());
+
+        response = MangooRequest.post("/text").execute();
+        assertEquals(StatusCodes.NOT_FOUND, response.getStatusCode());
+
+        response = MangooRequest.get("/text/").execute();
+        assertEquals(StatusCodes.NOT_FOUND, response.getStatusCode());
+    }
+
+    private static HttpHandler handler() {
+        return exchange -> {};
+    }
+
+    private static HttpServerExchange exchange(HttpString method, String path) {
+        HttpServerExchange exchange = new HttpServerExchange(null);
+        exchange.setRequestMethod(method);
+        exchange.setRequestPath(path);
+        exchange.setRelativePath(path);
+
+        return exchange;
+    }
+}
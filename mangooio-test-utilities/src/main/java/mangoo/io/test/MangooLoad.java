@@ -0,0 +1,266 @@
+package mangoo.io.test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+
+import com.google.common.base.Preconditions;
+
+import io.undertow.util.HttpString;
+import io.undertow.util.Methods;
+import mangoo.io.configuration.Config;
+import mangoo.io.enums.ContentType;
+import mangoo.io.enums.Default;
+import mangoo.io.enums.Key;
+
+/**
+ * Generates load against the started MangooTestInstance with a number of concurrent
+ * virtual users. Each virtual user has its own cookies and sends its requests either
+ * in a closed loop, i.e. the next request right after the previous response, or at a
+ * fixed rate shared by all virtual users.
+ *
+ * Latencies are corrected for coordinated omission: at a fixed rate a latency is
+ * measured from the time the request was scheduled to be sent instead of the time it
+ * was actually sent, so a stalled server is not hidden by the requests it held back.
+ * In a closed loop, a latency longer than the mean latency of the warmup additionally
+ * records the latencies the requests which would have been sent in the meantime had
+ * seen.
+ *
+ * <pre>
+ * MangooLoadResult result = MangooLoad.get("/").users(16).rate(2000).duration(5, TimeUnit.SECONDS).execute();
+ * result.assertPercentile(99, 50, TimeUnit.MILLISECONDS);
+ * </pre>
+ *
+ * @author svenkubiak
+ *
+ */
+public class MangooLoad {
+    private static final long DEFAULT_WARMUP_SECONDS = 1;
+    private static final long DEFAULT_DURATION_SECONDS = 5;
+    private static final int SERVER_ERROR = 500;
+    private final String uri;
+    private final HttpString method;
+    private final Map<String, String> headers = new HashMap<String, String>();
+    private String requestBody;
+    private ContentType contentType;
+    private int users = 1;
+    private double rate;
+    private long warmup = TimeUnit.SECONDS.toNanos(DEFAULT_WARMUP_SECONDS);
+    private long duration = TimeUnit.SECONDS.toNanos(DEFAULT_DURATION_SECONDS);
+
+    private MangooLoad(String uri, HttpString method) {
+        this.uri = uri;
+        this.method = method;
+    }
+
+    public static MangooLoad get(String uri) {
+        return new MangooLoad(uri, Methods.GET);
+    }
+
+    public static MangooLoad post(String uri) {
+        return new MangooLoad(uri, Methods.POST);
+    }
+
+    public static MangooLoad put(String uri) {
+        return new MangooLoad(uri, Methods.PUT);
+    }
+
+    public static MangooLoad delete(String uri) {
+        return new MangooLoad(uri, Methods.DELETE);
+    }
+
+    /**
+     * @param users The number of concurrent virtual users, defaults to 1
+     * @return MangooLoad instance
+     */
+    public MangooLoad users(int users) {
+        Preconditions.checkArgument(users > 0, "users must be greater than 0");
+
+        this.users = users;
+        return this;
+    }
+
+    /**
+     * Sends requests at a fixed rate, spread evenly over all virtual users. Without
+     * a rate, every virtual user sends its requests in a closed loop.
+     *
+     * @param requestsPerSecond The total number of requests per second
+     * @return MangooLoad instance
+     */
+    public MangooLoad rate(double requestsPerSecond) {
+        Preconditions.checkArgument(requestsPerSecond > 0, "rate must be greater than 0");
+
+        this.rate = requestsPerSecond;
+        return this;
+    }
+
+    /**
+     * @param warmup The time to send requests before latencies are recorded, defaults to one second
+     * @param timeUnit The unit of the warmup
+     * @return MangooLoad instance
+     */
+    public MangooLoad warmup(long warmup, TimeUnit timeUnit) {
+        Preconditions.checkArgument(warmup >= 0, "warmup can not be negative");
+
+        this.warmup = timeUnit.toNanos(warmup);
+        return this;
+    }
+
+    /**
+     * @param duration The time to record latencies, defaults to five seconds
+     * @param timeUnit The unit of the duration
+     * @return MangooLoad instance
+     */
+    public MangooLoad duration(long duration, TimeUnit timeUnit) {
+        Preconditions.checkArgument(duration > 0, "duration must be greater than 0");
+
+        this.duration = timeUnit.toNanos(duration);
+        return this;
+    }
+
+    public MangooLoad header(String name, String value) {
+        this.headers.put(name, value);
+        return this;
+    }
+
+    public MangooLoad requestBody(String requestBody) {
+        this.requestBody = requestBody;
+        return this;
+    }
+
+    public MangooLoad contentType(ContentType contentType) {
+        this.contentType = contentType;
+        return this;
+    }
+
+    /**
+     * Runs the warmup and the measured duration and blocks until all virtual users
+     * have received the response of their last request
+     *
+     * @return The result of the measured duration
+     */
+    public MangooLoadResult execute() {
+        Config config = MangooTestInstance.IO.getInjector().getInstance(Config.class);
+        String url = "http://" + config.getString(Key.APPLICATION_HOST, Default.APPLICATION_HOST.toString())
+                + ":" + config.getInt(Key.APPLICATION_PORT, Default.APPLICATION_PORT.toInt()) + this.uri;
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(this.users);
+        connectionManager.setDefaultMaxPerRoute(this.users);
+
+        MangooLoadResult result = new MangooLoadResult(this.users, this.rate, this.duration);
+        ExecutorService executorService = Executors.newFixedThreadPool(this.users);
+        try (CloseableHttpClient httpClient = HttpClients.custom().setConnectionManager(connectionManager).build()) {
+            long start = System.nanoTime();
+            long measure = start + this.warmup;
+            long end = measure + this.duration;
+
+            List<Future<?>> futures = new ArrayList<Future<?>>();
+            for (int i = 0; i < this.users; i++) {
+                final int user = i;
+                futures.add(executorService.submit(() -> run(httpClient, url, user, start, measure, end, result)));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (IOException | ExecutionException e) {
+            throw new IllegalStateException("Failed to execute load against " + url, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while executing load against " + url, e);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        return result;
+    }
+
+    /**
+     * Sends the requests of a single virtual user
+     */
+    private void run(CloseableHttpClient httpClient, String url, int user, long start, long measure, long end, MangooLoadResult result) {
+        HttpClientContext context = HttpClientContext.create();
+        context.setCookieStore(new BasicCookieStore());
+
+        long interval = (this.rate > 0) ? (long) (TimeUnit.SECONDS.toNanos(1) * this.users / this.rate) : 0;
+        long scheduled = start + (interval / this.users) * user;
+        long warmupCount = 0;
+        long warmupSum = 0;
+
+        while (scheduled < end && !Thread.currentThread().isInterrupted()) {
+            long now = System.nanoTime();
+            while (interval > 0 && now < scheduled) {
+                LockSupport.parkNanos(scheduled - now);
+                now = System.nanoTime();
+            }
+
+            long sent = System.nanoTime();
+            boolean error = !send(httpClient, url, context);
+            long received = System.nanoTime();
+            long serviceTime = received - sent;
+
+            if (interval > 0) {
+                if (scheduled >= measure) {
+                    result.record(received - scheduled, serviceTime, error);
+                }
+                scheduled = scheduled + interval;
+            } else {
+                if (sent >= measure) {
+                    result.recordCorrected(serviceTime, (warmupCount == 0) ? 0 : warmupSum / warmupCount, error);
+                } else {
+                    warmupCount++;
+                    warmupSum = warmupSum + serviceTime;
+                }
+                scheduled = received;
+            }
+        }
+    }
+
+    /**
+     * @return True if a response with a status code below 500 was received, false otherwise
+     */
+    private boolean send(CloseableHttpClient httpClient, String url, HttpClientContext context) {
+        RequestBuilder requestBuilder = RequestBuilder.create(this.method.toString()).setUri(url);
+        for (Map.Entry<String, String> entry : this.headers.entrySet()) {
+            requestBuilder.setHeader(entry.getKey(), entry.getValue());
+        }
+
+        if (this.contentType != null) {
+            requestBuilder.setHeader("Content-Type", this.contentType.toString());
+        }
+
+        if (this.requestBody != null) {
+            requestBuilder.setEntity(new StringEntity(this.requestBody, StandardCharsets.UTF_8));
+        }
+
+        HttpUriRequest request = requestBuilder.build();
+        try (CloseableHttpResponse response = httpClient.execute(request, context)) {
+            EntityUtils.consume(response.getEntity());
+
+            return response.getStatusLine().getStatusCode() < SERVER_ERROR;
+        } catch (IOException e) { //NOSONAR
+            return false;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package mangoo.io.test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import mangoo.io.metrics.LatencyHistogram;
+
+/**
+ * Latencies, service times and errors of a load executed with MangooLoad. Latencies
+ * are corrected for coordinated omission, service times are the plain time between
+ * sending a request and receiving its response.
+ *
+ * @author svenkubiak
+ *
+ */
+public class MangooLoadResult {
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    private final LatencyHistogram serviceTimes = new LatencyHistogram();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final int users;
+    private final double rate;
+    private final long duration;
+
+    MangooLoadResult(int users, double rate, long duration) {
+        this.users = users;
+        this.rate = rate;
+        this.duration = duration;
+    }
+
+    /**
+     * Records a request sent at a fixed rate
+     *
+     * @param latency The time from the scheduled send time until the response was received
+     * @param serviceTime The time from the actual send time until the response was received
+     * @param error True if the request failed
+     */
+    void record(long latency, long serviceTime, boolean error) {
+        this.latencies.record(latency);
+        this.serviceTimes.record(serviceTime);
+        count(error);
+    }
+
+    /**
+     * Records a request sent in a closed loop. If the service time exceeds the expected
+     * interval, the latencies of the requests which would have been sent in the meantime
+     * are recorded as well, decreasing by the expected interval.
+     *
+     * @param serviceTime The time from sending the request until the response was received
+     * @param expectedInterval The expected time between two requests or 0 to not correct the latency
+     * @param error True if the request failed
+     */
+    void recordCorrected(long serviceTime, long expectedInterval, boolean error) {
+        this.latencies.record(serviceTime);
+        if (expectedInterval > 0) {
+            for (long missed = serviceTime - expectedInterval; missed >= expectedInterval; missed = missed - expectedInterval) {
+                this.latencies.record(missed);
+            }
+        }
+        this.serviceTimes.record(serviceTime);
+        count(error);
+    }
+
+    private void count(boolean error) {
+        this.requests.increment();
+        if (error) {
+            this.errors.increment();
+        }
+    }
+
+    /**
+     * @return The latencies, corrected for coordinated omission
+     */
+    public LatencyHistogram getLatencies() {
+        return this.latencies;
+    }
+
+    /**
+     * @return The service times, not corrected for coordinated omission
+     */
+    public LatencyHistogram getServiceTimes() {
+        return this.serviceTimes;
+    }
+
+    /**
+     * @param percentile The percentile between 0 and 100, e.g. 99.9
+     * @param timeUnit The unit of the returned latency
+     * @return The corrected latency at the given percentile
+     */
+    public long getPercentile(double percentile, TimeUnit timeUnit) {
+        return this.latencies.getPercentile(percentile, timeUnit);
+    }
+
+    public long getRequests() {
+        return this.requests.sum();
+    }
+
+    /**
+     * @return The number of requests which failed or were answered with a 5xx status code
+     */
+    public long getErrors() {
+        return this.errors.sum();
+    }
+
+    /**
+     * @return The number of requests per second sent during the measured duration
+     */
+    public double getThroughput() {
+        return this.requests.sum() / (this.duration / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    public int getUsers() {
+        return this.users;
+    }
+
+    /**
+     * @return The requests per second of a fixed rate load or 0 for a closed loop
+     */
+    public double getRate() {
+        return this.rate;
+    }
+
+    /**
+     * Asserts that the corrected latency at a given percentile does not exceed a threshold
+     *
+     * @param percentile The percentile between 0 and 100, e.g. 99
+     * @param threshold The highest acceptable latency
+     * @param timeUnit The unit of the threshold
+     * @return MangooLoadResult instance
+     */
+    public MangooLoadResult assertPercentile(double percentile, long threshold, TimeUnit timeUnit) {
+        long latency = this.latencies.getPercentile(percentile);
+        if (this.latencies.getCount() == 0 || latency > timeUnit.toNanos(threshold)) {
+            throw new AssertionError("Expected p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString() + " latency of at most " + threshold + " " + timeUnit.toString().toLowerCase()
+                    + ", but was " + format(latency) + " (" + this + ")");
+        }
+
+        return this;
+    }
+
+    /**
+     * Asserts that no request failed or was answered with a 5xx status code
+     *
+     * @return MangooLoadResult instance
+     */
+    public MangooLoadResult assertNoErrors() {
+        if (this.errors.sum() > 0) {
+            throw new AssertionError("Expected no errors, but " + this.errors.sum() + " of " + this.requests.sum() + " requests failed");
+        }
+
+        return this;
+    }
+
+    private static String format(long nanos) {
+        return String.format("%.3fms", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d users, %s, %d requests, %.0f req/s, %d errors, latency p50 %s p99 %s p99.9 %s max %s, service time p50 %s p99 %s",
+                this.users, (this.rate > 0) ? String.format("%.0f req/s fixed rate", this.rate) : "closed loop",
+                this.requests.sum(), getThroughput(), this.errors.sum(),
+                format(this.latencies.getPercentile(50)), format(this.latencies.getPercentile(99)), format(this.latencies.getPercentile(99.9)), format(this.latencies.getMax()),
+                format(this.serviceTimes.getPercentile(50)), format(this.serviceTimes.getPercentile(99)));
+    }
+}
@@ -70,8 +70,6 @@ public class MangooResponse {
         int port = config.getInt(Key.APPLICATION_PORT, Default.APPLICATION_PORT.toInt());
 
         this.responseUrl = "http://" + host + ":" + port;
-        this.httpClient = HttpClientBuilder.create().setDefaultCookieStore(this.cookieStore).build();
-        this.httpClientNoRedirects = HttpClientBuilder.create().setDefaultCookieStore(this.cookieStore).disableRedirectHandling().build();
     }
 
     public MangooResponse contentType(ContentType contentType) {
@@ -143,11 +141,7 @@ public class MangooResponse {
         }
 
         try {
-            if (this.responseDisbaleRedirects) {
-                this.httpResponse = this.httpClientNoRedirects.execute(request);
-            } else {
-                this.httpResponse = this.httpClient.execute(request);
-            }
+            this.httpResponse = getHttpClient().execute(request);
             this.responseContent = EntityUtils.toString(this.httpResponse.getEntity());
         } catch (IOException e) {
             LOG.error("Failed to execute request to " + responseUrl, e);
@@ -156,6 +150,28 @@ public class MangooResponse {
         return this;
     }
 
+    /**
+     * Creates the HttpClient on first use, so a response only ever builds the client it
+     * actually executes its requests with
+     *
+     * @return The HttpClient with or without redirect handling
+     */
+    private HttpClient getHttpClient() {
+        if (this.responseDisbaleRedirects) {
+            if (this.httpClientNoRedirects == null) {
+                this.httpClientNoRedirects = HttpClientBuilder.create().setDefaultCookieStore(this.cookieStore).disableRedirectHandling().build();
+            }
+
+            return this.httpClientNoRedirects;
+        }
+
+        if (this.httpClient == null) {
+            this.httpClient = HttpClientBuilder.create().setDefaultCookieStore(this.cookieStore).build();
+        }
+
+        return this.httpClient;
+    }
+
     public String getContent() {
         return this.responseContent;
     }